@@ -0,0 +1,31 @@
+package ru.skillfactory.learning.platform.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.skillfactory.learning.platform.dto.response.AssignmentResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AssignmentServiceBenchmark {
+
+    // Та же страница, что контроллер отдает по умолчанию
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("dueDate", "id"));
+
+    @Benchmark
+    public PaginatedResponse<AssignmentResponse> getAssignmentsByStudent(SeededPlatformState state) {
+        return state.assignmentService.getAssignmentsByStudent(state.dataset.studentId(), FIRST_PAGE);
+    }
+
+    @Benchmark
+    public PaginatedResponse<AssignmentResponse> getAssignmentsDueSoon(SeededPlatformState state) {
+        return state.assignmentService.getAssignmentsDueSoon(FIRST_PAGE);
+    }
+}
@@ -0,0 +1,139 @@
+package ru.skillfactory.learning.platform.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Заполняет схему напрямую через JDBC-батчи: через JPA миллион строк вставлялся бы слишком долго.
+ * Идентификаторы задаются явно, поэтому связи между таблицами вычисляются без обращений к БД.
+ */
+final class BenchmarkDataSeeder {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final int CATEGORIES = 20;
+    private static final int MODULES_PER_COURSE = 2;
+    private static final int LESSONS_PER_MODULE = 2;
+    private static final int QUIZ_QUESTIONS = 200;
+    private static final int OPTIONS_PER_QUESTION = 4;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    BenchmarkDataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    BenchmarkDataset seed(int rows) {
+        int teachers = Math.max(10, rows / 1_000);
+        int students = rows;
+        int courses = Math.max(10, rows / 100);
+        int modules = courses * MODULES_PER_COURSE;
+        int lessons = modules * LESSONS_PER_MODULE;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date today = Date.valueOf(LocalDate.now());
+
+        insert("INSERT INTO categories (id, name, description, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                CATEGORIES,
+                i -> new Object[]{i, "Category " + i, "Benchmark category " + i, now, now});
+
+        // Сначала преподаватели, затем студенты
+        insert("INSERT INTO users (id, name, email, role, created_at, is_active) VALUES (?, ?, ?, ?, ?, ?)",
+                teachers + students,
+                i -> i <= teachers
+                        ? new Object[]{i, "Teacher " + i, "teacher" + i + "@bench.local", "TEACHER", now, true}
+                        : new Object[]{i, "Student " + i, "student" + i + "@bench.local", "STUDENT", now, true});
+
+        insert("INSERT INTO courses (id, title, description, duration, start_date, category_id, teacher_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                courses,
+                i -> new Object[]{i, "Course " + i, "Benchmark course " + i, "8 weeks", today,
+                        (i - 1) % CATEGORIES + 1, (i - 1) % teachers + 1});
+
+        insert("INSERT INTO modules (id, title, order_index, description, course_id) VALUES (?, ?, ?, ?, ?)",
+                modules,
+                i -> new Object[]{i, "Module " + i, (i - 1) % MODULES_PER_COURSE + 1, "Benchmark module " + i,
+                        (i - 1) / MODULES_PER_COURSE + 1});
+
+        insert("INSERT INTO lessons (id, title, content, video_url, module_id) VALUES (?, ?, ?, ?, ?)",
+                lessons,
+                i -> new Object[]{i, "Lesson " + i, "Benchmark lesson " + i, null, (i - 1) / LESSONS_PER_MODULE + 1});
+
+        insert("INSERT INTO assignments (id, title, description, due_date, max_score, lesson_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                lessons,
+                i -> new Object[]{i, "Assignment " + i, "Benchmark assignment " + i,
+                        Date.valueOf(LocalDate.now().plusDays(i % 14)), 100, i});
+
+        // Каждый студент записан на один курс, каждый десятый оставил отзыв на этот курс
+        int[] studentCourse = new int[students + 1];
+        for (int i = 1; i <= students; i++) {
+            studentCourse[i] = random.nextInt(courses) + 1;
+        }
+        insert("INSERT INTO enrollments (id, enroll_date, status, user_id, course_id) VALUES (?, ?, ?, ?, ?)",
+                students,
+                i -> new Object[]{i, today, "ACTIVE", teachers + i, studentCourse[i]});
+
+        insert("INSERT INTO course_reviews (id, rating, comment, created_at, course_id, student_id) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                students / 10,
+                i -> new Object[]{i, i % 5 + 1, "Benchmark review " + i, now, studentCourse[i * 10], teachers + i * 10});
+
+        // Счетчики каталога считаются тут же, как их поддерживал бы CourseStatsUpdater. Сданных работ набор
+        // не содержит, поэтому непроверенных ноль: без явного значения колонка получила бы -1 ("не посчитано")
+        int[] activeEnrollments = new int[courses + 1];
+        for (int i = 1; i <= students; i++) {
+            activeEnrollments[studentCourse[i]]++;
+        }
+        int ungradedSubmissions = 0;
+        insert("INSERT INTO course_stats (course_id, module_count, active_enrollment_count, "
+                        + "ungraded_submission_count) VALUES (?, ?, ?, ?)",
+                courses,
+                i -> new Object[]{i, MODULES_PER_COURSE, activeEnrollments[i], ungradedSubmissions});
+
+        jdbcTemplate.update("INSERT INTO quizzes (id, title, time_limit, module_id, course_id) VALUES (?, ?, ?, ?, ?)",
+                1, "Benchmark quiz", 60, 1, 1);
+
+        insert("INSERT INTO questions (id, text, type, quiz_id) VALUES (?, ?, ?, ?)",
+                QUIZ_QUESTIONS,
+                i -> new Object[]{i, "Question " + i, "SINGLE_CHOICE", 1});
+
+        // Первый вариант каждого вопроса правильный
+        insert("INSERT INTO answer_options (id, text, is_correct, question_id) VALUES (?, ?, ?, ?)",
+                QUIZ_QUESTIONS * OPTIONS_PER_QUESTION,
+                i -> new Object[]{i, "Option " + i, (i - 1) % OPTIONS_PER_QUESTION == 0,
+                        (i - 1) / OPTIONS_PER_QUESTION + 1});
+
+        Map<Long, Long> answers = new HashMap<>();
+        for (long question = 1; question <= QUIZ_QUESTIONS; question++) {
+            long firstOption = (question - 1) * OPTIONS_PER_QUESTION + 1;
+            answers.put(question, firstOption + random.nextInt(OPTIONS_PER_QUESTION));
+        }
+
+        return new BenchmarkDataset(1L, Map.copyOf(answers), 1L, 1L, (long) teachers + 1, "student12");
+    }
+
+    private void insert(String sql, int count, IntFunction<Object[]> row) {
+        List<Object[]> batch = new ArrayList<>(Math.min(count, BATCH_SIZE));
+        for (int i = 1; i <= count; i++) {
+            batch.add(row.apply(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package ru.skillfactory.learning.platform.benchmark;
+
+import java.util.Map;
+
+/**
+ * Идентификаторы записей, на которых гоняются бенчмарки.
+ */
+record BenchmarkDataset(
+        Long quizId,
+        Map<Long, Long> quizAnswers,
+        Long courseId,
+        Long categoryId,
+        Long studentId,
+        String searchKeyword
+) {
+}
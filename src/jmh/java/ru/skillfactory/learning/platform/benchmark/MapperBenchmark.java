@@ -0,0 +1,32 @@
+package ru.skillfactory.learning.platform.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import ru.skillfactory.learning.platform.dto.response.CategoryDetailResponse;
+import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Маппинг выполняется в отдельной транзакции на свежезагруженной сущности,
+ * чтобы в замер попадала подгрузка ленивых коллекций, как при обычном запросе.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MapperBenchmark {
+
+    @Benchmark
+    public CourseResponse courseToResponse(SeededPlatformState state) {
+        // Счетчики курса читаются из course_stats, ленивые коллекции не трогаются
+        return state.readOnlyTransaction.execute(status -> state.courseMapper.toResponse(
+                state.courseRepository.findById(state.dataset.courseId()).orElseThrow()));
+    }
+
+    @Benchmark
+    public CategoryDetailResponse categoryToDetailResponse(SeededPlatformState state) {
+        return state.readOnlyTransaction.execute(status -> state.categoryMapper.toDetailResponse(
+                state.categoryRepository.findById(state.dataset.categoryId()).orElseThrow()));
+    }
+}
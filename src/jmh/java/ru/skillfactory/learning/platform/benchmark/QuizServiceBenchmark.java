@@ -0,0 +1,18 @@
+package ru.skillfactory.learning.platform.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuizServiceBenchmark {
+
+    @Benchmark
+    public int calculateScore(SeededPlatformState state) {
+        return state.quizService.calculateScore(state.dataset.quizId(), state.dataset.quizAnswers());
+    }
+}
@@ -0,0 +1,92 @@
+package ru.skillfactory.learning.platform.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.skillfactory.learning.platform.LearningPlatformApplication;
+import ru.skillfactory.learning.platform.mapper.CategoryMapper;
+import ru.skillfactory.learning.platform.mapper.CourseMapper;
+import ru.skillfactory.learning.platform.repository.CategoryRepository;
+import ru.skillfactory.learning.platform.repository.CourseRepository;
+import ru.skillfactory.learning.platform.service.AssignmentService;
+import ru.skillfactory.learning.platform.service.QuizService;
+import ru.skillfactory.learning.platform.service.UserService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Поднимает приложение поверх встроенной H2 и заполняет её набором данных размера {@code rows}.
+ * Контекст живёт один trial, поэтому стоимость заполнения не попадает в измерения.
+ */
+@State(Scope.Benchmark)
+public class SeededPlatformState {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    ConfigurableApplicationContext context;
+    BenchmarkDataset dataset;
+
+    QuizService quizService;
+    UserService userService;
+    AssignmentService assignmentService;
+    CourseMapper courseMapper;
+    CategoryMapper categoryMapper;
+    CourseRepository courseRepository;
+    CategoryRepository categoryRepository;
+    TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void startContext() throws IOException {
+        Path uploadDir = Files.createTempDirectory("learning-platform-bench");
+
+        context = new SpringApplicationBuilder(LearningPlatformApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:bench" + rows + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--app.demo.data.enabled=false",
+                        "--file.upload-dir=" + uploadDir,
+                        "--logging.level.root=WARN",
+                        "--logging.level.ru.skillfactory.learning.platform=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+                );
+
+        dataset = new BenchmarkDataSeeder(context.getBean(JdbcTemplate.class)).seed(rows);
+
+        quizService = context.getBean(QuizService.class);
+        userService = context.getBean(UserService.class);
+        assignmentService = context.getBean(AssignmentService.class);
+        courseMapper = context.getBean(CourseMapper.class);
+        categoryMapper = context.getBean(CategoryMapper.class);
+        courseRepository = context.getBean(CourseRepository.class);
+        categoryRepository = context.getBean(CategoryRepository.class);
+
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        if (context != null) {
+            context.close();
+        }
+    }
+}
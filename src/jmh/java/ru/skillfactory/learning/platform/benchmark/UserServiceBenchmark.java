@@ -0,0 +1,25 @@
+package ru.skillfactory.learning.platform.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.UserResponse;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserServiceBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20, Sort.by("name"));
+
+    @Benchmark
+    public PaginatedResponse<UserResponse> searchUsers(SeededPlatformState state) {
+        return state.userService.searchUsers(state.dataset.searchKeyword(), FIRST_PAGE);
+    }
+}
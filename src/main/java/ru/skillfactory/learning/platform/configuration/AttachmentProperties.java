@@ -0,0 +1,26 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.attachment")
+public class AttachmentProperties {
+
+    // Размер части загрузки; последняя часть может быть меньше
+    private DataSize chunkSize = DataSize.ofMegabytes(5);
+
+    // Максимальный размер вложения
+    private DataSize maxFileSize = DataSize.ofGigabytes(2);
+
+    // Подкаталог file.upload-dir для вложений
+    private String directory = "assignments";
+
+    // Через сколько без новых частей незавершенная загрузка удаляется вместе с частями
+    private Duration expireAfter = Duration.ofHours(24);
+}
@@ -0,0 +1,23 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Планировщик потоковой выдачи каталога. JPA остается блокирующим, поэтому запросы
+ * порций выполняются на небольшом ограниченном пуле, а потоки сервлет-контейнера
+ * не ждут БД, пока клиент читает ответ.
+ */
+@Configuration
+public class CatalogStreamConfiguration {
+
+    public static final String CATALOG_SCHEDULER = "catalogScheduler";
+
+    @Bean(name = CATALOG_SCHEDULER, destroyMethod = "dispose")
+    public Scheduler catalogScheduler(CatalogStreamProperties properties) {
+        return Schedulers.newBoundedElastic(
+                properties.getPoolSize(), properties.getQueueCapacity(), "catalog-stream");
+    }
+}
@@ -0,0 +1,20 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.catalog-stream")
+public class CatalogStreamProperties {
+
+    // Количество курсов в одной порции keyset-запроса
+    private int batchSize = 100;
+
+    // Потоки, выполняющие блокирующие запросы к БД для потоковых ответов
+    private int poolSize = 4;
+
+    // Сколько порций может ждать свободного потока, остальные получают 503
+    private int queueCapacity = 1000;
+}
@@ -0,0 +1,31 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Ограниченный пул для параллельных запросов дашбордов. Фиксированное число потоков
+ * не дает дашбордам занять все соединения Hikari, а при переполнении очереди задача
+ * выполняется в потоке запроса вместо отказа.
+ */
+@Configuration
+public class DashboardExecutorConfiguration {
+
+    public static final String DASHBOARD_EXECUTOR = "dashboardExecutor";
+
+    @Bean(name = DASHBOARD_EXECUTOR)
+    public ThreadPoolTaskExecutor dashboardExecutor(DashboardProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
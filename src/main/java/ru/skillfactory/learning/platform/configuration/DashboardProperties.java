@@ -0,0 +1,25 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.dashboard")
+public class DashboardProperties {
+
+    // Количество потоков для параллельных запросов дашборда
+    private int poolSize = 8;
+
+    // Емкость очереди задач пула
+    private int queueCapacity = 200;
+
+    // Максимальное время сборки дашборда
+    private Duration latencyBudget = Duration.ofSeconds(2);
+
+    // Количество элементов в списках последних событий
+    private int recentItems = 5;
+}
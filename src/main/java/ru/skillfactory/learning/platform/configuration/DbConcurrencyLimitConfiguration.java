@@ -0,0 +1,58 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ru.skillfactory.learning.platform.web.DbConcurrencyLimitInterceptor;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Ограничение числа API-запросов, одновременно работающих с БД. На виртуальных потоках
+ * Tomcat принимает десятки тысяч запросов, а соединений в пуле единицы: без ограничения
+ * лишние запросы ждали бы соединение до connection-timeout Hikari. Здесь они ждут
+ * разрешения дешево (виртуальный поток просто паркуется) и получают 503 по таймауту.
+ * Загрузки и выдача файлов, потоковые ответы и статистика кэшей не ограничиваются
+ * ({@code app.db-concurrency.excluded-paths}): разрешение на все время передачи данных
+ * простаивало бы, не защищая пул соединений.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.db-concurrency", name = "enabled", havingValue = "true")
+@Slf4j
+public class DbConcurrencyLimitConfiguration implements WebMvcConfigurer {
+
+    private static final int DEFAULT_PERMITS = 10;
+
+    private final DbConcurrencyLimitInterceptor interceptor;
+    private final List<String> excludedPaths;
+
+    public DbConcurrencyLimitConfiguration(DbConcurrencyProperties properties, DataSource dataSource) {
+        int permits = properties.getPermits() > 0 ? properties.getPermits() : poolSize(dataSource);
+        this.interceptor = new DbConcurrencyLimitInterceptor(permits, properties.getAcquireTimeout());
+        this.excludedPaths = properties.getExcludedPaths();
+        log.info("Database concurrency limited to {} requests", permits);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns(excludedPaths);
+    }
+
+    private static int poolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.warn("Cannot determine connection pool size: {}", e.getMessage());
+        }
+        return DEFAULT_PERMITS;
+    }
+}
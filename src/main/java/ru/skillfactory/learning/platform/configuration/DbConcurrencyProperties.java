@@ -0,0 +1,35 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.db-concurrency")
+public class DbConcurrencyProperties {
+
+    // Ограничивать число запросов, одновременно работающих с БД
+    private boolean enabled = false;
+
+    // Число одновременных запросов; 0 - по размеру пула соединений Hikari
+    private int permits = 0;
+
+    // Сколько запрос ждет разрешения, после этого ответ 503
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+
+    // Маршруты без ограничения: передача файлов и потоков держит запрос долго, но с БД работает
+    // коротко в начале, а статистика кэшей в БД не ходит вовсе
+    private List<String> excludedPaths = new ArrayList<>(List.of(
+            "/api/v1/files/**",
+            "/api/v1/catalog/stream/**",
+            "/api/v1/submissions/attachments/**",
+            "/api/v1/submissions/*/attachments",
+            "/api/v1/exports/*/file",
+            "/api/v1/cache/**",
+            "/api/v1/quizzes/answer-key-cache/**"));
+}
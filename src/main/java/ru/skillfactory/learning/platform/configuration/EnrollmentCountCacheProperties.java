@@ -0,0 +1,19 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.enrollment.count-cache")
+public class EnrollmentCountCacheProperties {
+
+    // Максимальное количество курсов в кэше
+    private long maximumSize = 10_000;
+
+    // Время жизни счетчиков с момента загрузки, после него они пересчитываются в БД
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,27 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Пул фоновых выгрузок. Каждая выгрузка держит соединение с курсором на все время работы,
+ * поэтому пул маленький, а лишние задачи отклоняются, а не копятся в памяти.
+ */
+@Configuration
+public class ExportExecutorConfiguration {
+
+    public static final String EXPORT_EXECUTOR = "exportExecutor";
+
+    @Bean(name = EXPORT_EXECUTOR)
+    public ThreadPoolTaskExecutor exportExecutor(ExportProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("export-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,28 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.export")
+public class ExportProperties {
+
+    // Количество одновременно выполняемых выгрузок
+    private int poolSize = 2;
+
+    // Сколько выгрузок может ждать в очереди, остальные получают 503
+    private int queueCapacity = 10;
+
+    // Количество строк, которое драйвер получает из курсора за один раз
+    private int fetchSize = 1000;
+
+    // Подкаталог file.upload-dir для файлов выгрузок
+    private String directory = "exports";
+
+    // Сколько хранятся завершенные выгрузки: по истечении удаляются и запись о выгрузке, и файл
+    private Duration retention = Duration.ofHours(24);
+}
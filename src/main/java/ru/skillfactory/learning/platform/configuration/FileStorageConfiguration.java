@@ -11,4 +11,5 @@ public class FileStorageConfiguration {
 
     private String uploadDir = "uploads";
     private String maxSize = "10MB";
+    private boolean contentAddressed = false;
 }
@@ -0,0 +1,140 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Создает объекты схемы, которые Hibernate не умеет описывать аннотациями
+ * (расширения, функциональные и частичные индексы PostgreSQL), и убирает колонки, которые
+ * ddl-auto не удаляет. Все операторы идемпотентны,
+ * на других СУБД инициализатор ничего не делает.
+ * <p>
+ * Уникальные индексы, на которые опираются вставки {@code ON CONFLICT DO NOTHING}, ddl-auto молча не создает,
+ * если в таблице уже есть дубли. Поэтому при отсутствии индекса дубли удаляются и индекс создается здесь,
+ * а если это не удалось, запуск прерывается: без индекса повторные вставки снова плодили бы дубли.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostgresSchemaInitializer {
+
+    private static final List<String> STATEMENTS = List.of(
+            // Триграммный поиск пользователей по подстроке (UserRepository.searchByPattern)
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_users_name_trgm ON users USING gin (lower(name) gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING gin (lower(email) gin_trgm_ops)",
+            // Частичный индекс очереди проверки: в нем только непроверенные работы
+            "CREATE INDEX IF NOT EXISTS idx_submissions_ungraded ON submissions (assignment_id, submitted_at) "
+                    + "WHERE score IS NULL",
+            // Вопросы и варианты ответов перешли с IDENTITY на последовательности: сдвигаем их за уже выданные id.
+            // Последовательность только растет: при перезапуске она уже впереди MAX(id) на выданные,
+            // но еще не использованные блоки allocationSize, и откат назад дал бы повторные ключи
+            "SELECT setval('questions_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM questions), "
+                    + "(SELECT last_value FROM questions_seq), 1))",
+            "SELECT setval('answer_options_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM answer_options), "
+                    + "(SELECT last_value FROM answer_options_seq), 1))",
+            // Счетчики отзывов убраны из course_stats, рейтинг считается по course_reviews. ddl-auto колонки
+            // не удаляет, а NOT NULL без значения по умолчанию сломал бы вставку строк счетчиков
+            "ALTER TABLE course_stats DROP COLUMN IF EXISTS review_count",
+            "ALTER TABLE course_stats DROP COLUMN IF EXISTS rating_sum"
+    );
+
+    private static final List<UniqueIndex> UNIQUE_INDEXES = List.of(
+            // Из повторных записей на курс остается первая
+            new UniqueIndex("uk_enrollments_user_course",
+                    "DELETE FROM enrollments e USING enrollments d "
+                            + "WHERE e.user_id = d.user_id AND e.course_id = d.course_id AND e.id > d.id",
+                    // Удаленные дубли могли быть активными: пересчитываем занятые места по оставшимся записям
+                    "UPDATE course_stats s SET active_enrollment_count = (SELECT COUNT(*) FROM enrollments e "
+                            + "WHERE e.course_id = s.course_id AND e.status = 'ACTIVE')",
+                    "CREATE UNIQUE INDEX IF NOT EXISTS uk_enrollments_user_course ON enrollments (user_id, course_id)"),
+            // Из повторных попыток теста остается первая
+            new UniqueIndex("uk_quiz_submissions_quiz_student",
+                    "DELETE FROM quiz_submissions q USING quiz_submissions d "
+                            + "WHERE q.quiz_id = d.quiz_id AND q.student_id = d.student_id AND q.id > d.id",
+                    null,
+                    "CREATE UNIQUE INDEX IF NOT EXISTS uk_quiz_submissions_quiz_student "
+                            + "ON quiz_submissions (quiz_id, student_id)"),
+            // Ключ идемпотентности остается у первой попытки, у остальных сбрасывается: попытки разных тестов
+            // удалять нельзя
+            new UniqueIndex("uk_quiz_submissions_student_key",
+                    "UPDATE quiz_submissions q SET idempotency_key = NULL FROM quiz_submissions d "
+                            + "WHERE q.student_id = d.student_id AND q.idempotency_key = d.idempotency_key "
+                            + "AND q.id > d.id",
+                    null,
+                    "CREATE UNIQUE INDEX IF NOT EXISTS uk_quiz_submissions_student_key "
+                            + "ON quiz_submissions (student_id, idempotency_key)")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Раньше остальных обработчиков запуска: они уже пишут в таблицы, схему которых правит инициализатор
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void init() {
+        if (!isPostgres()) {
+            log.info("Database is not PostgreSQL, skipping PostgreSQL-specific schema objects");
+            return;
+        }
+
+        for (UniqueIndex index : UNIQUE_INDEXES) {
+            ensureUniqueIndex(index);
+        }
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+                log.debug("Executed schema statement: {}", statement);
+            } catch (DataAccessException e) {
+                // Без индекса поиск остается корректным, только медленнее
+                log.warn("Could not execute schema statement: {}", statement, e);
+            }
+        }
+        log.info("PostgreSQL schema objects initialized");
+    }
+
+    private void ensureUniqueIndex(UniqueIndex index) {
+        if (indexExists(index.name())) {
+            return;
+        }
+        try {
+            int duplicates = jdbcTemplate.update(index.deduplicate());
+            if (duplicates > 0) {
+                log.warn("Resolved {} duplicate rows before creating unique index {}", duplicates, index.name());
+                if (index.recount() != null) {
+                    jdbcTemplate.update(index.recount());
+                }
+            }
+            jdbcTemplate.execute(index.create());
+            log.info("Created unique index {}", index.name());
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("Could not create unique index " + index.name(), e);
+        }
+    }
+
+    private boolean indexExists(String name) {
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name);
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private boolean isPostgres() {
+        Boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        return Boolean.TRUE.equals(postgres);
+    }
+
+    /**
+     * Уникальный индекс, оператор, убирающий мешающие ему дубли, и необязательный пересчет счетчиков после него.
+     */
+    private record UniqueIndex(String name, String deduplicate, String recount, String create) {
+    }
+}
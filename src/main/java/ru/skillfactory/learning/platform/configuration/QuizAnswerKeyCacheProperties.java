@@ -0,0 +1,19 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.quiz.answer-key-cache")
+public class QuizAnswerKeyCacheProperties {
+
+    // Максимальное количество тестов в кэше
+    private long maximumSize = 10_000;
+
+    // Время жизни записи с момента загрузки
+    private Duration expireAfterWrite = Duration.ofMinutes(30);
+}
@@ -0,0 +1,19 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.quiz.attempt-cache")
+public class QuizAttemptCacheProperties {
+
+    // Максимальное количество запомненных ключей идемпотентности
+    private long maximumSize = 100_000;
+
+    // Сколько повтор с тем же ключом обслуживается из памяти, дальше - через БД
+    private Duration expireAfterWrite = Duration.ofHours(1);
+}
@@ -0,0 +1,31 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.quiz.write-behind")
+public class QuizWriteBehindProperties {
+
+    // Отложенная пакетная запись результатов тестов; по умолчанию каждая попытка пишется сразу
+    private boolean enabled = false;
+
+    // Сколько результатов может ждать записи в памяти
+    private int queueCapacity = 10_000;
+
+    // Строк в одной пакетной вставке; при таком размере очереди запись начинается не дожидаясь расписания
+    private int batchSize = 500;
+
+    // Периодичность записи накопленных результатов
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    // Ожидание места в заполненной очереди, после него ответ 503
+    private Duration offerTimeout = Duration.ofMillis(100);
+
+    // Сколько раз попытка возвращается в очередь при недоступности БД, после этого она отбрасывается
+    private int maxRetries = 5;
+}
@@ -0,0 +1,19 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.statistics")
+public class StatisticsProperties {
+
+    // Через сколько снимок статистики считается устаревшим
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    // Пересчитывать снимок по расписанию, не дожидаясь запроса
+    private boolean backgroundRefresh = false;
+}
@@ -0,0 +1,26 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Пул генерации уменьшенных копий изображений. Декодирование занимает процессор и память,
+ * поэтому пул и очередь ограничены, а лишние задачи отклоняются.
+ */
+@Configuration
+public class ThumbnailExecutorConfiguration {
+
+    public static final String THUMBNAIL_EXECUTOR = "thumbnailExecutor";
+
+    @Bean(name = THUMBNAIL_EXECUTOR)
+    public ThreadPoolTaskExecutor thumbnailExecutor(ThumbnailProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.initialize();
+        return executor;
+    }
+}
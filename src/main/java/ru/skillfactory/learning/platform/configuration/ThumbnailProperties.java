@@ -0,0 +1,23 @@
+package ru.skillfactory.learning.platform.configuration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.thumbnail")
+public class ThumbnailProperties {
+
+    // Размеры уменьшенных копий (по длинной стороне), которые готовятся при загрузке изображения
+    private List<Integer> sizes = new ArrayList<>(List.of(48, 128, 256));
+
+    // Количество потоков, в которых генерируются копии
+    private int poolSize = 2;
+
+    // Сколько изображений может ждать обработки; при переполнении копии не готовятся
+    private int queueCapacity = 100;
+}
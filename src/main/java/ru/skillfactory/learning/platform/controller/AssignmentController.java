@@ -2,6 +2,8 @@ package ru.skillfactory.learning.platform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -10,6 +12,7 @@ import ru.skillfactory.learning.platform.dto.request.UpdateAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
 import ru.skillfactory.learning.platform.dto.response.AssignmentDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.AssignmentResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.service.AssignmentService;
 
 import java.util.List;
@@ -57,35 +60,41 @@ public class AssignmentController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<AssignmentResponse>>> getAllAssignments() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<AssignmentResponse>>> getAllAssignments(
+            @SortDefault("id") Pageable pageable) {
 
-        List<AssignmentResponse> assignments = assignmentService.getAllAssignments();
+        PaginatedResponse<AssignmentResponse> assignments = assignmentService.getAllAssignments(pageable);
 
         return ResponseEntity.ok(ApiResponse.success(assignments));
     }
 
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<ApiResponse<List<AssignmentResponse>>> getAssignmentsByStudent(
-            @PathVariable Long studentId) {
+    public ResponseEntity<ApiResponse<PaginatedResponse<AssignmentResponse>>> getAssignmentsByStudent(
+            @PathVariable Long studentId,
+            @SortDefault(sort = {"dueDate", "id"}) Pageable pageable) {
 
-        List<AssignmentResponse> assignments = assignmentService.getAssignmentsByStudent(studentId);
+        PaginatedResponse<AssignmentResponse> assignments =
+                assignmentService.getAssignmentsByStudent(studentId, pageable);
 
         return ResponseEntity.ok(ApiResponse.success(assignments));
     }
 
     @GetMapping("/teacher/{teacherId}")
-    public ResponseEntity<ApiResponse<List<AssignmentResponse>>> getAssignmentsByTeacher(
-            @PathVariable Long teacherId) {
+    public ResponseEntity<ApiResponse<PaginatedResponse<AssignmentResponse>>> getAssignmentsByTeacher(
+            @PathVariable Long teacherId,
+            @SortDefault(sort = {"dueDate", "id"}) Pageable pageable) {
 
-        List<AssignmentResponse> assignments = assignmentService.getAssignmentsByTeacher(teacherId);
+        PaginatedResponse<AssignmentResponse> assignments =
+                assignmentService.getAssignmentsByTeacher(teacherId, pageable);
 
         return ResponseEntity.ok(ApiResponse.success(assignments));
     }
 
     @GetMapping("/due-soon")
-    public ResponseEntity<ApiResponse<List<AssignmentResponse>>> getAssignmentsDueSoon() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<AssignmentResponse>>> getAssignmentsDueSoon(
+            @SortDefault(sort = {"dueDate", "id"}) Pageable pageable) {
 
-        List<AssignmentResponse> assignments = assignmentService.getAssignmentsDueSoon();
+        PaginatedResponse<AssignmentResponse> assignments = assignmentService.getAssignmentsDueSoon(pageable);
 
         return ResponseEntity.ok(ApiResponse.success(assignments));
     }
@@ -0,0 +1,38 @@
+package ru.skillfactory.learning.platform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+import ru.skillfactory.learning.platform.service.SecondLevelCacheService;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    @GetMapping("/regions")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getRegionStatistics() {
+
+        List<CacheStatsResponse> regions = secondLevelCacheService.getRegionStatistics();
+
+        return ResponseEntity.ok(ApiResponse.success(regions));
+    }
+
+    @DeleteMapping("/regions/{region}")
+    public ResponseEntity<ApiResponse<Void>> evictRegion(@PathVariable String region) {
+
+        secondLevelCacheService.evictRegion(region);
+
+        return ResponseEntity.ok(ApiResponse.success("Cache region evicted successfully", null));
+    }
+}
@@ -0,0 +1,35 @@
+package ru.skillfactory.learning.platform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import ru.skillfactory.learning.platform.dto.response.CategoryResponse;
+import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+import ru.skillfactory.learning.platform.service.CatalogStreamService;
+
+/**
+ * Потоковая выдача каталога в формате NDJSON: по одному {@link CourseResponse} или
+ * {@link CategoryResponse} на строку. Spring MVC подписывается на {@link Flux} и запрашивает
+ * следующий элемент только после записи предыдущего, поэтому медленный клиент не
+ * накапливает весь каталог в памяти сервера.
+ */
+@RestController
+@RequestMapping("/api/v1/catalog/stream")
+@RequiredArgsConstructor
+public class CatalogStreamController {
+
+    private final CatalogStreamService catalogStreamService;
+
+    @GetMapping(value = "/courses", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CourseResponse> streamCourses() {
+        return catalogStreamService.streamCourses();
+    }
+
+    @GetMapping(value = "/categories", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CategoryResponse> streamCategories() {
+        return catalogStreamService.streamCategories();
+    }
+}
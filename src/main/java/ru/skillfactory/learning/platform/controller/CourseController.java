@@ -2,6 +2,9 @@ package ru.skillfactory.learning.platform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -10,6 +13,8 @@ import ru.skillfactory.learning.platform.dto.request.UpdateCourseRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
 import ru.skillfactory.learning.platform.dto.response.CourseDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.service.CourseService;
 
 import java.util.List;
@@ -47,10 +52,31 @@ public class CourseController {
         return ResponseEntity.ok(ApiResponse.success(course));
     }
 
+    @GetMapping("/{id}/reviews")
+    public ResponseEntity<ApiResponse<PaginatedResponse<CourseDetailResponse.ReviewResponse>>> getCourseReviews(
+            @PathVariable Long id,
+            @SortDefault(sort = {"createdAt", "id"}, direction = Sort.Direction.DESC) Pageable pageable) {
+
+        PaginatedResponse<CourseDetailResponse.ReviewResponse> reviews = courseService.getCourseReviews(id, pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(reviews));
+    }
+
     @GetMapping
-    public ResponseEntity<ApiResponse<List<CourseResponse>>> getAllCourses() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<CourseResponse>>> getAllCourses(
+            @SortDefault("id") Pageable pageable) {
+
+        PaginatedResponse<CourseResponse> courses = courseService.getAllCourses(pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(courses));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<CourseResponse>>> scrollCourses(
+            @RequestParam(required = false) Long afterId,
+            Pageable pageable) {
 
-        List<CourseResponse> courses = courseService.getAllCourses();
+        CursorPaginatedResponse<CourseResponse> courses = courseService.scrollCourses(afterId, pageable.getPageSize());
 
         return ResponseEntity.ok(ApiResponse.success(courses));
     }
@@ -0,0 +1,37 @@
+package ru.skillfactory.learning.platform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.DashboardResponse;
+import ru.skillfactory.learning.platform.service.DashboardService;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping("/student/{studentId}")
+    public ResponseEntity<ApiResponse<DashboardResponse.StudentDashboard>> getStudentDashboard(
+            @PathVariable Long studentId) {
+
+        DashboardResponse.StudentDashboard dashboard = dashboardService.getStudentDashboard(studentId);
+
+        return ResponseEntity.ok(ApiResponse.success(dashboard));
+    }
+
+    @GetMapping("/teacher/{teacherId}")
+    public ResponseEntity<ApiResponse<DashboardResponse.TeacherDashboard>> getTeacherDashboard(
+            @PathVariable Long teacherId) {
+
+        DashboardResponse.TeacherDashboard dashboard = dashboardService.getTeacherDashboard(teacherId);
+
+        return ResponseEntity.ok(ApiResponse.success(dashboard));
+    }
+}
@@ -2,15 +2,21 @@ package ru.skillfactory.learning.platform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.skillfactory.learning.platform.dto.request.EnrollRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.EnrollmentResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
 import ru.skillfactory.learning.platform.service.EnrollmentService;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/enrollments")
@@ -56,9 +62,20 @@ public class EnrollmentController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<EnrollmentResponse>>> getAllEnrollments() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<EnrollmentResponse>>> getAllEnrollments(
+            @SortDefault("id") Pageable pageable) {
 
-        List<EnrollmentResponse> enrollments = enrollmentService.getAllEnrollments();
+        PaginatedResponse<EnrollmentResponse> enrollments = enrollmentService.getAllEnrollments(pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(enrollments));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<EnrollmentResponse>>> scrollEnrollments(
+            @RequestParam(required = false) Long afterId,
+            Pageable pageable) {
+
+        CursorPaginatedResponse<EnrollmentResponse> enrollments = enrollmentService.scrollEnrollments(afterId, pageable.getPageSize());
 
         return ResponseEntity.ok(ApiResponse.success(enrollments));
     }
@@ -82,6 +99,15 @@ public class EnrollmentController {
         return ResponseEntity.ok(ApiResponse.success(count));
     }
 
+    @GetMapping("/course/{courseId}/counts")
+    public ResponseEntity<ApiResponse<Map<EnrollmentStatus, Long>>> getEnrollmentCountsByStatus(
+            @PathVariable Long courseId) {
+
+        Map<EnrollmentStatus, Long> counts = enrollmentService.getEnrollmentCountsByStatus(courseId);
+
+        return ResponseEntity.ok(ApiResponse.success(counts));
+    }
+
     @PutMapping("/{id}/status/{status}")
     public ResponseEntity<ApiResponse<EnrollmentResponse>> updateEnrollmentStatus(
             @PathVariable Long id,
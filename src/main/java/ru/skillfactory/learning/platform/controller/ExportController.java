@@ -0,0 +1,58 @@
+package ru.skillfactory.learning.platform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.ExportDataResponse;
+import ru.skillfactory.learning.platform.service.ExportService;
+import ru.skillfactory.learning.platform.service.export.ExportJob;
+
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<ExportDataResponse>> startExport(
+            @RequestParam String type,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        ExportDataResponse export = exportService.startExport(type, format);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Export started", export));
+    }
+
+    @GetMapping("/{exportId}")
+    public ResponseEntity<ApiResponse<ExportDataResponse>> getExport(@PathVariable String exportId) {
+
+        ExportDataResponse export = exportService.getExport(exportId);
+
+        return ResponseEntity.ok(ApiResponse.success(export));
+    }
+
+    @GetMapping("/{exportId}/file")
+    public ResponseEntity<Resource> downloadExport(@PathVariable String exportId) {
+
+        ExportJob job = exportService.getCompletedExport(exportId);
+        String fileName = job.getType().name().toLowerCase() + "-" + exportId + "." + job.getFormat().extension();
+
+        // Файл отдается потоком, целиком в память не читается
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getFormat().contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName)
+                        .build()
+                        .toString())
+                .body(new FileSystemResource(job.getFile()));
+    }
+}
@@ -1,18 +1,28 @@
 package ru.skillfactory.learning.platform.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.exception.FileStorageException;
 import ru.skillfactory.learning.platform.service.FileStorageService;
 
+import java.io.IOException;
+import java.time.Duration;
+
 @RestController
 @RequestMapping("/api/v1/files")
 @RequiredArgsConstructor
 public class FileUploadController {
 
+    private static final Duration AVATAR_MAX_AGE = Duration.ofDays(365);
+
     private final FileStorageService fileStorageService;
 
     @PostMapping("/upload/avatar")
@@ -27,14 +37,36 @@ public class FileUploadController {
     }
 
     @GetMapping("/avatar/{userId}/{fileName}")
-    public ResponseEntity<byte[]> getAvatar(
+    public ResponseEntity<Resource> getAvatar(
             @PathVariable Long userId,
-            @PathVariable String fileName) {
+            @PathVariable String fileName,
+            @RequestParam(required = false) Integer size) {
 
-        byte[] fileContent = fileStorageService.loadFile("avatars/" + userId + "/" + fileName);
+        String filePath = "avatars/" + userId + "/" + fileName;
+        Resource avatar = size == null
+                ? fileStorageService.loadFileAsResource(filePath)
+                : fileStorageService.loadThumbnailAsResource(filePath, size);
+        long lastModified;
+        long contentLength;
+        try {
+            lastModified = avatar.lastModified();
+            contentLength = avatar.contentLength();
+        } catch (IOException ex) {
+            throw new FileStorageException("Could not read file: " + fileName, ex);
+        }
 
+        // Имена аватаров уникальны и файлы не перезаписываются, поэтому ответ можно кэшировать надолго.
+        // Исключение - оригинал вместо еще не готовой копии: его кэш должен перепроверяться.
+        // По ETag/Last-Modified Spring сам отвечает 304, по заголовку Range - 206 с частью файла;
+        // тело копируется в ответ потоком, без чтения файла в память
         return ResponseEntity.ok()
-                .contentType(MediaType.IMAGE_JPEG)
-                .body(fileContent);
+                .contentType(MediaTypeFactory.getMediaType(avatar).orElse(MediaType.APPLICATION_OCTET_STREAM))
+                .eTag(Long.toHexString(lastModified) + "-" + Long.toHexString(contentLength))
+                .lastModified(lastModified)
+                .cacheControl(size != null && fileName.equals(avatar.getFilename())
+                        ? CacheControl.noCache()
+                        : CacheControl.maxAge(AVATAR_MAX_AGE).cachePublic().immutable())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(avatar);
     }
 }
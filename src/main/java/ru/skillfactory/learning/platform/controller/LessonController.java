@@ -2,14 +2,18 @@ package ru.skillfactory.learning.platform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.skillfactory.learning.platform.dto.request.CreateLessonRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateLessonRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.LessonDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.LessonResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.service.LessonService;
 
 import java.util.List;
@@ -57,9 +61,20 @@ public class LessonController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<LessonResponse>>> getAllLessons() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<LessonResponse>>> getAllLessons(
+            @SortDefault("id") Pageable pageable) {
 
-        List<LessonResponse> lessons = lessonService.getAllLessons();
+        PaginatedResponse<LessonResponse> lessons = lessonService.getAllLessons(pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(lessons));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<LessonResponse>>> scrollLessons(
+            @RequestParam(required = false) Long afterId,
+            Pageable pageable) {
+
+        CursorPaginatedResponse<LessonResponse> lessons = lessonService.scrollLessons(afterId, pageable.getPageSize());
 
         return ResponseEntity.ok(ApiResponse.success(lessons));
     }
@@ -2,14 +2,18 @@ package ru.skillfactory.learning.platform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.skillfactory.learning.platform.dto.request.CreateModuleRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateModuleRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.ModuleDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.ModuleResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.service.ModuleService;
 
 import java.util.List;
@@ -57,9 +61,20 @@ public class ModuleController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ModuleResponse>>> getAllModules() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<ModuleResponse>>> getAllModules(
+            @SortDefault("id") Pageable pageable) {
 
-        List<ModuleResponse> modules = moduleService.getAllModules();
+        PaginatedResponse<ModuleResponse> modules = moduleService.getAllModules(pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(modules));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<ModuleResponse>>> scrollModules(
+            @RequestParam(required = false) Long afterId,
+            Pageable pageable) {
+
+        CursorPaginatedResponse<ModuleResponse> modules = moduleService.scrollModules(afterId, pageable.getPageSize());
 
         return ResponseEntity.ok(ApiResponse.success(modules));
     }
@@ -2,17 +2,19 @@ package ru.skillfactory.learning.platform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.skillfactory.learning.platform.dto.request.CreateProfileRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateProfileRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.ProfileResponse;
 import ru.skillfactory.learning.platform.service.ProfileService;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/profiles")
 @RequiredArgsConstructor
@@ -47,9 +49,20 @@ public class ProfileController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ProfileResponse>>> getAllProfiles() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<ProfileResponse>>> getAllProfiles(
+            @SortDefault("id") Pageable pageable) {
+
+        PaginatedResponse<ProfileResponse> profiles = profileService.getAllProfiles(pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(profiles));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<ProfileResponse>>> scrollProfiles(
+            @RequestParam(required = false) Long afterId,
+            Pageable pageable) {
 
-        List<ProfileResponse> profiles = profileService.getAllProfiles();
+        CursorPaginatedResponse<ProfileResponse> profiles = profileService.scrollProfiles(afterId, pageable.getPageSize());
 
         return ResponseEntity.ok(ApiResponse.success(profiles));
     }
@@ -2,13 +2,19 @@ package ru.skillfactory.learning.platform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.skillfactory.learning.platform.dto.request.BulkCreateQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.CreateQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.TakeQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateQuizRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizResultResponse;
@@ -22,6 +28,9 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class QuizController {
 
+    // Повтор прохождения теста с тем же ключом возвращает результат первой попытки
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final QuizService quizService;
 
     @PostMapping
@@ -34,6 +43,16 @@ public class QuizController {
                 .body(ApiResponse.success("Quiz created successfully", quiz));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse<List<QuizResponse>>> createQuizzes(
+            @Valid @RequestBody BulkCreateQuizRequest request) {
+
+        List<QuizResponse> quizzes = quizService.createQuizzes(request);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Quizzes created successfully", quizzes));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<QuizResponse>> getQuizById(@PathVariable Long id) {
 
@@ -51,9 +70,20 @@ public class QuizController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<QuizResponse>>> getAllQuizzes() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<QuizResponse>>> getAllQuizzes(
+            @SortDefault("id") Pageable pageable) {
 
-        List<QuizResponse> quizzes = quizService.getAllQuizzes();
+        PaginatedResponse<QuizResponse> quizzes = quizService.getAllQuizzes(pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(quizzes));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<QuizResponse>>> scrollQuizzes(
+            @RequestParam(required = false) Long afterId,
+            Pageable pageable) {
+
+        CursorPaginatedResponse<QuizResponse> quizzes = quizService.scrollQuizzes(afterId, pageable.getPageSize());
 
         return ResponseEntity.ok(ApiResponse.success(quizzes));
     }
@@ -105,9 +135,10 @@ public class QuizController {
     @PostMapping("/student/{studentId}/take")
     public ResponseEntity<ApiResponse<QuizResultResponse>> takeQuiz(
             @PathVariable Long studentId,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody TakeQuizRequest request) {
 
-        QuizResultResponse result = quizService.takeQuiz(studentId, request);
+        QuizResultResponse result = quizService.takeQuiz(studentId, request, idempotencyKey);
 
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Quiz completed successfully", result));
@@ -123,6 +154,14 @@ public class QuizController {
         return ResponseEntity.ok(ApiResponse.success(score));
     }
 
+    @GetMapping("/answer-key-cache/stats")
+    public ResponseEntity<ApiResponse<CacheStatsResponse>> getAnswerKeyCacheStats() {
+
+        CacheStatsResponse stats = quizService.getAnswerKeyCacheStats();
+
+        return ResponseEntity.ok(ApiResponse.success(stats));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<QuizResponse>> updateQuiz(
             @PathVariable Long id,
@@ -0,0 +1,35 @@
+package ru.skillfactory.learning.platform.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.StatisticsResponse;
+import ru.skillfactory.learning.platform.service.StatisticsService;
+
+@RestController
+@RequestMapping("/api/v1/statistics")
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private final StatisticsService statisticsService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<StatisticsResponse>> getStatistics() {
+
+        StatisticsResponse statistics = statisticsService.getStatistics();
+
+        return ResponseEntity.ok(ApiResponse.success(statistics));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<StatisticsResponse>> refreshStatistics() {
+
+        StatisticsResponse statistics = statisticsService.refreshStatistics();
+
+        return ResponseEntity.ok(ApiResponse.success("Statistics refreshed successfully", statistics));
+    }
+}
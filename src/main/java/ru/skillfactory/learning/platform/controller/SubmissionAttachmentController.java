@@ -0,0 +1,95 @@
+package ru.skillfactory.learning.platform.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import ru.skillfactory.learning.platform.dto.request.InitAttachmentUploadRequest;
+import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.SubmissionAttachmentResponse;
+import ru.skillfactory.learning.platform.service.SubmissionAttachmentService;
+import ru.skillfactory.learning.platform.service.file.AttachmentFile;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/submissions")
+@RequiredArgsConstructor
+public class SubmissionAttachmentController {
+
+    private final SubmissionAttachmentService attachmentService;
+
+    @PostMapping("/{submissionId}/attachments")
+    public ResponseEntity<ApiResponse<SubmissionAttachmentResponse>> initUpload(
+            @PathVariable Long submissionId,
+            @Valid @RequestBody InitAttachmentUploadRequest request) {
+
+        SubmissionAttachmentResponse attachment = attachmentService.initUpload(submissionId, request);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Attachment upload started", attachment));
+    }
+
+    @GetMapping("/{submissionId}/attachments")
+    public ResponseEntity<ApiResponse<List<SubmissionAttachmentResponse>>> getAttachmentsBySubmission(
+            @PathVariable Long submissionId) {
+
+        List<SubmissionAttachmentResponse> attachments = attachmentService.getAttachmentsBySubmission(submissionId);
+
+        return ResponseEntity.ok(ApiResponse.success(attachments));
+    }
+
+    @PutMapping(value = "/attachments/{attachmentId}/chunks/{chunkIndex}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ApiResponse<SubmissionAttachmentResponse>> uploadChunk(
+            @PathVariable Long attachmentId,
+            @PathVariable int chunkIndex,
+            InputStream content) {
+
+        // Тело читается из потока запроса напрямую, без буферизации в памяти
+        SubmissionAttachmentResponse attachment = attachmentService.uploadChunk(attachmentId, chunkIndex, content);
+
+        return ResponseEntity.ok(ApiResponse.success("Chunk uploaded successfully", attachment));
+    }
+
+    @GetMapping("/attachments/{attachmentId}")
+    public ResponseEntity<ApiResponse<SubmissionAttachmentResponse>> getAttachment(@PathVariable Long attachmentId) {
+
+        SubmissionAttachmentResponse attachment = attachmentService.getAttachment(attachmentId);
+
+        return ResponseEntity.ok(ApiResponse.success(attachment));
+    }
+
+    @PostMapping("/attachments/{attachmentId}/complete")
+    public ResponseEntity<ApiResponse<SubmissionAttachmentResponse>> completeUpload(@PathVariable Long attachmentId) {
+
+        SubmissionAttachmentResponse attachment = attachmentService.completeUpload(attachmentId);
+
+        return ResponseEntity.ok(ApiResponse.success("Attachment uploaded successfully", attachment));
+    }
+
+    @GetMapping("/attachments/{attachmentId}/file")
+    public ResponseEntity<Resource> downloadAttachment(@PathVariable Long attachmentId) {
+
+        AttachmentFile file = attachmentService.loadAttachmentFile(attachmentId);
+        MediaType contentType = file.contentType() != null
+                ? MediaType.parseMediaType(file.contentType())
+                : MediaType.APPLICATION_OCTET_STREAM;
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(file.fileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .body(file.resource());
+    }
+}
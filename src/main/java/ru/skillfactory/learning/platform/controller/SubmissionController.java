@@ -2,12 +2,16 @@ package ru.skillfactory.learning.platform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.skillfactory.learning.platform.dto.request.SubmitAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateSubmissionRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.SubmissionDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.SubmissionResponse;
 import ru.skillfactory.learning.platform.service.SubmissionService;
@@ -67,9 +71,20 @@ public class SubmissionController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SubmissionResponse>>> getAllSubmissions() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<SubmissionResponse>>> getAllSubmissions(
+            @SortDefault("id") Pageable pageable) {
 
-        List<SubmissionResponse> submissions = submissionService.getAllSubmissions();
+        PaginatedResponse<SubmissionResponse> submissions = submissionService.getAllSubmissions(pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(submissions));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<SubmissionResponse>>> scrollSubmissions(
+            @RequestParam(required = false) Long afterId,
+            Pageable pageable) {
+
+        CursorPaginatedResponse<SubmissionResponse> submissions = submissionService.scrollSubmissions(afterId, pageable.getPageSize());
 
         return ResponseEntity.ok(ApiResponse.success(submissions));
     }
@@ -2,12 +2,17 @@ package ru.skillfactory.learning.platform.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import ru.skillfactory.learning.platform.dto.request.CreateUserRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateUserRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.UserDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.UserResponse;
 import ru.skillfactory.learning.platform.service.UserService;
@@ -56,9 +61,20 @@ public class UserController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers() {
+    public ResponseEntity<ApiResponse<PaginatedResponse<UserResponse>>> getAllUsers(
+            @SortDefault("id") Pageable pageable) {
 
-        List<UserResponse> users = userService.getAllUsers();
+        PaginatedResponse<UserResponse> users = userService.getAllUsers(pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(users));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPaginatedResponse<UserResponse>>> scrollUsers(
+            @RequestParam(required = false) Long afterId,
+            Pageable pageable) {
+
+        CursorPaginatedResponse<UserResponse> users = userService.scrollUsers(afterId, pageable.getPageSize());
 
         return ResponseEntity.ok(ApiResponse.success(users));
     }
@@ -72,10 +88,11 @@ public class UserController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> searchUsers(
-            @RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<PaginatedResponse<UserResponse>>> searchUsers(
+            @RequestParam String keyword,
+            @PageableDefault(size = 20, sort = "name") Pageable pageable) {
 
-        List<UserResponse> users = userService.searchUsers(keyword);
+        PaginatedResponse<UserResponse> users = userService.searchUsers(keyword, pageable);
 
         return ResponseEntity.ok(ApiResponse.success(users));
     }
@@ -0,0 +1,21 @@
+package ru.skillfactory.learning.platform.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateQuizRequest {
+    @NotEmpty(message = "Quizzes are required")
+    @Size(max = 500, message = "No more than 500 quizzes per request")
+    private List<@Valid CreateQuizRequest> quizzes;
+}
@@ -2,6 +2,7 @@ package ru.skillfactory.learning.platform.dto.request;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -28,4 +29,7 @@ public class CreateCourseRequest {
     private String duration;
 
     private LocalDate startDate;
+
+    @Positive(message = "Capacity must be positive")
+    private Integer capacity;
 }
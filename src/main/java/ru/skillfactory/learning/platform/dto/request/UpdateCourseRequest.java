@@ -1,5 +1,6 @@
 package ru.skillfactory.learning.platform.dto.request;
 
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
 
@@ -19,6 +20,12 @@ public class UpdateCourseRequest {
 
     private LocalDate startDate;
 
+    @Positive(message = "Capacity must be positive")
+    private Integer capacity;
+
+    // true снимает лимит мест, capacity при этом не передается
+    private boolean unlimitedCapacity;
+
     private Long categoryId;
 
     private Long teacherId;
@@ -13,13 +13,16 @@ public class CourseDetailResponse {
     private String description;
     private String duration;
     private LocalDate startDate;
+    private Integer capacity;
     private Long categoryId;
     private String categoryName;
     private Long teacherId;
     private String teacherName;
     private Double averageRating;
+    private Long reviewCount;
     private List<ModuleResponse> modules;
     private List<String> tags;
+    // Первая страница отзывов, остальные - GET /api/v1/courses/{id}/reviews
     private List<ReviewResponse> reviews;
 
     @Data
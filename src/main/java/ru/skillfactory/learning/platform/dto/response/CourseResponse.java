@@ -11,6 +11,7 @@ public class CourseResponse {
     private String description;
     private String duration;
     private LocalDate startDate;
+    private Integer capacity;
     private Long categoryId;
     private String categoryName;
     private Long teacherId;
@@ -0,0 +1,30 @@
+package ru.skillfactory.learning.platform.dto.response;
+
+import lombok.Data;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Страница keyset-пагинации: следующая страница запрашивается по {@code nextCursor}
+ * (id последнего элемента), поэтому стоимость запроса не растет с глубиной прокрутки.
+ */
+@Data
+public class CursorPaginatedResponse<T> {
+    private List<T> content;
+    private int pageSize;
+    private Long nextCursor;
+    private boolean last;
+
+    public static <T> CursorPaginatedResponse<T> from(Slice<T> slice, Function<T, Long> idExtractor) {
+        CursorPaginatedResponse<T> response = new CursorPaginatedResponse<>();
+        response.setContent(slice.getContent());
+        response.setPageSize(slice.getSize());
+        response.setLast(!slice.hasNext());
+        if (slice.hasNext() && slice.hasContent()) {
+            response.setNextCursor(idExtractor.apply(slice.getContent().get(slice.getNumberOfElements() - 1)));
+        }
+        return response;
+    }
+}
@@ -7,9 +7,11 @@ import java.time.LocalDateTime;
 public class ExportDataResponse {
     private String exportId;
     private String exportType; // COURSES, USERS, ENROLLMENTS, etc.
+    private String format; // CSV, NDJSON
     private String status; // PROCESSING, COMPLETED, FAILED
     private String fileUrl;
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
     private Integer recordsExported;
+    private String errorMessage;
 }
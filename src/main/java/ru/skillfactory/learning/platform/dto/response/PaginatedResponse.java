@@ -1,6 +1,8 @@
 package ru.skillfactory.learning.platform.dto.response;
 
 import lombok.Data;
+import org.springframework.data.domain.Page;
+
 import java.util.List;
 
 @Data
@@ -24,4 +26,8 @@ public class PaginatedResponse<T> {
         response.setLast(currentPage >= response.getTotalPages() - 1);
         return response;
     }
+
+    public static <T> PaginatedResponse<T> from(Page<T> page) {
+        return of(page.getContent(), page.getNumber(), page.getSize(), page.getTotalElements());
+    }
 }
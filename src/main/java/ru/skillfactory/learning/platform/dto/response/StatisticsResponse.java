@@ -1,6 +1,8 @@
 package ru.skillfactory.learning.platform.dto.response;
 
 import lombok.Data;
+
+import java.time.LocalDateTime;
 import java.util.Map;
 
 @Data
@@ -32,4 +34,7 @@ public class StatisticsResponse {
     // Статистика по тестам
     private Double averageQuizScore;
     private Long totalQuizAttempts;
+
+    // Момент расчета снимка
+    private LocalDateTime generatedAt;
 }
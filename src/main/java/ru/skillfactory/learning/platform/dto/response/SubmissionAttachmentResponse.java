@@ -0,0 +1,29 @@
+package ru.skillfactory.learning.platform.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubmissionAttachmentResponse {
+    private Long id;
+    private Long submissionId;
+    private String fileName;
+    private String contentType;
+    private Long size;
+    private Integer chunkSize;
+    private Integer chunkCount;
+    private Integer receivedChunkCount;
+    private List<Integer> missingChunks; // Номера частей, которые нужно догрузить
+    private String status; // UPLOADING, COMPLETED
+    private String fileUrl;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
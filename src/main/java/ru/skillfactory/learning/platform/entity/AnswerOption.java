@@ -5,8 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ru.skillfactory.learning.platform.service.quiz.QuizAnswerKeyInvalidationListener;
 
 @Entity
+@EntityListeners(QuizAnswerKeyInvalidationListener.class)
 @Table(name = "answer_options")
 @Data
 @NoArgsConstructor
@@ -14,7 +16,9 @@ import lombok.NoArgsConstructor;
 @Builder
 public class AnswerOption {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Пул идентификаторов из последовательности позволяет Hibernate вставлять строки JDBC-батчами
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_options_seq")
+    @SequenceGenerator(name = "answer_options_seq", sequenceName = "answer_options_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 500)
@@ -9,7 +9,10 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Entity
-@Table(name = "assignments")
+@Table(name = "assignments", indexes = {
+        @Index(name = "idx_assignments_due_date", columnList = "due_date"),
+        @Index(name = "idx_assignments_lesson_id", columnList = "lesson_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
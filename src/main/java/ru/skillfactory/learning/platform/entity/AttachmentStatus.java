@@ -0,0 +1,5 @@
+package ru.skillfactory.learning.platform.entity;
+
+public enum AttachmentStatus {
+    UPLOADING, COMPLETED
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -11,11 +13,26 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "courses")
+@Table(name = "courses", indexes = @Index(name = "idx_courses_teacher_id", columnList = "teacher_id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "courses")
+// Страница курса: заголовок, модули и тесты модулей одним запросом. Уроки догружаются одним
+// подзапросом (см. Module.lessons), теги - одним запросом, отзывы читаются постранично
+@NamedEntityGraph(
+        name = Course.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("category"),
+                @NamedAttributeNode("teacher"),
+                @NamedAttributeNode(value = "modules", subgraph = "modules")
+        },
+        subgraphs = @NamedSubgraph(name = "modules", attributeNodes = @NamedAttributeNode("quiz"))
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Course {
+    public static final String DETAIL_GRAPH = "Course.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -29,6 +46,9 @@ public class Course {
     private String duration;
     private LocalDate startDate;
 
+    // Лимит мест на курсе; null - без ограничений
+    private Integer capacity;
+
     // Связи
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
@@ -0,0 +1,54 @@
+package ru.skillfactory.learning.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Денормализованные счетчики курса для каталога и дашборда преподавателя. Обновляются
+ * атомарными инкрементами при изменении модулей, записей и работ студентов,
+ * поэтому список курсов читается одним запросом без подгрузки дочерних коллекций.
+ * Средний рейтинг здесь не хранится: он считается по {@code course_reviews}.
+ * <p>
+ * Связь принадлежит только этой стороне: у {@link Course} поля нет, иначе обратный
+ * {@code @OneToOne} загружался бы отдельным SELECT на каждый курс. Счетчики читаются
+ * через {@code CourseStatsRepository}.
+ */
+@Entity
+@Table(name = "course_stats")
+@Data
+@NoArgsConstructor
+public class CourseStats {
+    @Id
+    private Long courseId;
+
+    @Column(nullable = false)
+    private int moduleCount;
+
+    @Column(nullable = false)
+    private int activeEnrollmentCount;
+
+    // Копия Course.capacity (null - без ограничений). Занятие места сравнивает счетчик с этой колонкой
+    // внутри UPDATE, поэтому смена лимита и запись на курс упорядочиваются блокировкой одной строки
+    private Integer capacity;
+
+    // Значение по умолчанию нужно, чтобы колонка добавилась к уже заполненной таблице. -1 помечает
+    // строки, существовавшие до появления колонки: их счетчик один раз пересчитывается при запуске
+    @Column(nullable = false, columnDefinition = "integer default -1")
+    private int ungradedSubmissionCount;
+
+    // Связи
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "course_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Course course;
+
+    public CourseStats(Course course) {
+        this.course = course;
+        this.capacity = course.getCapacity();
+    }
+}
@@ -8,7 +8,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "enrollments")
+// Уникальный индекс не дает записать студента на курс дважды даже при параллельных запросах
+@Table(name = "enrollments",
+        uniqueConstraints = @UniqueConstraint(name = "uk_enrollments_user_course", columnNames = {"user_id", "course_id"}),
+        // Счетчики записей на курс по статусам читаются только из индекса
+        indexes = @Index(name = "idx_enrollments_course_status", columnList = "course_id, status"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
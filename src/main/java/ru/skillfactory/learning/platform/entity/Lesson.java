@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Entity
-@Table(name = "lessons")
+@Table(name = "lessons", indexes = @Index(name = "idx_lessons_module_id", columnList = "module_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
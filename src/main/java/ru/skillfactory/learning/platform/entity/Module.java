@@ -5,11 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.util.List;
 
 @Entity
-@Table(name = "modules")
+@Table(name = "modules", indexes = @Index(name = "idx_modules_course_id", columnList = "course_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -32,7 +34,9 @@ public class Module {
     @JoinColumn(name = "course_id", nullable = false)
     private Course course;
 
+    // Уроки всех модулей, загруженных одним запросом, догружаются одним подзапросом
     @OneToMany(mappedBy = "module", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @Fetch(FetchMode.SUBSELECT)
     private List<Lesson> lessons;
 
     @OneToOne(mappedBy = "module")
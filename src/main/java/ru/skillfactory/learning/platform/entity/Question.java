@@ -6,9 +6,11 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import ru.skillfactory.learning.platform.service.quiz.QuizAnswerKeyInvalidationListener;
 import java.util.List;
 
 @Entity
+@EntityListeners(QuizAnswerKeyInvalidationListener.class)
 @Table(name = "questions")
 @Data
 @NoArgsConstructor
@@ -16,7 +18,9 @@ import java.util.List;
 @Builder
 public class Question {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Пул идентификаторов из последовательности позволяет Hibernate вставлять строки JDBC-батчами
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "questions_seq")
+    @SequenceGenerator(name = "questions_seq", sequenceName = "questions_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 1000)
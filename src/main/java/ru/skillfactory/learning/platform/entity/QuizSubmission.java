@@ -9,7 +9,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "quiz_submissions")
+@Table(name = "quiz_submissions", uniqueConstraints = {
+        // Одна попытка студента на тест даже при параллельных повторах запроса
+        @UniqueConstraint(name = "uk_quiz_submissions_quiz_student", columnNames = {"quiz_id", "student_id"}),
+        @UniqueConstraint(name = "uk_quiz_submissions_student_key", columnNames = {"student_id", "idempotency_key"})
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,6 +26,10 @@ public class QuizSubmission {
     private Integer score;
     private LocalDateTime takenAt;
 
+    // Ключ идемпотентности запроса клиента; повтор с тем же ключом возвращает эту попытку
+    @Column(length = 64)
+    private String idempotencyKey;
+
     // Связи
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "quiz_id", nullable = false)
@@ -0,0 +1,64 @@
+package ru.skillfactory.learning.platform.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Вложение к работе студента. Загружается частями фиксированного размера: каждая часть пишется
+ * сразу на свое место во временный файл, а полученные части отмечаются в битовой маске,
+ * поэтому прерванную загрузку можно продолжить с недостающих частей.
+ */
+@Entity
+@Table(name = "submission_attachments")
+@Data
+@NoArgsConstructor
+public class SubmissionAttachment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String fileName;
+
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false)
+    private int chunkSize;
+
+    @Column(nullable = false)
+    private int chunkCount;
+
+    // Бит i установлен, когда часть i получена полностью (BitSet.toByteArray)
+    @Column(nullable = false, length = 8192)
+    private byte[] receivedChunks = new byte[0];
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AttachmentStatus status;
+
+    // Путь относительно file.upload-dir; пока загрузка не завершена, данные лежат в <путь>.part
+    @Column(nullable = false)
+    private String storagePath;
+
+    private LocalDateTime createdAt;
+
+    // Время последней полученной части: по нему истекают заброшенные загрузки
+    private LocalDateTime lastChunkAt;
+
+    private LocalDateTime completedAt;
+
+    // Связи
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "submission_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Submission submission;
+}
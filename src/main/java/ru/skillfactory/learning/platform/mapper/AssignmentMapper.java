@@ -3,6 +3,7 @@ package ru.skillfactory.learning.platform.mapper;
 import org.springframework.stereotype.Component;
 import ru.skillfactory.learning.platform.dto.response.AssignmentResponse;
 import ru.skillfactory.learning.platform.entity.Assignment;
+import ru.skillfactory.learning.platform.repository.projection.AssignmentRow;
 
 @Component
 public class AssignmentMapper {
@@ -28,4 +29,20 @@ public class AssignmentMapper {
 
         return response;
     }
+
+    public AssignmentResponse toResponse(AssignmentRow row) {
+        if (row == null) return null;
+
+        AssignmentResponse response = new AssignmentResponse();
+        response.setId(row.id());
+        response.setTitle(row.title());
+        response.setDescription(row.description());
+        response.setDueDate(row.dueDate());
+        response.setMaxScore(row.maxScore());
+        response.setLessonId(row.lessonId());
+        response.setLessonTitle(row.lessonTitle());
+        response.setSubmissionCount(row.submissionCount().intValue());
+
+        return response;
+    }
 }
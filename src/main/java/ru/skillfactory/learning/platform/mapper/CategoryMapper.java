@@ -1,9 +1,11 @@
 package ru.skillfactory.learning.platform.mapper;
 
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 import ru.skillfactory.learning.platform.dto.response.CategoryResponse;
 import ru.skillfactory.learning.platform.dto.response.CategoryDetailResponse;
 import ru.skillfactory.learning.platform.entity.Category;
+import ru.skillfactory.learning.platform.repository.projection.CategoryWithCourseCountRow;
 
 import java.util.Collections;
 import java.util.List;
@@ -38,6 +40,25 @@ public class CategoryMapper {
         return response;
     }
 
+    /**
+     * Конвертирует строку с количеством курсов в CategoryResponse
+     */
+    public CategoryResponse toResponse(CategoryWithCourseCountRow row) {
+        if (row == null) {
+            return null;
+        }
+
+        CategoryResponse response = new CategoryResponse();
+        response.setId(row.id());
+        response.setName(row.name());
+        response.setDescription(row.description());
+        response.setCreatedAt(row.createdAt());
+        response.setUpdatedAt(row.updatedAt());
+        response.setCourseCount(row.courseCount().intValue());
+
+        return response;
+    }
+
     /**
      * Конвертирует сущность Category в CategoryDetailResponse
      */
@@ -118,9 +139,10 @@ public class CategoryMapper {
     }
 
     /**
-     * Подсчитывает количество курсов в категории
+     * Подсчитывает количество курсов в категории. Для незагруженной коллекции выполняется
+     * SELECT COUNT, сами курсы не загружаются
      */
     private int calculateCourseCount(Category category) {
-        return category.getCourses() != null ? category.getCourses().size() : 0;
+        return category.getCourses() != null ? Hibernate.size(category.getCourses()) : 0;
     }
 }
\ No newline at end of file
@@ -1,29 +1,57 @@
 package ru.skillfactory.learning.platform.mapper;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 import ru.skillfactory.learning.platform.dto.response.CourseResponse;
 import ru.skillfactory.learning.platform.entity.Course;
+import ru.skillfactory.learning.platform.entity.CourseStats;
+import ru.skillfactory.learning.platform.repository.CourseReviewRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
+import ru.skillfactory.learning.platform.repository.projection.CourseRatingRow;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class CourseMapper {
 
+    private final CourseStatsRepository courseStatsRepository;
+    private final CourseReviewRepository courseReviewRepository;
+
     /**
-     * Конвертирует список сущностей Course в список CourseResponse
+     * Конвертирует список сущностей Course в список CourseResponse.
+     * Счетчики всех курсов списка читаются одним запросом, рейтинги - еще одним
      */
     public List<CourseResponse> toResponseList(List<Course> courses) {
         if (courses == null) {
             return Collections.emptyList();
         }
 
+        Map<Long, CourseStats> stats = loadStats(courses);
+        Map<Long, Double> ratings = loadRatings(courses);
         return courses.stream()
-                .map(this::toResponse)
+                .map(course -> toResponse(course, stats.get(course.getId()), ratings.get(course.getId())))
                 .collect(Collectors.toList());
     }
 
+    public Page<CourseResponse> toResponsePage(Page<Course> courses) {
+        Map<Long, CourseStats> stats = loadStats(courses.getContent());
+        Map<Long, Double> ratings = loadRatings(courses.getContent());
+        return courses.map(course -> toResponse(course, stats.get(course.getId()), ratings.get(course.getId())));
+    }
+
+    public Slice<CourseResponse> toResponseSlice(Slice<Course> courses) {
+        Map<Long, CourseStats> stats = loadStats(courses.getContent());
+        Map<Long, Double> ratings = loadRatings(courses.getContent());
+        return courses.map(course -> toResponse(course, stats.get(course.getId()), ratings.get(course.getId())));
+    }
+
     /**
      * Конвертирует сущность Course в CourseResponse
      */
@@ -32,12 +60,23 @@ public class CourseMapper {
             return null;
         }
 
+        if (course.getId() == null) {
+            return toResponse(course, null, null);
+        }
+        return toResponse(course,
+                courseStatsRepository.findById(course.getId()).orElse(null),
+                courseReviewRepository.findAverageRatingByCourseId(course.getId()));
+    }
+
+    private CourseResponse toResponse(Course course, CourseStats stats, Double averageRating) {
+
         CourseResponse response = new CourseResponse();
         response.setId(course.getId());
         response.setTitle(course.getTitle());
         response.setDescription(course.getDescription());
         response.setDuration(course.getDuration());
         response.setStartDate(course.getStartDate());
+        response.setCapacity(course.getCapacity());
 
         // Категория
         if (course.getCategory() != null) {
@@ -51,28 +90,35 @@ public class CourseMapper {
             response.setTeacherName(course.getTeacher().getName());
         }
 
-        // Количество модулей
-        if (course.getModules() != null) {
-            response.setModuleCount(course.getModules().size());
+        // Счетчики берутся из модели каталога, дочерние коллекции не загружаются
+        if (stats != null) {
+            response.setModuleCount(stats.getModuleCount());
+            response.setEnrolledStudents(stats.getActiveEnrollmentCount());
         }
 
-        // Количество активных записей
-        if (course.getEnrollments() != null) {
-            long activeEnrollments = course.getEnrollments().stream()
-                    .filter(enrollment -> "ACTIVE".equals(enrollment.getStatus()))
-                    .count();
-            response.setEnrolledStudents((int) activeEnrollments);
+        // Рейтинг - по отзывам, так же как на странице курса
+        if (averageRating != null) {
+            response.setAverageRating(Math.round(averageRating * 10.0) / 10.0);
         }
 
-        // Средний рейтинг
-        if (course.getReviews() != null && !course.getReviews().isEmpty()) {
-            double average = course.getReviews().stream()
-                    .mapToInt(review -> review.getRating())
-                    .average()
-                    .orElse(0.0);
-            response.setAverageRating(Math.round(average * 10.0) / 10.0);
+        return response;
+    }
+
+    private Map<Long, CourseStats> loadStats(List<Course> courses) {
+        if (courses.isEmpty()) {
+            return Collections.emptyMap();
         }
+        List<Long> ids = courses.stream().map(Course::getId).collect(Collectors.toList());
+        return courseStatsRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CourseStats::getCourseId, Function.identity()));
+    }
 
-        return response;
+    private Map<Long, Double> loadRatings(List<Course> courses) {
+        if (courses.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Long> ids = courses.stream().map(Course::getId).collect(Collectors.toList());
+        return courseReviewRepository.findAverageRatingsByCourseIds(ids).stream()
+                .collect(Collectors.toMap(CourseRatingRow::courseId, CourseRatingRow::averageRating));
     }
 }
\ No newline at end of file
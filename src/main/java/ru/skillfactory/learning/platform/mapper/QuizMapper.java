@@ -2,7 +2,9 @@ package ru.skillfactory.learning.platform.mapper;
 
 import org.springframework.stereotype.Component;
 import ru.skillfactory.learning.platform.dto.response.QuizResponse;
+import ru.skillfactory.learning.platform.dto.response.QuizResultResponse;
 import ru.skillfactory.learning.platform.entity.Quiz;
+import ru.skillfactory.learning.platform.repository.projection.QuizResultRow;
 
 @Component
 public class QuizMapper {
@@ -27,4 +29,24 @@ public class QuizMapper {
 
         return response;
     }
+
+    public QuizResultResponse toResultResponse(QuizResultRow row) {
+        if (row == null) return null;
+
+        // Максимальный балл равен количеству вопросов, в результате хранится процент
+        int maxScore = row.questionCount() != null ? row.questionCount() : 0;
+        int score = row.score() != null ? row.score() : 0;
+
+        return QuizResultResponse.builder()
+                .id(row.id())
+                .score(row.score())
+                .absoluteScore((score * maxScore) / 100)
+                .maxScore(maxScore)
+                .takenAt(row.takenAt())
+                .quizId(row.quizId())
+                .quizTitle(row.quizTitle())
+                .studentId(row.studentId())
+                .studentName(row.studentName())
+                .build();
+    }
 }
@@ -0,0 +1,49 @@
+package ru.skillfactory.learning.platform.mapper;
+
+import org.springframework.stereotype.Component;
+import ru.skillfactory.learning.platform.dto.response.SubmissionAttachmentResponse;
+import ru.skillfactory.learning.platform.entity.AttachmentStatus;
+import ru.skillfactory.learning.platform.entity.SubmissionAttachment;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+@Component
+public class SubmissionAttachmentMapper {
+
+    public SubmissionAttachmentResponse toResponse(SubmissionAttachment attachment) {
+        if (attachment == null) return null;
+
+        BitSet received = BitSet.valueOf(attachment.getReceivedChunks());
+
+        SubmissionAttachmentResponse response = new SubmissionAttachmentResponse();
+        response.setId(attachment.getId());
+        response.setFileName(attachment.getFileName());
+        response.setContentType(attachment.getContentType());
+        response.setSize(attachment.getSize());
+        response.setChunkSize(attachment.getChunkSize());
+        response.setChunkCount(attachment.getChunkCount());
+        response.setReceivedChunkCount(received.cardinality());
+        response.setStatus(attachment.getStatus().name());
+        response.setCreatedAt(attachment.getCreatedAt());
+        response.setCompletedAt(attachment.getCompletedAt());
+
+        if (attachment.getSubmission() != null) {
+            response.setSubmissionId(attachment.getSubmission().getId());
+        }
+
+        if (attachment.getStatus() == AttachmentStatus.COMPLETED) {
+            response.setFileUrl("/api/v1/submissions/attachments/" + attachment.getId() + "/file");
+        } else {
+            List<Integer> missing = new ArrayList<>();
+            for (int chunk = received.nextClearBit(0); chunk < attachment.getChunkCount();
+                 chunk = received.nextClearBit(chunk + 1)) {
+                missing.add(chunk);
+            }
+            response.setMissingChunks(missing);
+        }
+
+        return response;
+    }
+}
@@ -1,10 +1,13 @@
 package ru.skillfactory.learning.platform.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.skillfactory.learning.platform.entity.Assignment;
+import ru.skillfactory.learning.platform.repository.projection.AssignmentRow;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,11 +15,59 @@ import java.util.Optional;
 
 @Repository
 public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
+
+    // Списки заданий строятся одним запросом: урок присоединяется, количество решений считается подзапросом
+    String ASSIGNMENT_ROW = "SELECT new ru.skillfactory.learning.platform.repository.projection.AssignmentRow("
+            + "a.id, a.title, a.description, a.dueDate, a.maxScore, l.id, l.title, "
+            + "(SELECT COUNT(s) FROM Submission s WHERE s.assignment = a)) "
+            + "FROM Assignment a JOIN a.lesson l ";
+
     List<Assignment> findByLessonId(Long lessonId);
 
+    @Query("SELECT m.course.id FROM Assignment a JOIN a.lesson l JOIN l.module m WHERE a.id = :id")
+    Optional<Long> findCourseIdById(@Param("id") Long id);
+
+    @Query("SELECT COUNT(a) FROM Assignment a WHERE a.lesson.module.course.teacher.id = :teacherId")
+    long countByTeacherId(@Param("teacherId") Long teacherId);
+
     @Query("SELECT a FROM Assignment a LEFT JOIN FETCH a.submissions WHERE a.id = :id")
     Optional<Assignment> findByIdWithSubmissions(@Param("id") Long id);
 
     @Query("SELECT a FROM Assignment a WHERE a.dueDate < :date AND a.lesson.module.course.teacher.id = :teacherId")
     List<Assignment> findOverdueAssignmentsForTeacher(@Param("date") LocalDate date, @Param("teacherId") Long teacherId);
+
+    @Query(value = ASSIGNMENT_ROW,
+            countQuery = "SELECT COUNT(a) FROM Assignment a")
+    Page<AssignmentRow> findAllRows(Pageable pageable);
+
+    @Query(value = ASSIGNMENT_ROW
+            + "WHERE l.module.course.id IN (SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId)",
+            countQuery = "SELECT COUNT(a) FROM Assignment a WHERE a.lesson.module.course.id IN "
+                    + "(SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId)")
+    Page<AssignmentRow> findRowsByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    @Query(value = ASSIGNMENT_ROW + "WHERE l.module.course.teacher.id = :teacherId",
+            countQuery = "SELECT COUNT(a) FROM Assignment a WHERE a.lesson.module.course.teacher.id = :teacherId")
+    Page<AssignmentRow> findRowsByTeacherId(@Param("teacherId") Long teacherId, Pageable pageable);
+
+    @Query(value = ASSIGNMENT_ROW + "WHERE a.dueDate >= :from AND a.dueDate < :to",
+            countQuery = "SELECT COUNT(a) FROM Assignment a WHERE a.dueDate >= :from AND a.dueDate < :to")
+    Page<AssignmentRow> findRowsDueBetween(@Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           Pageable pageable);
+
+    // Предстоящие задания курсов студента, по которым он еще не сдал работу
+    @Query(value = ASSIGNMENT_ROW
+            + "WHERE l.module.course.id IN (SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId) "
+            + "AND a.dueDate >= :from "
+            + "AND NOT EXISTS (SELECT s FROM Submission s WHERE s.assignment = a AND s.student.id = :studentId)",
+            countQuery = "SELECT COUNT(a) FROM Assignment a WHERE a.lesson.module.course.id IN "
+                    + "(SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId) "
+                    + "AND a.dueDate >= :from "
+                    + "AND NOT EXISTS (SELECT s FROM Submission s WHERE s.assignment = a AND s.student.id = :studentId)")
+    Page<AssignmentRow> findUpcomingRowsForStudent(@Param("studentId") Long studentId,
+                                                   @Param("from") LocalDate from,
+                                                   Pageable pageable);
+
+    long countByDueDateBefore(LocalDate date);
 }
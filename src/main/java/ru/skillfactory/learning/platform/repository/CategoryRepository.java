@@ -1,11 +1,15 @@
 package ru.skillfactory.learning.platform.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-import ru.skillfactory.learning.platform.entity.Category;
-
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.skillfactory.learning.platform.entity.Category;
+import ru.skillfactory.learning.platform.repository.projection.CategoryWithCourseCountRow;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +17,27 @@ import java.util.Optional;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    String WITH_COURSE_COUNT = "SELECT new ru.skillfactory.learning.platform.repository.projection"
+            + ".CategoryWithCourseCountRow(c.id, c.name, c.description, c.createdAt, c.updatedAt, COUNT(co)) "
+            + "FROM Category c LEFT JOIN c.courses co ";
+    String GROUP_BY_CATEGORY = "GROUP BY c.id, c.name, c.description, c.createdAt, c.updatedAt ";
+
+    // Список категорий читается почти в каждом запросе каталога, поэтому кэшируется в регионе запросов.
+    // Изменение таблиц categories или courses сбрасывает результат автоматически
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "category-list")
+    })
+    @Query(WITH_COURSE_COUNT + GROUP_BY_CATEGORY + "ORDER BY c.name")
+    List<CategoryWithCourseCountRow> findAllWithCourseCount();
+
+    @Query(WITH_COURSE_COUNT + "WHERE LOWER(c.name) LIKE LOWER(CONCAT('%', :keyword, '%')) "
+            + GROUP_BY_CATEGORY + "ORDER BY c.name")
+    List<CategoryWithCourseCountRow> searchWithCourseCount(@Param("keyword") String keyword);
+
+    @Query(WITH_COURSE_COUNT + GROUP_BY_CATEGORY + "ORDER BY COUNT(co) DESC, c.name")
+    List<CategoryWithCourseCountRow> findMostPopular(Pageable pageable);
+
     Optional<Category> findByName(String name);
 
     boolean existsByName(String name);
@@ -25,9 +50,6 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Query("SELECT DISTINCT c FROM Category c LEFT JOIN FETCH c.courses")
     List<Category> findAllWithCourses();
 
-    @Query("SELECT c FROM Category c LEFT JOIN c.courses GROUP BY c.id ORDER BY COUNT(c.courses) DESC")
-    List<Category> findAllWithCourseCount();
-
     @Query("SELECT c FROM Category c WHERE SIZE(c.courses) > 0")
     List<Category> findCategoriesWithCourses();
 }
@@ -1,19 +1,37 @@
 package ru.skillfactory.learning.platform.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.skillfactory.learning.platform.entity.Course;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.repository.projection.CategoryCountRow;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
+    // Списочные запросы сразу подтягивают категорию и преподавателя, счетчики каталога
+    // читаются CourseMapper одним запросом на страницу
+    @Override
+    @EntityGraph(attributePaths = {"category", "teacher"})
+    Page<Course> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"category", "teacher"})
     List<Course> findByCategoryId(Long categoryId);
+
+    @EntityGraph(attributePaths = {"category", "teacher"})
     List<Course> findByTeacherId(Long teacherId);
 
+    @EntityGraph(attributePaths = {"category", "teacher"})
+    List<Course> findByTeacherId(Long teacherId, Pageable pageable);
+
     @Query("SELECT c FROM Course c LEFT JOIN FETCH c.modules WHERE c.id = :id")
     Optional<Course> findByIdWithModules(@Param("id") Long id);
 
@@ -23,6 +41,26 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     @Query("SELECT c FROM Course c LEFT JOIN FETCH c.modules LEFT JOIN FETCH c.teacher WHERE c.id = :id")
     Optional<Course> findByIdWithModulesAndTeacher(@Param("id") Long id);
 
+    @EntityGraph(Course.DETAIL_GRAPH)
+    @Query("SELECT c FROM Course c WHERE c.id = :id")
+    Optional<Course> findDetailById(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = {"category", "teacher"})
     @Query("SELECT c FROM Course c WHERE LOWER(c.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(c.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
     List<Course> searchByKeyword(@Param("keyword") String keyword);
+
+    @EntityGraph(attributePaths = {"category", "teacher"})
+    Slice<Course> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"category", "teacher"})
+    @Query(value = "SELECT c FROM Course c WHERE c.id IN "
+            + "(SELECT e.course.id FROM Enrollment e WHERE e.student.id = :studentId AND e.status = :status)",
+            countQuery = "SELECT COUNT(e) FROM Enrollment e WHERE e.student.id = :studentId AND e.status = :status")
+    Page<Course> findByEnrolledStudent(@Param("studentId") Long studentId,
+                                       @Param("status") EnrollmentStatus status,
+                                       Pageable pageable);
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.CategoryCountRow("
+            + "cat.id, cat.name, COUNT(c)) FROM Course c JOIN c.category cat GROUP BY cat.id, cat.name")
+    List<CategoryCountRow> countByCategory();
 }
@@ -0,0 +1,41 @@
+package ru.skillfactory.learning.platform.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.skillfactory.learning.platform.entity.CourseReview;
+import ru.skillfactory.learning.platform.repository.projection.CourseRatingRow;
+import ru.skillfactory.learning.platform.repository.projection.CourseReviewRow;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CourseReviewRepository extends JpaRepository<CourseReview, Long> {
+
+    @Query(value = "SELECT new ru.skillfactory.learning.platform.repository.projection.CourseReviewRow("
+            + "r.id, r.rating, r.comment, r.createdAt, s.name) "
+            + "FROM CourseReview r JOIN r.student s WHERE r.course.id = :courseId",
+            countQuery = "SELECT COUNT(r) FROM CourseReview r WHERE r.course.id = :courseId")
+    Page<CourseReviewRow> findRowsByCourseId(@Param("courseId") Long courseId, Pageable pageable);
+
+    // Средний рейтинг считается по самим отзывам, счетчиков отзывов в course_stats нет
+
+    @Query("SELECT AVG(r.rating) FROM CourseReview r WHERE r.course.id = :courseId")
+    Double findAverageRatingByCourseId(@Param("courseId") Long courseId);
+
+    // Рейтинги всех курсов страницы каталога одним запросом
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.CourseRatingRow("
+            + "r.course.id, AVG(r.rating)) "
+            + "FROM CourseReview r WHERE r.course.id IN :courseIds GROUP BY r.course.id")
+    List<CourseRatingRow> findAverageRatingsByCourseIds(@Param("courseIds") Collection<Long> courseIds);
+
+    @Query("SELECT AVG(r.rating) FROM CourseReview r WHERE r.course.teacher.id = :teacherId")
+    Double findAverageRatingByTeacherId(@Param("teacherId") Long teacherId);
+
+    @Query("SELECT AVG(r.rating) FROM CourseReview r")
+    Double findAverageRating();
+}
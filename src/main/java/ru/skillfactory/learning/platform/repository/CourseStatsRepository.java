@@ -0,0 +1,121 @@
+package ru.skillfactory.learning.platform.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.skillfactory.learning.platform.entity.CourseStats;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.repository.projection.CourseStatsTotalsRow;
+import ru.skillfactory.learning.platform.repository.projection.PopularCourseRow;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CourseStatsRepository extends JpaRepository<CourseStats, Long> {
+
+    // Инкременты выполняются в БД, поэтому параллельные изменения не теряют обновления
+
+    @Modifying
+    @Query("UPDATE CourseStats s SET s.moduleCount = s.moduleCount + :delta WHERE s.courseId = :courseId")
+    int addModules(@Param("courseId") Long courseId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE CourseStats s SET s.activeEnrollmentCount = s.activeEnrollmentCount + :delta WHERE s.courseId = :courseId")
+    int addActiveEnrollments(@Param("courseId") Long courseId, @Param("delta") int delta);
+
+    // Место занимается, только если активных записей меньше лимита из той же строки; параллельные
+    // запросы и смена лимита ждут блокировку строки, и перепроверенное условие видит новый лимит
+    @Modifying
+    @Query("UPDATE CourseStats s SET s.activeEnrollmentCount = s.activeEnrollmentCount + 1 "
+            + "WHERE s.courseId = :courseId AND (s.capacity IS NULL OR s.activeEnrollmentCount < s.capacity)")
+    int reserveActiveEnrollment(@Param("courseId") Long courseId);
+
+    // Лимит мест меняется под блокировкой строки счетчиков: занятие места ждет ее и сравнивает уже с новым лимитом
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CourseStats s WHERE s.courseId = :courseId")
+    Optional<CourseStats> findByIdForUpdate(@Param("courseId") Long courseId);
+
+    @Modifying
+    @Query("UPDATE CourseStats s SET s.ungradedSubmissionCount = s.ungradedSubmissionCount + :delta "
+            + "WHERE s.courseId = (SELECT m.course.id FROM Assignment a JOIN a.lesson l JOIN l.module m "
+            + "WHERE a.id = :assignmentId)")
+    int addUngradedSubmissions(@Param("assignmentId") Long assignmentId, @Param("delta") int delta);
+
+    // Счетчики всех курсов преподавателя складываются одним запросом по course_stats
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.CourseStatsTotalsRow("
+            + "COUNT(s), COALESCE(SUM(s.activeEnrollmentCount), 0L), COALESCE(SUM(s.ungradedSubmissionCount), 0L)) "
+            + "FROM CourseStats s WHERE s.course.teacher.id = :teacherId")
+    CourseStatsTotalsRow findTeacherTotals(@Param("teacherId") Long teacherId);
+
+    // Полный пересчет используется для заполнения счетчиков существующих курсов
+
+    // Строку могут параллельно создавать несколько транзакций: проигравшая вставляет 0 строк вместо ошибки
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course_stats"))
+    @Query(value = "INSERT INTO course_stats (course_id, module_count, active_enrollment_count, capacity, "
+            + "ungraded_submission_count) "
+            + "VALUES (:courseId, :moduleCount, :activeEnrollmentCount, :capacity, :ungradedSubmissionCount) "
+            + "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("courseId") Long courseId,
+                       @Param("moduleCount") long moduleCount,
+                       @Param("activeEnrollmentCount") long activeEnrollmentCount,
+                       @Param("capacity") Integer capacity,
+                       @Param("ungradedSubmissionCount") long ungradedSubmissionCount);
+
+    @Query("SELECT c.id FROM Course c WHERE NOT EXISTS (SELECT s FROM CourseStats s WHERE s.courseId = c.id)")
+    List<Long> findCourseIdsWithoutStats();
+
+    @Query("SELECT c.capacity FROM Course c WHERE c.id = :courseId")
+    Integer findCapacity(@Param("courseId") Long courseId);
+
+    @Query("SELECT COUNT(m) FROM Module m WHERE m.course.id = :courseId")
+    long countModules(@Param("courseId") Long courseId);
+
+    @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.course.id = :courseId AND e.status = :status")
+    long countEnrollments(@Param("courseId") Long courseId, @Param("status") EnrollmentStatus status);
+
+    @Query("SELECT COUNT(s) FROM Submission s WHERE s.score IS NULL AND s.assignment.lesson.module.course.id = :courseId")
+    long countUngradedSubmissions(@Param("courseId") Long courseId);
+
+    // Заполнение счетчиков непроверенных работ у строк, еще не пересчитанных после добавления колонки;
+    // подзапрос идет по частичному индексу idx_submissions_ungraded
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course_stats"))
+    @Query(value = "UPDATE course_stats cs SET ungraded_submission_count = ("
+            + "SELECT COUNT(*) FROM submissions s "
+            + "JOIN assignments a ON a.id = s.assignment_id "
+            + "JOIN lessons l ON l.id = a.lesson_id "
+            + "JOIN modules m ON m.id = l.module_id "
+            + "WHERE m.course_id = cs.course_id AND s.score IS NULL) "
+            + "WHERE cs.ungraded_submission_count < 0",
+            nativeQuery = true)
+    int recountUngradedSubmissions();
+
+    // Копирует лимит мест из courses в строки, где он расходится (строки до появления колонки)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "course_stats"))
+    @Query(value = "UPDATE course_stats cs SET capacity = (SELECT c.capacity FROM courses c WHERE c.id = cs.course_id) "
+            + "WHERE cs.capacity IS DISTINCT FROM (SELECT c.capacity FROM courses c WHERE c.id = cs.course_id)",
+            nativeQuery = true)
+    int syncCapacities();
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.CourseStatsTotalsRow("
+            + "COUNT(s), COALESCE(SUM(s.activeEnrollmentCount), 0L), COALESCE(SUM(s.ungradedSubmissionCount), 0L)) "
+            + "FROM CourseStats s")
+    CourseStatsTotalsRow findTotals();
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.PopularCourseRow("
+            + "c.id, c.title, s.activeEnrollmentCount) "
+            + "FROM CourseStats s JOIN s.course c ORDER BY s.activeEnrollmentCount DESC, c.id")
+    List<PopularCourseRow> findMostPopular(Pageable pageable);
+}
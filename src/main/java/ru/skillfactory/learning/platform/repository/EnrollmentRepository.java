@@ -1,12 +1,20 @@
 package ru.skillfactory.learning.platform.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.skillfactory.learning.platform.entity.Enrollment;
 import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.repository.projection.EnrollmentStatusCountRow;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,4 +29,35 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     Optional<Enrollment> findByIdWithDetails(@Param("id") Long id);
 
     boolean existsByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    // Повторная запись на курс упирается в uk_enrollments_user_course и вставляет 0 строк вместо ошибки.
+    // Затронутая таблица указана явно, иначе Hibernate сбрасывает после native-запроса все регионы L2-кэша
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "enrollments"))
+    @Query(value = "INSERT INTO enrollments (user_id, course_id, enroll_date, status) "
+            + "VALUES (:studentId, :courseId, :enrollDate, :status) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("studentId") Long studentId,
+                       @Param("courseId") Long courseId,
+                       @Param("enrollDate") LocalDate enrollDate,
+                       @Param("status") String status);
+
+    Slice<Enrollment> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.EnrollmentStatusCountRow("
+            + "e.status, COUNT(e)) FROM Enrollment e GROUP BY e.status")
+    List<EnrollmentStatusCountRow> countByStatus();
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.EnrollmentStatusCountRow("
+            + "e.status, COUNT(e)) FROM Enrollment e WHERE e.course.id = :courseId GROUP BY e.status")
+    List<EnrollmentStatusCountRow> countByStatusForCourse(@Param("courseId") Long courseId);
+
+    @Query("SELECT COUNT(DISTINCT e.student.id) FROM Enrollment e WHERE e.status = :status")
+    long countDistinctStudentsByStatus(@Param("status") EnrollmentStatus status);
+
+    // Студент, записанный на несколько курсов преподавателя, считается один раз
+    @Query("SELECT COUNT(DISTINCT e.student.id) FROM Enrollment e "
+            + "WHERE e.course.teacher.id = :teacherId AND e.status = :status")
+    long countDistinctStudentsByTeacherId(@Param("teacherId") Long teacherId,
+                                          @Param("status") EnrollmentStatus status);
 }
@@ -1,5 +1,7 @@
 package ru.skillfactory.learning.platform.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,4 +17,6 @@ public interface LessonRepository extends JpaRepository<Lesson, Long> {
 
     @Query("SELECT l FROM Lesson l LEFT JOIN FETCH l.assignments WHERE l.id = :id")
     Optional<Lesson> findByIdWithAssignments(@Param("id") Long id);
+
+    Slice<Lesson> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
@@ -1,11 +1,14 @@
 package ru.skillfactory.learning.platform.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.skillfactory.learning.platform.entity.Module;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +21,13 @@ public interface ModuleRepository extends JpaRepository<Module, Long> {
 
     @Query("SELECT m FROM Module m LEFT JOIN FETCH m.lessons WHERE m.course.id = :courseId ORDER BY m.orderIndex")
     List<Module> findByCourseIdWithLessons(@Param("courseId") Long courseId);
+
+    @Query("SELECT m.course.id FROM Module m WHERE m.id = :id")
+    Optional<Long> findCourseIdById(@Param("id") Long id);
+
+    // Обратная связь quiz загружается жадно; без JOIN FETCH на каждый модуль уходит отдельный SELECT
+    @Query("SELECT m FROM Module m LEFT JOIN FETCH m.quiz WHERE m.id IN :ids")
+    List<Module> findAllByIdWithQuiz(@Param("ids") Collection<Long> ids);
+
+    Slice<Module> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
@@ -1,5 +1,8 @@
 package ru.skillfactory.learning.platform.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -20,4 +23,11 @@ public interface ProfileRepository extends JpaRepository<Profile, Long> {
 
     @Query("SELECT p FROM Profile p LEFT JOIN FETCH p.user WHERE p.user.id = :userId")
     Optional<Profile> findByUserIdWithUser(@Param("userId") Long userId);
+
+    @Query(value = "SELECT p FROM Profile p LEFT JOIN FETCH p.user",
+            countQuery = "SELECT COUNT(p) FROM Profile p")
+    Page<Profile> findAllWithUser(Pageable pageable);
+
+    @Query("SELECT p FROM Profile p LEFT JOIN FETCH p.user WHERE p.id > :afterId ORDER BY p.id")
+    Slice<Profile> findWithUserByIdGreaterThan(@Param("afterId") Long afterId, Pageable pageable);
 }
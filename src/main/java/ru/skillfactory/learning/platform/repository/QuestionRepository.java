@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.skillfactory.learning.platform.entity.Question;
+import ru.skillfactory.learning.platform.repository.projection.CorrectAnswerRow;
 
 import java.util.List;
 
@@ -14,4 +15,13 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     @Query("SELECT q FROM Question q LEFT JOIN FETCH q.options WHERE q.quiz.id = :quizId")
     List<Question> findByQuizIdWithOptions(@Param("quizId") Long quizId);
+
+    /**
+     * Все вопросы теста с идентификаторами правильных вариантов одним запросом,
+     * без загрузки сущностей вариантов ответа.
+     */
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.CorrectAnswerRow(q.id, o.id) " +
+            "FROM Question q LEFT JOIN q.options o ON o.isCorrect = true " +
+            "WHERE q.quiz.id = :quizId ORDER BY q.id, o.id")
+    List<CorrectAnswerRow> findCorrectAnswersByQuizId(@Param("quizId") Long quizId);
 }
@@ -1,17 +1,26 @@
 package ru.skillfactory.learning.platform.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.skillfactory.learning.platform.entity.Quiz;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
     Optional<Quiz> findByModuleId(Long moduleId);
 
+    @Query("SELECT q.module.id FROM Quiz q WHERE q.module.id IN :moduleIds")
+    List<Long> findModuleIdsByModuleIdIn(@Param("moduleIds") Collection<Long> moduleIds);
+
     @Query("SELECT q FROM Quiz q LEFT JOIN FETCH q.questions WHERE q.id = :id")
     Optional<Quiz> findByIdWithQuestions(@Param("id") Long id);
+
+    Slice<Quiz> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
@@ -1,11 +1,19 @@
 package ru.skillfactory.learning.platform.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.skillfactory.learning.platform.entity.QuizSubmission;
+import ru.skillfactory.learning.platform.repository.projection.QuizResultRow;
+import ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +22,43 @@ public interface QuizSubmissionRepository extends JpaRepository<QuizSubmission,
     Optional<QuizSubmission> findByQuizIdAndStudentId(Long quizId, Long studentId);
     List<QuizSubmission> findByQuizId(Long quizId);
     List<QuizSubmission> findByStudentId(Long studentId);
+    boolean existsByStudentIdAndIdempotencyKey(Long studentId, String idempotencyKey);
+
+    // Повторная попытка упирается в уникальные индексы и вставляет 0 строк вместо ошибки.
+    // Query space ограничен quiz_submissions, чтобы вставка не сбрасывала остальные регионы L2-кэша
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "quiz_submissions"))
+    @Query(value = "INSERT INTO quiz_submissions (quiz_id, student_id, score, taken_at, idempotency_key) "
+            + "VALUES (:quizId, :studentId, :score, :takenAt, :idempotencyKey) ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("quizId") Long quizId,
+                       @Param("studentId") Long studentId,
+                       @Param("score") Integer score,
+                       @Param("takenAt") LocalDateTime takenAt,
+                       @Param("idempotencyKey") String idempotencyKey);
 
     @Query("SELECT qs FROM QuizSubmission qs WHERE qs.quiz.module.course.id = :courseId")
     List<QuizSubmission> findByCourseId(@Param("courseId") Long courseId);
+
+    // Балл результата теста уже хранится в процентах
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow("
+            + "COUNT(qs), COUNT(qs.score), AVG(qs.score * 1.0)) "
+            + "FROM QuizSubmission qs WHERE qs.student.id = :studentId")
+    ScoreStatsRow findScoreStatsByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.QuizResultRow("
+            + "qs.id, qs.score, qs.takenAt, q.id, q.title, SIZE(q.questions), st.id, st.name) "
+            + "FROM QuizSubmission qs JOIN qs.quiz q JOIN qs.student st "
+            + "WHERE st.id = :studentId ORDER BY qs.takenAt DESC, qs.id DESC")
+    List<QuizResultRow> findResultRowsByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.QuizResultRow("
+            + "qs.id, qs.score, qs.takenAt, q.id, q.title, SIZE(q.questions), st.id, st.name) "
+            + "FROM QuizSubmission qs JOIN qs.quiz q JOIN qs.student st "
+            + "WHERE q.module.course.teacher.id = :teacherId ORDER BY qs.takenAt DESC, qs.id DESC")
+    List<QuizResultRow> findResultRowsByTeacherId(@Param("teacherId") Long teacherId, Pageable pageable);
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow("
+            + "COUNT(qs), COUNT(qs.score), AVG(qs.score * 1.0)) FROM QuizSubmission qs")
+    ScoreStatsRow findScoreStats();
 }
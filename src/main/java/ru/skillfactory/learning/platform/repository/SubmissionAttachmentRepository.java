@@ -0,0 +1,36 @@
+package ru.skillfactory.learning.platform.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.skillfactory.learning.platform.entity.AttachmentStatus;
+import ru.skillfactory.learning.platform.entity.SubmissionAttachment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SubmissionAttachmentRepository extends JpaRepository<SubmissionAttachment, Long> {
+
+    List<SubmissionAttachment> findBySubmissionIdOrderByIdAsc(Long submissionId);
+
+    // Загрузки без новых частей с указанного момента; строки без отметки части - по времени создания
+    @Query("SELECT a FROM SubmissionAttachment a WHERE a.status = :status "
+            + "AND COALESCE(a.lastChunkAt, a.createdAt) < :inactiveSince")
+    List<SubmissionAttachment> findInactiveSince(@Param("status") AttachmentStatus status,
+                                                 @Param("inactiveSince") LocalDateTime inactiveSince);
+
+    // Части одной загрузки приходят параллельно, отметка в битовой маске делается под блокировкой строки
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM SubmissionAttachment a WHERE a.id = :id")
+    Optional<SubmissionAttachment> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM SubmissionAttachment a WHERE a.submission.id = :submissionId")
+    int deleteBySubmissionId(@Param("submissionId") Long submissionId);
+}
@@ -1,10 +1,13 @@
 package ru.skillfactory.learning.platform.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.skillfactory.learning.platform.entity.Submission;
+import ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,4 +23,35 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
 
     @Query("SELECT s FROM Submission s WHERE s.assignment.lesson.module.course.id = :courseId")
     List<Submission> findByCourseId(@Param("courseId") Long courseId);
+
+    Slice<Submission> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    // Балл работы переводится в процент от максимального балла задания
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow("
+            + "COUNT(s), "
+            + "COUNT(CASE WHEN a.maxScore > 0 THEN s.score END), "
+            + "AVG(CASE WHEN a.maxScore > 0 THEN s.score * 100.0 / a.maxScore END)) "
+            + "FROM Submission s JOIN s.assignment a WHERE s.student.id = :studentId")
+    ScoreStatsRow findScoreStatsByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT s FROM Submission s JOIN FETCH s.assignment JOIN FETCH s.student "
+            + "WHERE s.student.id = :studentId ORDER BY s.submittedAt DESC, s.id DESC")
+    List<Submission> findRecentByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    // Непроверенные работы выбираются по частичному индексу idx_submissions_ungraded
+    @Query("SELECT s FROM Submission s JOIN FETCH s.assignment JOIN FETCH s.student "
+            + "WHERE s.score IS NULL ORDER BY s.submittedAt, s.id")
+    List<Submission> findUngraded();
+
+    @Query("SELECT s FROM Submission s JOIN FETCH s.assignment a JOIN FETCH s.student "
+            + "WHERE s.score IS NULL AND a.lesson.module.course.teacher.id = :teacherId "
+            + "ORDER BY s.submittedAt DESC, s.id DESC")
+    List<Submission> findUngradedByTeacherId(@Param("teacherId") Long teacherId, Pageable pageable);
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow("
+            + "COUNT(s), "
+            + "COUNT(CASE WHEN a.maxScore > 0 THEN s.score END), "
+            + "AVG(CASE WHEN a.maxScore > 0 THEN s.score * 100.0 / a.maxScore END)) "
+            + "FROM Submission s JOIN s.assignment a")
+    ScoreStatsRow findScoreStats();
 }
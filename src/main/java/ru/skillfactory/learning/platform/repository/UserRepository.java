@@ -1,11 +1,15 @@
 package ru.skillfactory.learning.platform.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import ru.skillfactory.learning.platform.entity.User;
 import ru.skillfactory.learning.platform.entity.Role;
+import ru.skillfactory.learning.platform.repository.projection.RoleCountRow;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,4 +22,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.enrollments WHERE u.id = :id")
     Optional<User> findByIdWithEnrollments(@Param("id") Long id);
+
+    /**
+     * Поиск по подстроке в имени или email. Шаблон передается уже в нижнем регистре
+     * и с экранированными спецсимволами; на PostgreSQL запрос обслуживают
+     * триграммные индексы по lower(name) и lower(email).
+     */
+    @Query(value = "SELECT u FROM User u " +
+            "WHERE LOWER(u.name) LIKE :pattern ESCAPE '\\' OR LOWER(u.email) LIKE :pattern ESCAPE '\\'",
+            countQuery = "SELECT COUNT(u) FROM User u " +
+                    "WHERE LOWER(u.name) LIKE :pattern ESCAPE '\\' OR LOWER(u.email) LIKE :pattern ESCAPE '\\'")
+    Page<User> searchByPattern(@Param("pattern") String pattern, Pageable pageable);
+
+    Slice<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @Query("SELECT new ru.skillfactory.learning.platform.repository.projection.RoleCountRow(u.role, COUNT(u)) "
+            + "FROM User u GROUP BY u.role")
+    List<RoleCountRow> countByRole();
 }
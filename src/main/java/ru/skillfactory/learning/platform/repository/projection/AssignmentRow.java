@@ -0,0 +1,19 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+import java.time.LocalDate;
+
+/**
+ * Строка списка заданий: поля задания, урок и количество решений,
+ * посчитанное подзапросом в том же SELECT.
+ */
+public record AssignmentRow(
+        Long id,
+        String title,
+        String description,
+        LocalDate dueDate,
+        Integer maxScore,
+        Long lessonId,
+        String lessonTitle,
+        Long submissionCount
+) {
+}
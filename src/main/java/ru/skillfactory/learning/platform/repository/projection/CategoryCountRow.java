@@ -0,0 +1,7 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+/**
+ * Количество курсов в категории (GROUP BY по категории).
+ */
+public record CategoryCountRow(Long categoryId, String categoryName, Long courseCount) {
+}
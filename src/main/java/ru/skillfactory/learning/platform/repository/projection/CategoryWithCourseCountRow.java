@@ -0,0 +1,17 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Поля категории и количество ее курсов одной строкой (LEFT JOIN + GROUP BY),
+ * без загрузки коллекции курсов.
+ */
+public record CategoryWithCourseCountRow(
+        Long id,
+        String name,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long courseCount
+) {
+}
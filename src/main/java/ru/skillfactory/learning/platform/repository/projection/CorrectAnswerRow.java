@@ -0,0 +1,8 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+/**
+ * Строка ключа ответов: вопрос и один из его правильных вариантов.
+ * {@code optionId} равен null, если у вопроса нет правильных вариантов.
+ */
+public record CorrectAnswerRow(Long questionId, Long optionId) {
+}
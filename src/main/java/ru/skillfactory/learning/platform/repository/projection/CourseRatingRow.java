@@ -0,0 +1,7 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+/**
+ * Средний рейтинг курса по его отзывам.
+ */
+public record CourseRatingRow(Long courseId, Double averageRating) {
+}
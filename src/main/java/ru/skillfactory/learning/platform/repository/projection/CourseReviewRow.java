@@ -0,0 +1,9 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Отзыв о курсе с именем автора: читается без загрузки сущностей студентов и их профилей.
+ */
+public record CourseReviewRow(Long id, Integer rating, String comment, LocalDateTime createdAt, String studentName) {
+}
@@ -0,0 +1,11 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+/**
+ * Сумма счетчиков {@code course_stats} по набору курсов (всем курсам или курсам преподавателя).
+ */
+public record CourseStatsTotalsRow(
+        Long courseCount,
+        Long activeEnrollmentCount,
+        Long ungradedSubmissionCount
+) {
+}
@@ -0,0 +1,9 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+
+/**
+ * Количество записей на курсы в статусе (GROUP BY по статусу).
+ */
+public record EnrollmentStatusCountRow(EnrollmentStatus status, Long count) {
+}
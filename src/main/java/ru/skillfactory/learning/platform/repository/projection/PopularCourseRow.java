@@ -0,0 +1,7 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+/**
+ * Курс и количество активных записей на него из {@code course_stats}.
+ */
+public record PopularCourseRow(Long courseId, String title, Integer activeEnrollmentCount) {
+}
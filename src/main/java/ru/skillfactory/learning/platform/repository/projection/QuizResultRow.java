@@ -0,0 +1,19 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Строка результата теста: процент, тест с количеством вопросов и студент,
+ * выбранные одним запросом без загрузки вопросов.
+ */
+public record QuizResultRow(
+        Long id,
+        Integer score,
+        LocalDateTime takenAt,
+        Long quizId,
+        String quizTitle,
+        Integer questionCount,
+        Long studentId,
+        String studentName
+) {
+}
@@ -0,0 +1,9 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+import ru.skillfactory.learning.platform.entity.Role;
+
+/**
+ * Количество пользователей с ролью (GROUP BY по роли).
+ */
+public record RoleCountRow(Role role, Long count) {
+}
@@ -0,0 +1,8 @@
+package ru.skillfactory.learning.platform.repository.projection;
+
+/**
+ * Агрегаты по работам студента: всего работ, оцененных работ и средний процент
+ * от максимального балла по оцененным. {@code averagePercent} равен null, если оценок нет.
+ */
+public record ScoreStatsRow(Long total, Long graded, Double averagePercent) {
+}
@@ -1,10 +1,12 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.CreateAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.response.AssignmentDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.AssignmentResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 
 import java.util.List;
 
@@ -18,15 +20,15 @@ public interface AssignmentService {
 
     List<AssignmentResponse> getAssignmentsByLesson(Long lessonId);
 
-    List<AssignmentResponse> getAllAssignments();
+    PaginatedResponse<AssignmentResponse> getAllAssignments(Pageable pageable);
 
     AssignmentResponse updateAssignment(Long id, UpdateAssignmentRequest request);
 
     void deleteAssignment(Long id);
 
-    List<AssignmentResponse> getAssignmentsDueSoon();
+    PaginatedResponse<AssignmentResponse> getAssignmentsDueSoon(Pageable pageable);
 
-    List<AssignmentResponse> getAssignmentsByStudent(Long studentId);
+    PaginatedResponse<AssignmentResponse> getAssignmentsByStudent(Long studentId, Pageable pageable);
 
-    List<AssignmentResponse> getAssignmentsByTeacher(Long teacherId);
+    PaginatedResponse<AssignmentResponse> getAssignmentsByTeacher(Long teacherId, Pageable pageable);
 }
@@ -0,0 +1,12 @@
+package ru.skillfactory.learning.platform.service;
+
+import reactor.core.publisher.Flux;
+import ru.skillfactory.learning.platform.dto.response.CategoryResponse;
+import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+
+public interface CatalogStreamService {
+
+    Flux<CourseResponse> streamCourses();
+
+    Flux<CategoryResponse> streamCategories();
+}
@@ -1,9 +1,12 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.data.domain.Pageable;
 import ru.skillfactory.learning.platform.dto.request.CreateCourseRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateCourseRequest;
 import ru.skillfactory.learning.platform.dto.response.CourseDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 
 import java.util.List;
 
@@ -15,7 +18,11 @@ public interface CourseService {
 
     CourseDetailResponse getCourseDetailById(Long id);
 
-    List<CourseResponse> getAllCourses();
+    PaginatedResponse<CourseDetailResponse.ReviewResponse> getCourseReviews(Long courseId, Pageable pageable);
+
+    PaginatedResponse<CourseResponse> getAllCourses(Pageable pageable);
+
+    CursorPaginatedResponse<CourseResponse> scrollCourses(Long afterId, int size);
 
     List<CourseResponse> getCoursesByCategory(Long categoryId);
 
@@ -0,0 +1,10 @@
+package ru.skillfactory.learning.platform.service;
+
+import ru.skillfactory.learning.platform.dto.response.DashboardResponse;
+
+public interface DashboardService {
+
+    DashboardResponse.StudentDashboard getStudentDashboard(Long studentId);
+
+    DashboardResponse.TeacherDashboard getTeacherDashboard(Long teacherId);
+}
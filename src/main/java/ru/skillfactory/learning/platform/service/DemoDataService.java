@@ -16,6 +16,7 @@ import ru.skillfactory.learning.platform.entity.Category;
 import ru.skillfactory.learning.platform.repository.UserRepository;
 import ru.skillfactory.learning.platform.repository.CategoryRepository;
 import ru.skillfactory.learning.platform.repository.CourseRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -31,6 +32,7 @@ public class DemoDataService {
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final CourseRepository courseRepository;
+    private final CourseStatsRepository courseStatsRepository;
 
     @Value("${app.demo.data.enabled:true}")
     private boolean demoDataEnabled;
@@ -69,6 +71,8 @@ public class DemoDataService {
 
     private void clearExistingData() {
         log.info("Clearing existing data...");
+        // Счетчики ссылаются на курсы и удаляются первыми
+        courseStatsRepository.deleteAllInBatch();
         courseRepository.deleteAll();
         categoryRepository.deleteAll();
         userRepository.deleteAll();
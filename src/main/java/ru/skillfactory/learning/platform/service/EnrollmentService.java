@@ -1,9 +1,14 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.data.domain.Pageable;
 import ru.skillfactory.learning.platform.dto.request.EnrollRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.EnrollmentResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
 
 import java.util.List;
+import java.util.Map;
 
 public interface EnrollmentService {
 
@@ -15,7 +20,9 @@ public interface EnrollmentService {
 
     List<EnrollmentResponse> getEnrollmentsByCourse(Long courseId);
 
-    List<EnrollmentResponse> getAllEnrollments();
+    PaginatedResponse<EnrollmentResponse> getAllEnrollments(Pageable pageable);
+
+    CursorPaginatedResponse<EnrollmentResponse> scrollEnrollments(Long afterId, int size);
 
     EnrollmentResponse updateEnrollmentStatus(Long id, String status);
 
@@ -27,5 +34,7 @@ public interface EnrollmentService {
 
     int getActiveEnrollmentsCount(Long courseId);
 
+    Map<EnrollmentStatus, Long> getEnrollmentCountsByStatus(Long courseId);
+
     EnrollmentResponse completeCourse(Long enrollmentId);
 }
@@ -0,0 +1,15 @@
+package ru.skillfactory.learning.platform.service;
+
+import ru.skillfactory.learning.platform.dto.response.ExportDataResponse;
+import ru.skillfactory.learning.platform.service.export.ExportJob;
+
+public interface ExportService {
+
+    ExportDataResponse startExport(String type, String format);
+
+    ExportDataResponse getExport(String exportId);
+
+    ExportJob getCompletedExport(String exportId);
+
+    int removeExpiredExports();
+}
@@ -1,5 +1,6 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileStorageService {
@@ -9,4 +10,14 @@ public interface FileStorageService {
     void deleteFile(String filePath);
 
     byte[] loadFile(String filePath);
+
+    /**
+     * Файл как {@link Resource} для потоковой отдачи без чтения в память.
+     */
+    Resource loadFileAsResource(String filePath);
+
+    /**
+     * Уменьшенная копия изображения заданного размера; пока копия не готова, возвращается оригинал.
+     */
+    Resource loadThumbnailAsResource(String filePath, int size);
 }
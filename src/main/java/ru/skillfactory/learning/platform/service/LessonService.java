@@ -1,9 +1,12 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.data.domain.Pageable;
 import ru.skillfactory.learning.platform.dto.request.CreateLessonRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateLessonRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.LessonDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.LessonResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 
 import java.util.List;
 
@@ -17,7 +20,9 @@ public interface LessonService {
 
     List<LessonResponse> getLessonsByModule(Long moduleId);
 
-    List<LessonResponse> getAllLessons();
+    PaginatedResponse<LessonResponse> getAllLessons(Pageable pageable);
+
+    CursorPaginatedResponse<LessonResponse> scrollLessons(Long afterId, int size);
 
     LessonResponse updateLesson(Long id, UpdateLessonRequest request);
 
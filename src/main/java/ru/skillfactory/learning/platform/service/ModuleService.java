@@ -1,9 +1,12 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.data.domain.Pageable;
 import ru.skillfactory.learning.platform.dto.request.CreateModuleRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateModuleRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.ModuleDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.ModuleResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 
 import java.util.List;
 
@@ -17,7 +20,9 @@ public interface ModuleService {
 
     List<ModuleResponse> getModulesByCourse(Long courseId);
 
-    List<ModuleResponse> getAllModules();
+    PaginatedResponse<ModuleResponse> getAllModules(Pageable pageable);
+
+    CursorPaginatedResponse<ModuleResponse> scrollModules(Long afterId, int size);
 
     ModuleResponse updateModule(Long id, UpdateModuleRequest request);
 
@@ -1,11 +1,12 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.data.domain.Pageable;
 import ru.skillfactory.learning.platform.dto.request.CreateProfileRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateProfileRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.ProfileResponse;
 
-import java.util.List;
-
 public interface ProfileService {
 
     ProfileResponse createProfile(CreateProfileRequest request);
@@ -14,7 +15,9 @@ public interface ProfileService {
 
     ProfileResponse getProfileByUserId(Long userId);
 
-    List<ProfileResponse> getAllProfiles();
+    PaginatedResponse<ProfileResponse> getAllProfiles(Pageable pageable);
+
+    CursorPaginatedResponse<ProfileResponse> scrollProfiles(Long afterId, int size);
 
     ProfileResponse updateProfile(Long id, UpdateProfileRequest request);
 
@@ -1,8 +1,13 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.data.domain.Pageable;
+import ru.skillfactory.learning.platform.dto.request.BulkCreateQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.CreateQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.TakeQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateQuizRequest;
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizResultResponse;
@@ -13,17 +18,25 @@ public interface QuizService {
 
     QuizResponse createQuiz(CreateQuizRequest request);
 
+    List<QuizResponse> createQuizzes(BulkCreateQuizRequest request);
+
     QuizResponse getQuizById(Long id);
 
     QuizDetailResponse getQuizDetailById(Long id);
 
-    List<QuizResponse> getAllQuizzes();
+    PaginatedResponse<QuizResponse> getAllQuizzes(Pageable pageable);
+
+    CursorPaginatedResponse<QuizResponse> scrollQuizzes(Long afterId, int size);
 
     QuizResponse updateQuiz(Long id, UpdateQuizRequest request);
 
     void deleteQuiz(Long id);
 
-    QuizResultResponse takeQuiz(Long studentId, TakeQuizRequest request);
+    /**
+     * Сохраняет попытку прохождения теста. Повтор с тем же {@code idempotencyKey}
+     * возвращает результат исходной попытки; ключ необязателен.
+     */
+    QuizResultResponse takeQuiz(Long studentId, TakeQuizRequest request, String idempotencyKey);
 
     List<QuizResultResponse> getQuizResultsByQuiz(Long quizId);
 
@@ -36,4 +49,6 @@ public interface QuizService {
     List<QuizResponse> getQuizzesByModule(Long moduleId);
 
     int calculateScore(Long quizId, java.util.Map<Long, Long> answers);
+
+    CacheStatsResponse getAnswerKeyCacheStats();
 }
@@ -0,0 +1,12 @@
+package ru.skillfactory.learning.platform.service;
+
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+
+import java.util.List;
+
+public interface SecondLevelCacheService {
+
+    List<CacheStatsResponse> getRegionStatistics();
+
+    void evictRegion(String region);
+}
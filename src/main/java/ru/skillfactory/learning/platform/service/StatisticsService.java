@@ -0,0 +1,10 @@
+package ru.skillfactory.learning.platform.service;
+
+import ru.skillfactory.learning.platform.dto.response.StatisticsResponse;
+
+public interface StatisticsService {
+
+    StatisticsResponse getStatistics();
+
+    StatisticsResponse refreshStatistics();
+}
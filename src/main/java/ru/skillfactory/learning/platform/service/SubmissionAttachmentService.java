@@ -0,0 +1,27 @@
+package ru.skillfactory.learning.platform.service;
+
+import ru.skillfactory.learning.platform.dto.request.InitAttachmentUploadRequest;
+import ru.skillfactory.learning.platform.dto.response.SubmissionAttachmentResponse;
+import ru.skillfactory.learning.platform.service.file.AttachmentFile;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface SubmissionAttachmentService {
+
+    SubmissionAttachmentResponse initUpload(Long submissionId, InitAttachmentUploadRequest request);
+
+    SubmissionAttachmentResponse uploadChunk(Long attachmentId, int chunkIndex, InputStream content);
+
+    SubmissionAttachmentResponse completeUpload(Long attachmentId);
+
+    SubmissionAttachmentResponse getAttachment(Long attachmentId);
+
+    List<SubmissionAttachmentResponse> getAttachmentsBySubmission(Long submissionId);
+
+    AttachmentFile loadAttachmentFile(Long attachmentId);
+
+    void deleteAttachments(Long submissionId);
+
+    int removeExpiredUploads();
+}
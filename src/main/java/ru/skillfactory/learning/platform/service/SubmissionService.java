@@ -1,7 +1,10 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.data.domain.Pageable;
 import ru.skillfactory.learning.platform.dto.request.SubmitAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateSubmissionRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.SubmissionDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.SubmissionResponse;
 
@@ -19,7 +22,9 @@ public interface SubmissionService {
 
     List<SubmissionResponse> getSubmissionsByStudent(Long studentId);
 
-    List<SubmissionResponse> getAllSubmissions();
+    PaginatedResponse<SubmissionResponse> getAllSubmissions(Pageable pageable);
+
+    CursorPaginatedResponse<SubmissionResponse> scrollSubmissions(Long afterId, int size);
 
     SubmissionResponse updateSubmission(Long id, UpdateSubmissionRequest request);
 
@@ -1,7 +1,10 @@
 package ru.skillfactory.learning.platform.service;
 
+import org.springframework.data.domain.Pageable;
 import ru.skillfactory.learning.platform.dto.request.CreateUserRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateUserRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.UserDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.UserResponse;
 
@@ -17,11 +20,13 @@ public interface UserService {
 
     UserResponse getUserByEmail(String email);
 
-    List<UserResponse> getAllUsers();
+    PaginatedResponse<UserResponse> getAllUsers(Pageable pageable);
+
+    CursorPaginatedResponse<UserResponse> scrollUsers(Long afterId, int size);
 
     List<UserResponse> getUsersByRole(String role);
 
-    List<UserResponse> searchUsers(String keyword);
+    PaginatedResponse<UserResponse> searchUsers(String keyword, Pageable pageable);
 
     UserResponse updateUser(Long id, UpdateUserRequest request);
 
@@ -0,0 +1,49 @@
+package ru.skillfactory.learning.platform.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Загрузка значения Caffeine вне блокировки кэша. {@code Cache.get(key, loader)} выполняет загрузку
+ * внутри {@code ConcurrentHashMap.compute}, то есть под монитором: виртуальный поток, ждущий там JDBC,
+ * занимает поток-носитель, как и все потоки, ждущие тот же ключ. Здесь под блокировкой в кэш
+ * кладется только незавершенный future, а загрузку выполняет вызвавший поток (в своей транзакции);
+ * остальные потоки ждут future, не занимая носитель.
+ */
+public final class CallerLoads {
+
+    private CallerLoads() {
+    }
+
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> created);
+        if (future != created) {
+            return join(future);
+        }
+
+        try {
+            V value = loader.apply(key);
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            // Кэш сам убирает future, завершенный с ошибкой; ждущие потоки получают ту же ошибку
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
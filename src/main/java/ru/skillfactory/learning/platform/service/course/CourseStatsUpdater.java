@@ -0,0 +1,175 @@
+package ru.skillfactory.learning.platform.service.course;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.skillfactory.learning.platform.entity.CourseStats;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.repository.AssignmentRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Поддерживает счетчики каталога ({@link CourseStats}) в актуальном состоянии.
+ * Вызывается сервисами в той же транзакции, что и изменение модулей, записей или работ,
+ * поэтому счетчики откатываются вместе с основным изменением.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CourseStatsUpdater {
+
+    private final CourseStatsRepository courseStatsRepository;
+    private final AssignmentRepository assignmentRepository;
+
+    public void moduleAdded(Long courseId) {
+        apply(courseId, () -> courseStatsRepository.addModules(courseId, 1));
+    }
+
+    public void moduleRemoved(Long courseId) {
+        apply(courseId, () -> courseStatsRepository.addModules(courseId, -1));
+    }
+
+    /**
+     * Учитывает смену статуса записи. Новая запись передается с {@code oldStatus == null},
+     * удаленная — с {@code newStatus == null}.
+     */
+    public void enrollmentChanged(Long courseId, EnrollmentStatus oldStatus, EnrollmentStatus newStatus) {
+        int delta = (newStatus == EnrollmentStatus.ACTIVE ? 1 : 0) - (oldStatus == EnrollmentStatus.ACTIVE ? 1 : 0);
+        if (delta != 0) {
+            apply(courseId, () -> courseStatsRepository.addActiveEnrollments(courseId, delta));
+        }
+    }
+
+    /**
+     * Учитывает новую активную запись на курс. Счетчик увеличивается одним условным UPDATE,
+     * который сравнивает его с лимитом из той же строки, поэтому ни параллельные записи,
+     * ни одновременное уменьшение лимита не дают его превысить.
+     *
+     * @return {@code false}, если свободных мест нет
+     */
+    public boolean reserveSeat(Long courseId) {
+        if (courseStatsRepository.reserveActiveEnrollment(courseId) == 1) {
+            return true;
+        }
+        if (courseStatsRepository.existsById(courseId)) {
+            return false;
+        }
+        if (!insertMissing(courseId)) {
+            return courseStatsRepository.reserveActiveEnrollment(courseId) == 1;
+        }
+        // Пересчет уже учитывает новую запись, остается сверить его с лимитом
+        Integer capacity = courseStatsRepository.findCapacity(courseId);
+        return capacity == null
+                || courseStatsRepository.countEnrollments(courseId, EnrollmentStatus.ACTIVE) <= capacity;
+    }
+
+    /**
+     * Меняет лимит мест под блокировкой строки счетчиков. Лимит не может быть меньше числа
+     * уже активных записей; {@code null} снимает ограничение.
+     */
+    public void changeCapacity(Long courseId, Integer capacity) {
+        CourseStats stats = courseStatsRepository.findByIdForUpdate(courseId)
+                .orElseGet(() -> {
+                    insertMissing(courseId);
+                    return courseStatsRepository.findByIdForUpdate(courseId)
+                            .orElseThrow(() -> new ResourceNotFoundException("Course", "id", courseId));
+                });
+        if (capacity != null && capacity < stats.getActiveEnrollmentCount()) {
+            throw new BadRequestException("Capacity cannot be less than the number of active enrollments ("
+                    + stats.getActiveEnrollmentCount() + ")");
+        }
+        stats.setCapacity(capacity);
+    }
+
+    public void submissionAdded(Long assignmentId) {
+        addUngradedSubmissions(assignmentId, 1);
+    }
+
+    public void submissionRemoved(Long assignmentId, Integer score) {
+        if (score == null) {
+            addUngradedSubmissions(assignmentId, -1);
+        }
+    }
+
+    /**
+     * Учитывает выставление или снятие оценки. Повторная оценка уже проверенной работы счетчик не меняет.
+     */
+    public void submissionScoreChanged(Long assignmentId, Integer oldScore, Integer newScore) {
+        int delta = (newScore == null ? 1 : 0) - (oldScore == null ? 1 : 0);
+        if (delta != 0) {
+            addUngradedSubmissions(assignmentId, delta);
+        }
+    }
+
+    private void addUngradedSubmissions(Long assignmentId, int delta) {
+        if (courseStatsRepository.addUngradedSubmissions(assignmentId, delta) == 0) {
+            // Как в apply: строку создает пересчет, инкремент повторяется, только если ее вставили параллельно
+            assignmentRepository.findCourseIdById(assignmentId)
+                    .filter(courseId -> !insertMissing(courseId))
+                    .ifPresent(courseId -> courseStatsRepository.addUngradedSubmissions(assignmentId, delta));
+        }
+    }
+
+    /**
+     * Применяет инкремент; если строки счетчиков еще нет (курс создан до появления модели каталога),
+     * создает ее пересчетом, который уже учитывает текущее изменение. Если строку параллельно
+     * вставила другая транзакция, ее пересчет этого изменения не видел, и инкремент повторяется.
+     */
+    private void apply(Long courseId, IntSupplier increment) {
+        if (increment.getAsInt() == 0 && !insertMissing(courseId)) {
+            increment.getAsInt();
+        }
+    }
+
+    /**
+     * Вставляет строку счетчиков, пересчитанных агрегатными запросами.
+     *
+     * @return {@code false}, если строка уже есть
+     */
+    private boolean insertMissing(Long courseId) {
+        int inserted = courseStatsRepository.insertIfAbsent(courseId,
+                courseStatsRepository.countModules(courseId),
+                courseStatsRepository.countEnrollments(courseId, EnrollmentStatus.ACTIVE),
+                courseStatsRepository.findCapacity(courseId),
+                courseStatsRepository.countUngradedSubmissions(courseId));
+        if (inserted == 1) {
+            log.debug("Course stats built for course ID: {}", courseId);
+        }
+        return inserted == 1;
+    }
+
+    /**
+     * Заполняет счетчики курсов, созданных до появления модели каталога, один раз пересчитывает
+     * счетчики непроверенных работ у строк, существовавших до появления колонки, и копирует лимит
+     * мест в строки, где его еще нет. На следующих запусках таких строк нет, и запросы ничего не делают.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildMissing() {
+        int reconciled = courseStatsRepository.recountUngradedSubmissions();
+        if (reconciled > 0) {
+            log.info("Ungraded submission counters filled for {} courses", reconciled);
+        }
+        int capacities = courseStatsRepository.syncCapacities();
+        if (capacities > 0) {
+            log.info("Capacity copied to course stats of {} courses", capacities);
+        }
+
+        List<Long> courseIds = courseStatsRepository.findCourseIdsWithoutStats();
+        if (courseIds.isEmpty()) {
+            return;
+        }
+
+        log.info("Building course stats for {} courses", courseIds.size());
+        courseIds.forEach(this::insertMissing);
+        log.info("Course stats built for {} courses", courseIds.size());
+    }
+}
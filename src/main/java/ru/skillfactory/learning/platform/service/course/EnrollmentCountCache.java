@@ -0,0 +1,69 @@
+package ru.skillfactory.learning.platform.service.course;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.skillfactory.learning.platform.configuration.EnrollmentCountCacheProperties;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
+import ru.skillfactory.learning.platform.service.cache.CallerLoads;
+
+/**
+ * Счетчики записей на курс по статусам в памяти. Счетчики популярного курса опрашиваются
+ * страницей курса постоянно, поэтому считаются одним GROUP BY при первом обращении
+ * и сбрасываются после коммита каждого изменения записи курса.
+ * Изменения в обход сервиса записей учитываются по истечении времени жизни.
+ * Количество активных записей хранится в course_stats и отсюда не читается.
+ */
+@Component
+@Slf4j
+public class EnrollmentCountCache {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final AsyncCache<Long, EnrollmentCounts> cache;
+
+    public EnrollmentCountCache(EnrollmentRepository enrollmentRepository, EnrollmentCountCacheProperties properties) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .buildAsync();
+    }
+
+    public EnrollmentCounts get(Long courseId) {
+        return CallerLoads.get(cache, courseId,
+                id -> EnrollmentCounts.of(enrollmentRepository.countByStatusForCourse(id)));
+    }
+
+    /**
+     * Сбрасывает счетчики курса после коммита транзакции: до коммита изменение может
+     * откатиться. Счетчики не сдвигаются, а пересчитываются при следующем обращении:
+     * загрузка, прочитавшая уже закоммиченную запись, иначе учла бы ее второй раз.
+     */
+    public void enrollmentChanged(Long courseId, EnrollmentStatus oldStatus, EnrollmentStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        afterCommit(() -> {
+            // Незавершенная загрузка тоже сбрасывается: ее результат в кэш уже не попадет
+            cache.synchronous().invalidate(courseId);
+            log.debug("Enrollment counts of course ID: {} invalidated after {} -> {}", courseId, oldStatus, newStatus);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
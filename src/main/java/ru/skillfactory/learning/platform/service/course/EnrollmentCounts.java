@@ -0,0 +1,53 @@
+package ru.skillfactory.learning.platform.service.course;
+
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.repository.projection.EnrollmentStatusCountRow;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Количество записей на курс по статусам. Объект неизменяем,
+ * поэтому его можно отдавать из кэша без копирования.
+ */
+public final class EnrollmentCounts {
+
+    private static final EnrollmentStatus[] STATUSES = EnrollmentStatus.values();
+
+    private final long[] counts;
+
+    private EnrollmentCounts(long[] counts) {
+        this.counts = counts;
+    }
+
+    public static EnrollmentCounts of(List<EnrollmentStatusCountRow> rows) {
+        long[] counts = new long[STATUSES.length];
+        for (EnrollmentStatusCountRow row : rows) {
+            if (row.status() != null) {
+                counts[row.status().ordinal()] += row.count();
+            }
+        }
+        return new EnrollmentCounts(counts);
+    }
+
+    public long count(EnrollmentStatus status) {
+        return counts[status.ordinal()];
+    }
+
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public Map<EnrollmentStatus, Long> asMap() {
+        Map<EnrollmentStatus, Long> map = new EnumMap<>(EnrollmentStatus.class);
+        for (EnrollmentStatus status : STATUSES) {
+            map.put(status, counts[status.ordinal()]);
+        }
+        return map;
+    }
+}
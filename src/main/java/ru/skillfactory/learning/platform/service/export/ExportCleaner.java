@@ -0,0 +1,27 @@
+package ru.skillfactory.learning.platform.service.export;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.skillfactory.learning.platform.service.ExportService;
+
+/**
+ * Удаляет выгрузки старше срока хранения: записи реестра и файлы.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExportCleaner {
+
+    private final ExportService exportService;
+
+    @Scheduled(fixedDelayString = "${app.export.cleanup-interval:1h}")
+    public void removeExpiredExports() {
+        try {
+            exportService.removeExpiredExports();
+        } catch (RuntimeException e) {
+            log.warn("Expired exports cleanup failed", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ru.skillfactory.learning.platform.service.export;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Состояние фоновой выгрузки. Изменяется потоком выгрузки и читается при опросе статуса,
+ * поэтому изменяемые поля volatile.
+ */
+@Getter
+public class ExportJob {
+
+    public enum Status {
+        PROCESSING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final ExportType type;
+    private final ExportFormat format;
+    private final Path file;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong recordsExported = new AtomicLong();
+
+    private volatile Status status = Status.PROCESSING;
+    private volatile LocalDateTime completedAt;
+    private volatile String errorMessage;
+
+    public ExportJob(String id, ExportType type, ExportFormat format, Path file) {
+        this.id = id;
+        this.type = type;
+        this.format = format;
+        this.file = file;
+    }
+
+    void complete() {
+        completedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        errorMessage = message;
+        completedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+}
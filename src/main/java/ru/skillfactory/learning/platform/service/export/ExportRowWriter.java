@@ -0,0 +1,131 @@
+package ru.skillfactory.learning.platform.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+
+/**
+ * Пишет строки выгрузки в поток по одной, ничего не накапливая в памяти.
+ */
+public interface ExportRowWriter extends Closeable {
+
+    void writeHeader(String[] columns) throws IOException;
+
+    void writeRow(Object[] values) throws IOException;
+
+    static ExportRowWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(out);
+            case NDJSON -> new NdjsonRowWriter(objectMapper.getFactory().createGenerator(out));
+        };
+    }
+
+    /**
+     * Приводит значения JDBC к виду, одинаково читаемому в CSV и JSON.
+     */
+    static Object normalize(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof Time time) {
+            return time.toLocalTime().toString();
+        }
+        if (value instanceof Number || value instanceof Boolean || value == null) {
+            return value;
+        }
+        return value.toString();
+    }
+
+    /**
+     * CSV по RFC 4180: поля с разделителем, кавычками или переводом строки берутся в кавычки.
+     */
+    final class CsvRowWriter implements ExportRowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void writeHeader(String[] columns) throws IOException {
+            writeRow(columns);
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = normalize(values[i]);
+                if (value != null) {
+                    writer.write(escape(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                    && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * Один JSON-объект на строку; имена полей берутся из заголовка.
+     */
+    final class NdjsonRowWriter implements ExportRowWriter {
+
+        private final JsonGenerator generator;
+        private String[] columns;
+
+        NdjsonRowWriter(JsonGenerator generator) {
+            // Разделитель корневых значений по умолчанию - пробел; строки разделяем сами
+            generator.setRootValueSeparator(null);
+            this.generator = generator;
+        }
+
+        @Override
+        public void writeHeader(String[] columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public void writeRow(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeFieldName(columns[i]);
+                generator.writeObject(normalize(values[i]));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package ru.skillfactory.learning.platform.service.export;
+
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * Выгружаемые наборы данных. Запросы читают только нужные колонки и упорядочены по id,
+ * поэтому выгрузка детерминирована и не требует загрузки сущностей.
+ */
+public enum ExportType {
+    COURSES("SELECT c.id, c.title, c.duration, c.start_date, c.category_id, cat.name AS category_name, "
+            + "c.teacher_id, t.name AS teacher_name "
+            + "FROM courses c LEFT JOIN categories cat ON cat.id = c.category_id "
+            + "LEFT JOIN users t ON t.id = c.teacher_id ORDER BY c.id"),
+    USERS("SELECT u.id, u.name, u.email, u.role, u.created_at, u.is_active FROM users u ORDER BY u.id"),
+    ENROLLMENTS("SELECT e.id, e.user_id AS student_id, e.course_id, e.status, e.enroll_date "
+            + "FROM enrollments e ORDER BY e.id"),
+    SUBMISSIONS("SELECT s.id, s.assignment_id, s.student_id, s.submitted_at, s.score, s.feedback "
+            + "FROM submissions s ORDER BY s.id"),
+    QUIZ_RESULTS("SELECT qs.id, qs.quiz_id, q.title AS quiz_title, qs.student_id, qs.score, qs.taken_at "
+            + "FROM quiz_submissions qs JOIN quizzes q ON q.id = qs.quiz_id ORDER BY qs.id");
+
+    private final String sql;
+
+    ExportType(String sql) {
+        this.sql = sql;
+    }
+
+    public String sql() {
+        return sql;
+    }
+
+    public static ExportType from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export type: " + value);
+        }
+    }
+}
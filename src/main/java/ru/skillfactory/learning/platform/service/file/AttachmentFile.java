@@ -0,0 +1,9 @@
+package ru.skillfactory.learning.platform.service.file;
+
+import org.springframework.core.io.Resource;
+
+/**
+ * Готовое вложение для отдачи клиенту: исходное имя, тип содержимого и сам файл.
+ */
+public record AttachmentFile(String fileName, String contentType, Resource resource) {
+}
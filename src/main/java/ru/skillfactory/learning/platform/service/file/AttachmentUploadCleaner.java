@@ -0,0 +1,27 @@
+package ru.skillfactory.learning.platform.service.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.skillfactory.learning.platform.service.SubmissionAttachmentService;
+
+/**
+ * Удаляет брошенные загрузки вложений вместе с выделенными под них файлами.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AttachmentUploadCleaner {
+
+    private final SubmissionAttachmentService attachmentService;
+
+    @Scheduled(fixedDelayString = "${app.attachment.cleanup-interval:1h}")
+    public void removeExpiredUploads() {
+        try {
+            attachmentService.removeExpiredUploads();
+        } catch (RuntimeException e) {
+            log.warn("Expired attachment uploads cleanup failed", e);
+        }
+    }
+}
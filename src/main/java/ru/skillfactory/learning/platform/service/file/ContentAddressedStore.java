@@ -0,0 +1,128 @@
+package ru.skillfactory.learning.platform.service.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Хранилище с адресацией по содержимому. Каждое уникальное содержимое лежит один раз в
+ * {@code .blobs/<2 символа хэша>/<sha-256>}, а в каталоге загрузки создается жесткая ссылка
+ * {@code <sha-256><расширение>} на этот блоб. Ссылки на блоб считает файловая система ({@code unix:nlink}),
+ * поэтому блоб удаляется, когда удалена последняя ссылка, без отдельного счетчика.
+ */
+public final class ContentAddressedStore {
+
+    public static final String BLOB_DIRECTORY = ".blobs";
+
+    private static final Pattern SHA_256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path blobRoot;
+
+    public ContentAddressedStore(Path uploadRoot) {
+        this.blobRoot = uploadRoot.resolve(BLOB_DIRECTORY);
+    }
+
+    /**
+     * @param alreadyPresent такое содержимое уже было в этом каталоге, ничего не записано
+     * @param deduplicated   содержимое уже было в хранилище, создана только ссылка
+     */
+    public record StoredFile(String fileName, Path path, boolean alreadyPresent, boolean deduplicated) {
+    }
+
+    /**
+     * Копирует поток во временный файл, одновременно считая SHA-256, и подключает результат в каталог.
+     */
+    public StoredFile store(InputStream content, Path directory, String extension) throws IOException {
+        Path tempDirectory = Files.createDirectories(blobRoot.resolve("tmp"));
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String fileName = hash + extension;
+            Path target = directory.resolve(fileName);
+
+            if (Files.exists(target)) {
+                return new StoredFile(fileName, target, true, true);
+            }
+            return new StoredFile(fileName, target, false, link(temp, blobPath(hash), target));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Освобождает блоб после удаления файла из каталога: если других ссылок не осталось, блоб удаляется.
+     */
+    public void release(Path deletedFile) throws IOException {
+        String fileName = deletedFile.getFileName().toString();
+        int dotIndex = fileName.indexOf('.');
+        String hash = dotIndex > 0 ? fileName.substring(0, dotIndex) : fileName;
+        if (!SHA_256.matcher(hash).matches()) {
+            return;
+        }
+
+        Path blob = blobPath(hash);
+        try {
+            // Ссылка, созданная параллельно между проверкой и удалением, сохранит данные:
+            // удаляется только имя блоба, теряется лишь дедупликация для следующих загрузок
+            if (Files.exists(blob) && (Integer) Files.getAttribute(blob, "unix:nlink") <= 1) {
+                Files.deleteIfExists(blob);
+            }
+        } catch (UnsupportedOperationException e) {
+            // Файловая система не сообщает число ссылок - блоб остается
+        }
+    }
+
+    private boolean link(Path temp, Path blob, Path target) throws IOException {
+        Files.createDirectories(blob.getParent());
+        try {
+            try {
+                // Повторная загрузка: новые данные не пишутся, только ссылка на существующий блоб
+                Files.createLink(target, blob);
+                return true;
+            } catch (NoSuchFileException e) {
+                // Новое содержимое: временный файл становится и файлом каталога, и блобом
+                Files.createLink(target, temp);
+                try {
+                    Files.createLink(blob, temp);
+                } catch (FileAlreadyExistsException race) {
+                    // То же содержимое одновременно сохранил другой запрос; файл каталога остается отдельной копией
+                }
+                return false;
+            }
+        } catch (FileAlreadyExistsException e) {
+            // То же содержимое одновременно загрузили в этот же каталог
+            return true;
+        } catch (UnsupportedOperationException e) {
+            // Жесткие ссылки не поддерживаются - храним обычную копию без дедупликации
+            Files.copy(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            return false;
+        }
+    }
+
+    private Path blobPath(String hash) {
+        return blobRoot.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package ru.skillfactory.learning.platform.service.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import ru.skillfactory.learning.platform.configuration.ThumbnailExecutorConfiguration;
+import ru.skillfactory.learning.platform.configuration.ThumbnailProperties;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+/**
+ * Готовит уменьшенные копии загруженных изображений фиксированных размеров ({@code app.thumbnail.sizes}).
+ * Копии лежат рядом с оригиналом под именем {@code <имя>-<размер>.<jpg|png>}.
+ * Генерация идет на отдельном ограниченном пуле и не задерживает ответ на загрузку.
+ */
+@Component
+@Slf4j
+public class ThumbnailGenerator {
+
+    private final Executor executor;
+    private final ThumbnailProperties properties;
+
+    public ThumbnailGenerator(@Qualifier(ThumbnailExecutorConfiguration.THUMBNAIL_EXECUTOR) Executor executor,
+                              ThumbnailProperties properties) {
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    public void scheduleThumbnails(Path original) {
+        try {
+            executor.execute(() -> generate(original));
+        } catch (TaskRejectedException e) {
+            // Без копий клиент получит оригинал, поэтому загрузку не прерываем
+            log.warn("Thumbnail queue is full, skipping thumbnails for {}", original);
+        }
+    }
+
+    public boolean isSupportedSize(int size) {
+        return properties.getSizes().contains(size);
+    }
+
+    public List<Integer> getSizes() {
+        return properties.getSizes();
+    }
+
+    public static Path thumbnailPath(Path original, int size) {
+        String fileName = original.getFileName().toString();
+        int dotIndex = fileName.lastIndexOf('.');
+        String baseName = dotIndex > 0 ? fileName.substring(0, dotIndex) : fileName;
+        return original.resolveSibling(baseName + "-" + size + "." + formatOf(fileName));
+    }
+
+    void generate(Path original) {
+        List<Integer> sizes = properties.getSizes().stream()
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        if (sizes.isEmpty()) {
+            return;
+        }
+
+        try {
+            BufferedImage image = read(original, sizes.get(0));
+            if (image == null) {
+                log.warn("Unsupported image format, skipping thumbnails for {}", original);
+                return;
+            }
+
+            String format = formatOf(original.getFileName().toString());
+            // От большего размера к меньшему: каждая копия уменьшается из предыдущей, а не из оригинала
+            for (int size : sizes) {
+                image = scale(image, size, "jpg".equals(format));
+                write(image, format, thumbnailPath(original, size));
+            }
+            log.info("Thumbnails {} generated for {}", sizes, original);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to generate thumbnails for {}", original, e);
+        }
+    }
+
+    private static String formatOf(String fileName) {
+        String lowerCase = fileName.toLowerCase(Locale.ROOT);
+        // У JPEG нет прозрачности, поэтому его копии остаются JPEG, остальные форматы сохраняются в PNG
+        return lowerCase.endsWith(".jpg") || lowerCase.endsWith(".jpeg") ? "jpg" : "png";
+    }
+
+    private static BufferedImage read(Path original, int largestSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+
+                // Большое изображение декодируется с прореживанием строк и столбцов с запасом
+                // в два раза к наибольшей копии: полный растр в памяти не нужен
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, longestSide / (largestSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int size, boolean opaque) {
+        // Изображения меньше заданного размера не увеличиваются
+        double ratio = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * ratio));
+
+        BufferedImage target = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static void write(BufferedImage image, String format, Path target) throws IOException {
+        // Копия пишется во временный файл и переименовывается, чтобы не отдать недописанный файл
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            if (!ImageIO.write(image, format, partial.toFile())) {
+                throw new IOException("No image writer for format " + format);
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+}
@@ -2,20 +2,19 @@ package ru.skillfactory.learning.platform.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.CreateAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.response.AssignmentDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.AssignmentResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.entity.Assignment;
-import ru.skillfactory.learning.platform.entity.Enrollment;
 import ru.skillfactory.learning.platform.entity.Lesson;
-import ru.skillfactory.learning.platform.entity.User;
 import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.AssignmentMapper;
 import ru.skillfactory.learning.platform.repository.AssignmentRepository;
-import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
 import ru.skillfactory.learning.platform.repository.LessonRepository;
 import ru.skillfactory.learning.platform.repository.UserRepository;
 import ru.skillfactory.learning.platform.service.AssignmentService;
@@ -32,7 +31,6 @@ public class AssignmentServiceImpl implements AssignmentService {
     private final AssignmentRepository assignmentRepository;
     private final LessonRepository lessonRepository;
     private final UserRepository userRepository;
-    private final EnrollmentRepository enrollmentRepository;
     private final AssignmentMapper assignmentMapper;
 
     @Override
@@ -98,14 +96,11 @@ public class AssignmentServiceImpl implements AssignmentService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<AssignmentResponse> getAllAssignments() {
-        log.info("Getting all assignments");
+    public PaginatedResponse<AssignmentResponse> getAllAssignments(Pageable pageable) {
+        log.info("Getting all assignments, page: {}", pageable);
 
-        List<Assignment> assignments = assignmentRepository.findAll();
-
-        return assignments.stream()
-                .map(assignmentMapper::toResponse)
-                .collect(Collectors.toList());
+        return PaginatedResponse.from(assignmentRepository.findAllRows(pageable)
+                .map(assignmentMapper::toResponse));
     }
 
     @Override
@@ -155,74 +150,41 @@ public class AssignmentServiceImpl implements AssignmentService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<AssignmentResponse> getAssignmentsDueSoon() {
-        log.info("Getting assignments due soon");
-
-        LocalDate tomorrow = LocalDate.now().plusDays(1);
-        LocalDate nextWeek = LocalDate.now().plusDays(7);
+    public PaginatedResponse<AssignmentResponse> getAssignmentsDueSoon(Pageable pageable) {
+        log.info("Getting assignments due soon, page: {}", pageable);
 
-        List<Assignment> allAssignments = assignmentRepository.findAll();
+        // Сроки с сегодняшнего дня включительно и на неделю вперед
+        LocalDate today = LocalDate.now();
 
-        return allAssignments.stream()
-                .filter(assignment -> assignment.getDueDate() != null)
-                .filter(assignment -> !assignment.getDueDate().isBefore(LocalDate.now()))
-                .filter(assignment -> assignment.getDueDate().isBefore(nextWeek))
-                .map(assignmentMapper::toResponse)
-                .collect(Collectors.toList());
+        return PaginatedResponse.from(assignmentRepository.findRowsDueBetween(today, today.plusDays(7), pageable)
+                .map(assignmentMapper::toResponse));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AssignmentResponse> getAssignmentsByStudent(Long studentId) {
-        log.info("Getting assignments for student ID: {}", studentId);
-
-        User student = userRepository.findById(studentId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", studentId));
-
-        // Получаем курсы студента
-        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId);
-        List<Long> courseIds = enrollments.stream()
-                .map(enrollment -> enrollment.getCourse().getId())
-                .toList();
-
-        // Получаем все задания из этих курсов
-        List<Assignment> allAssignments = assignmentRepository.findAll();
-
-        return allAssignments.stream()
-                .filter(assignment -> {
-                    if (assignment.getLesson() == null ||
-                            assignment.getLesson().getModule() == null ||
-                            assignment.getLesson().getModule().getCourse() == null) {
-                        return false;
-                    }
-                    Long courseId = assignment.getLesson().getModule().getCourse().getId();
-                    return courseIds.contains(courseId);
-                })
-                .map(assignmentMapper::toResponse)
-                .collect(Collectors.toList());
+    public PaginatedResponse<AssignmentResponse> getAssignmentsByStudent(Long studentId, Pageable pageable) {
+        log.info("Getting assignments for student ID: {}, page: {}", studentId, pageable);
+
+        if (!userRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("User", "id", studentId);
+        }
+
+        // Задания всех курсов, на которые записан студент
+        return PaginatedResponse.from(assignmentRepository.findRowsByStudentId(studentId, pageable)
+                .map(assignmentMapper::toResponse));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<AssignmentResponse> getAssignmentsByTeacher(Long teacherId) {
-        log.info("Getting assignments for teacher ID: {}", teacherId);
-
-        User teacher = userRepository.findById(teacherId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", teacherId));
-
-        List<Assignment> allAssignments = assignmentRepository.findAll();
-
-        return allAssignments.stream()
-                .filter(assignment -> {
-                    if (assignment.getLesson() == null ||
-                            assignment.getLesson().getModule() == null ||
-                            assignment.getLesson().getModule().getCourse() == null) {
-                        return false;
-                    }
-                    return assignment.getLesson().getModule().getCourse().getTeacher().getId().equals(teacherId);
-                })
-                .map(assignmentMapper::toResponse)
-                .collect(Collectors.toList());
+    public PaginatedResponse<AssignmentResponse> getAssignmentsByTeacher(Long teacherId, Pageable pageable) {
+        log.info("Getting assignments for teacher ID: {}, page: {}", teacherId, pageable);
+
+        if (!userRepository.existsById(teacherId)) {
+            throw new ResourceNotFoundException("User", "id", teacherId);
+        }
+
+        return PaginatedResponse.from(assignmentRepository.findRowsByTeacherId(teacherId, pageable)
+                .map(assignmentMapper::toResponse));
     }
 
     private AssignmentDetailResponse toDetailResponse(Assignment assignment) {
@@ -0,0 +1,77 @@
+package ru.skillfactory.learning.platform.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import ru.skillfactory.learning.platform.configuration.CatalogStreamConfiguration;
+import ru.skillfactory.learning.platform.configuration.CatalogStreamProperties;
+import ru.skillfactory.learning.platform.dto.response.CategoryResponse;
+import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+import ru.skillfactory.learning.platform.service.CatalogStreamService;
+import ru.skillfactory.learning.platform.service.CategoryService;
+import ru.skillfactory.learning.platform.service.CourseService;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Потоковое чтение каталога. Курсы читаются keyset-порциями через
+ * {@link CourseService#scrollCourses}: следующая порция запрашивается только когда
+ * клиент начал забирать предыдущую, поэтому в памяти не больше двух порций на запрос.
+ */
+@Service
+@Slf4j
+public class CatalogStreamServiceImpl implements CatalogStreamService {
+
+    private final CourseService courseService;
+    private final CategoryService categoryService;
+    private final CatalogStreamProperties properties;
+    private final Scheduler scheduler;
+
+    public CatalogStreamServiceImpl(CourseService courseService,
+                                    CategoryService categoryService,
+                                    CatalogStreamProperties properties,
+                                    @Qualifier(CatalogStreamConfiguration.CATALOG_SCHEDULER) Scheduler scheduler) {
+        this.courseService = courseService;
+        this.categoryService = categoryService;
+        this.properties = properties;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public Flux<CourseResponse> streamCourses() {
+        log.info("Streaming courses, batch size: {}", properties.getBatchSize());
+
+        // expand запрашивает следующую порцию по курсору предыдущей только при спросе подписчика
+        return fetchCourses(null)
+                .expand(page -> page.isLast() ? Mono.empty() : fetchCourses(page.getNextCursor()))
+                // prefetch = 1: вперед читается не больше одной порции
+                .concatMapIterable(CursorPaginatedResponse::getContent, 1)
+                .onErrorMap(RejectedExecutionException.class, CatalogStreamServiceImpl::overloaded);
+    }
+
+    @Override
+    public Flux<CategoryResponse> streamCategories() {
+        log.info("Streaming categories");
+
+        // Категорий немного, список читается одним запросом из кэша запросов
+        return Mono.fromCallable(categoryService::getAllCategories)
+                .subscribeOn(scheduler)
+                .flatMapIterable(categories -> categories)
+                .onErrorMap(RejectedExecutionException.class, CatalogStreamServiceImpl::overloaded);
+    }
+
+    private Mono<CursorPaginatedResponse<CourseResponse>> fetchCourses(Long afterId) {
+        return Mono.fromCallable(() -> courseService.scrollCourses(afterId, properties.getBatchSize()))
+                .subscribeOn(scheduler);
+    }
+
+    // Очередь планировщика переполнена: клиенту лучше повторить запрос, чем ждать
+    private static Throwable overloaded(RejectedExecutionException e) {
+        return new ServiceUnavailableException("Catalog stream is overloaded, please retry later");
+    }
+}
@@ -4,7 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.CreateCategoryRequest;
@@ -14,9 +14,9 @@ import ru.skillfactory.learning.platform.entity.Category;
 import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.CategoryMapper;
 import ru.skillfactory.learning.platform.repository.CategoryRepository;
+import ru.skillfactory.learning.platform.repository.projection.CategoryWithCourseCountRow;
 import ru.skillfactory.learning.platform.service.CategoryService;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -66,12 +66,11 @@ public class CategoryServiceImpl implements CategoryService {
     public List<CategoryResponse> getAllCategories() {
         log.debug("Fetching all categories");
 
-        List<Category> categories = categoryRepository.findAll(
-                Sort.by(Sort.Direction.ASC, "name")
-        );
+        // Количество курсов считается в том же запросе, коллекции курсов не загружаются
+        List<CategoryWithCourseCountRow> rows = categoryRepository.findAllWithCourseCount();
 
-        return categories.stream()
-                .map(categoryMapper::toResponse)  // Исправлено: categoryMapper вместо CategoryMapper
+        return rows.stream()
+                .map(categoryMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -80,10 +79,10 @@ public class CategoryServiceImpl implements CategoryService {
     public List<CategoryResponse> searchCategories(String keyword) {
         log.debug("Searching categories with keyword: {}", keyword);
 
-        List<Category> categories = categoryRepository.findByNameContainingIgnoreCase(keyword);
+        List<CategoryWithCourseCountRow> rows = categoryRepository.searchWithCourseCount(keyword);
 
-        return categories.stream()
-                .map(categoryMapper::toResponse)  // Исправлено: categoryMapper вместо CategoryMapper
+        return rows.stream()
+                .map(categoryMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -184,12 +183,14 @@ public class CategoryServiceImpl implements CategoryService {
     public List<CategoryResponse> getPopularCategories(int limit) {
         log.debug("Fetching {} popular categories", limit);
 
-        List<Category> allCategories = categoryRepository.findAllWithCourseCount();
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // Сортировка и ограничение выполняются в БД
+        List<CategoryWithCourseCountRow> rows = categoryRepository.findMostPopular(PageRequest.of(0, limit));
 
-        return allCategories.stream()
-                .sorted(Comparator.comparingInt(c ->
-                        c.getCourses() != null ? -c.getCourses().size() : 0)) // Добавьте проверку на null
-                .limit(limit)
+        return rows.stream()
                 .map(categoryMapper::toResponse)
                 .collect(Collectors.toList());
     }
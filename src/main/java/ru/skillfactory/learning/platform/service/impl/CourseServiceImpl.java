@@ -2,18 +2,29 @@ package ru.skillfactory.learning.platform.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.CreateCourseRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateCourseRequest;
 import ru.skillfactory.learning.platform.dto.response.CourseDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.entity.*;
 import ru.skillfactory.learning.platform.entity.Module;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
 import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.CourseMapper;
 import ru.skillfactory.learning.platform.repository.*;
+import ru.skillfactory.learning.platform.repository.projection.CourseReviewRow;
 import ru.skillfactory.learning.platform.service.CourseService;
+import ru.skillfactory.learning.platform.service.course.CourseStatsUpdater;
+import ru.skillfactory.learning.platform.service.course.EnrollmentCountCache;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,11 +34,19 @@ import java.util.stream.Collectors;
 @Slf4j
 public class CourseServiceImpl implements CourseService {
 
+    // Отзывы на странице курса: самые новые, остальные читаются постранично
+    private static final int DETAIL_REVIEW_COUNT = 10;
+    private static final Sort REVIEW_ORDER = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final TagRepository tagRepository;
+    private final CourseReviewRepository courseReviewRepository;
+    private final CourseStatsRepository courseStatsRepository;
+    private final CourseStatsUpdater courseStatsUpdater;
+    private final EnrollmentCountCache enrollmentCountCache;
     private final CourseMapper courseMapper;
 
     @Override
@@ -53,10 +72,11 @@ public class CourseServiceImpl implements CourseService {
         course.setDescription(request.getDescription());
         course.setDuration(request.getDuration());
         course.setStartDate(request.getStartDate());
+        course.setCapacity(request.getCapacity());
         course.setTeacher(teacher);
         course.setCategory(category);
-
         Course savedCourse = courseRepository.save(course);
+        courseStatsRepository.save(new CourseStats(savedCourse));
         log.info("Course created with ID: {}", savedCourse.getId());
 
         return courseMapper.toResponse(savedCourse);
@@ -78,31 +98,54 @@ public class CourseServiceImpl implements CourseService {
     public CourseDetailResponse getCourseDetailById(Long id) {
         log.info("Getting course detail by ID: {}", id);
 
-        Course course = courseRepository.findByIdWithModulesAndTeacher(id)
+        // Курс, категория, преподаватель и модули - один запрос по графу Course.detail,
+        // уроки всех модулей и теги - еще по одному, отзывы - одна страница и средний рейтинг
+        Course course = courseRepository.findDetailById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Course", "id", id));
 
-        // Явно загружаем модули с уроками
-        if (course.getModules() != null) {
-            course.getModules().forEach(module -> {
-                if (module.getLessons() != null) {
-                    module.getLessons().size(); // Инициализация ленивой коллекции
-                }
-            });
+        Page<CourseReviewRow> reviews = courseReviewRepository.findRowsByCourseId(
+                id, PageRequest.of(0, DETAIL_REVIEW_COUNT, REVIEW_ORDER));
+        Double averageRating = reviews.getTotalElements() > 0
+                ? courseReviewRepository.findAverageRatingByCourseId(id)
+                : null;
+
+        return toDetailResponse(course, averageRating, reviews);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<CourseDetailResponse.ReviewResponse> getCourseReviews(Long courseId, Pageable pageable) {
+        log.info("Getting reviews of course ID: {}, page: {}", courseId, pageable);
+
+        if (!courseRepository.existsById(courseId)) {
+            throw new ResourceNotFoundException("Course", "id", courseId);
         }
 
-        return toDetailResponse(course);
+        Pageable ordered = pageable.getSort().isSorted()
+                ? pageable
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), REVIEW_ORDER);
+
+        return PaginatedResponse.from(courseReviewRepository.findRowsByCourseId(courseId, ordered)
+                .map(this::reviewToResponse));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginatedResponse<CourseResponse> getAllCourses(Pageable pageable) {
+        log.info("Getting all courses, page: {}", pageable);
+
+        return PaginatedResponse.from(courseMapper.toResponsePage(courseRepository.findAll(pageable)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<CourseResponse> getAllCourses() {
-        log.info("Getting all courses");
+    public CursorPaginatedResponse<CourseResponse> scrollCourses(Long afterId, int size) {
+        log.info("Scrolling courses after ID: {}, size: {}", afterId, size);
 
-        List<Course> courses = courseRepository.findAll();
+        Slice<Course> courses = courseRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, PageRequest.ofSize(size));
 
-        return courses.stream()
-                .map(courseMapper::toResponse) // Теперь работает с экземплярным методом
-                .collect(Collectors.toList());
+        return CursorPaginatedResponse.from(courseMapper.toResponseSlice(courses), CourseResponse::getId);
     }
 
     @Override
@@ -114,11 +157,7 @@ public class CourseServiceImpl implements CourseService {
             throw new ResourceNotFoundException("Category", "id", categoryId);
         }
 
-        List<Course> courses = courseRepository.findByCategoryId(categoryId);
-
-        return courses.stream()
-                .map(courseMapper::toResponse)
-                .collect(Collectors.toList());
+        return courseMapper.toResponseList(courseRepository.findByCategoryId(categoryId));
     }
 
     @Override
@@ -130,11 +169,7 @@ public class CourseServiceImpl implements CourseService {
             throw new ResourceNotFoundException("User", "id", teacherId);
         }
 
-        List<Course> courses = courseRepository.findByTeacherId(teacherId);
-
-        return courses.stream()
-                .map(courseMapper::toResponse)
-                .collect(Collectors.toList());
+        return courseMapper.toResponseList(courseRepository.findByTeacherId(teacherId));
     }
 
     @Override
@@ -142,11 +177,7 @@ public class CourseServiceImpl implements CourseService {
     public List<CourseResponse> searchCourses(String keyword) {
         log.info("Searching courses with keyword: {}", keyword);
 
-        List<Course> courses = courseRepository.searchByKeyword(keyword);
-
-        return courses.stream()
-                .map(courseMapper::toResponse)
-                .collect(Collectors.toList());
+        return courseMapper.toResponseList(courseRepository.searchByKeyword(keyword));
     }
 
     @Override
@@ -169,6 +200,16 @@ public class CourseServiceImpl implements CourseService {
         if (request.getStartDate() != null) {
             course.setStartDate(request.getStartDate());
         }
+        if (request.isUnlimitedCapacity()) {
+            if (request.getCapacity() != null) {
+                throw new BadRequestException("Capacity cannot be set together with unlimitedCapacity");
+            }
+            courseStatsUpdater.changeCapacity(id, null);
+            course.setCapacity(null);
+        } else if (request.getCapacity() != null) {
+            courseStatsUpdater.changeCapacity(id, request.getCapacity());
+            course.setCapacity(request.getCapacity());
+        }
         if (request.getCategoryId() != null) {
             Category category = categoryRepository.findById(request.getCategoryId())
                     .orElseThrow(() -> new ResourceNotFoundException("Category", "id", request.getCategoryId()));
@@ -190,6 +231,8 @@ public class CourseServiceImpl implements CourseService {
             throw new ResourceNotFoundException("Course", "id", id);
         }
 
+        // Счетчики ссылаются на курс и удаляются первыми
+        courseStatsRepository.deleteById(id);
         courseRepository.deleteById(id);
         log.info("Course deleted with ID: {}", id);
     }
@@ -207,16 +250,16 @@ public class CourseServiceImpl implements CourseService {
 
         List<Enrollment> enrollments = enrollmentRepository.findByStudentId(userId);
 
-        return enrollments.stream()
+        return courseMapper.toResponseList(enrollments.stream()
                 .map(Enrollment::getCourse)
-                .map(courseMapper::toResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     @Override
     @Transactional(readOnly = true)
     public int getEnrolledStudentsCount(Long courseId) {
-        return enrollmentRepository.findByCourseId(courseId).size();
+        // Все записи курса в любом статусе, из счетчиков в памяти
+        return (int) enrollmentCountCache.get(courseId).total();
     }
 
     @Override
@@ -249,13 +292,14 @@ public class CourseServiceImpl implements CourseService {
         return courseMapper.toResponse(updatedCourse);
     }
 
-    private CourseDetailResponse toDetailResponse(Course course) {
+    private CourseDetailResponse toDetailResponse(Course course, Double averageRating, Page<CourseReviewRow> reviews) {
         CourseDetailResponse response = new CourseDetailResponse();
         response.setId(course.getId());
         response.setTitle(course.getTitle());
         response.setDescription(course.getDescription());
         response.setDuration(course.getDuration());
         response.setStartDate(course.getStartDate());
+        response.setCapacity(course.getCapacity());
 
         if (course.getCategory() != null) {
             response.setCategoryId(course.getCategory().getId());
@@ -281,30 +325,25 @@ public class CourseServiceImpl implements CourseService {
                     .collect(Collectors.toList()));
         }
 
-        // Отзывы
-        if (course.getReviews() != null) {
-            response.setReviews(course.getReviews().stream()
-                    .map(review -> {
-                        CourseDetailResponse.ReviewResponse reviewResponse = new CourseDetailResponse.ReviewResponse();
-                        reviewResponse.setId(review.getId());
-                        reviewResponse.setRating(review.getRating());
-                        reviewResponse.setComment(review.getComment());
-                        reviewResponse.setCreatedAt(review.getCreatedAt());
-                        if (review.getStudent() != null) {
-                            reviewResponse.setStudentName(review.getStudent().getName());
-                        }
-                        return reviewResponse;
-                    })
-                    .collect(Collectors.toList()));
+        // Отзывы: первая страница, средний рейтинг - по самим отзывам, как и их количество
+        response.setReviews(reviews.getContent().stream()
+                .map(this::reviewToResponse)
+                .collect(Collectors.toList()));
+        response.setReviewCount(reviews.getTotalElements());
 
-            // Средний рейтинг
-            double average = course.getReviews().stream()
-                    .mapToInt(CourseReview::getRating)
-                    .average()
-                    .orElse(0.0);
-            response.setAverageRating(Math.round(average * 10.0) / 10.0);
-        }
+        double average = averageRating != null ? averageRating : 0.0;
+        response.setAverageRating(Math.round(average * 10.0) / 10.0);
+
+        return response;
+    }
 
+    private CourseDetailResponse.ReviewResponse reviewToResponse(CourseReviewRow review) {
+        CourseDetailResponse.ReviewResponse response = new CourseDetailResponse.ReviewResponse();
+        response.setId(review.id());
+        response.setRating(review.rating());
+        response.setComment(review.comment());
+        response.setCreatedAt(review.createdAt());
+        response.setStudentName(review.studentName());
         return response;
     }
 
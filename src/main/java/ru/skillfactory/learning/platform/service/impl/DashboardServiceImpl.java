@@ -0,0 +1,319 @@
+package ru.skillfactory.learning.platform.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.skillfactory.learning.platform.configuration.DashboardExecutorConfiguration;
+import ru.skillfactory.learning.platform.configuration.DashboardProperties;
+import ru.skillfactory.learning.platform.dto.response.DashboardResponse;
+import ru.skillfactory.learning.platform.entity.Course;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+import ru.skillfactory.learning.platform.mapper.AssignmentMapper;
+import ru.skillfactory.learning.platform.mapper.CourseMapper;
+import ru.skillfactory.learning.platform.mapper.QuizMapper;
+import ru.skillfactory.learning.platform.mapper.SubmissionMapper;
+import ru.skillfactory.learning.platform.repository.AssignmentRepository;
+import ru.skillfactory.learning.platform.repository.CourseRepository;
+import ru.skillfactory.learning.platform.repository.CourseReviewRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
+import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
+import ru.skillfactory.learning.platform.repository.QuizSubmissionRepository;
+import ru.skillfactory.learning.platform.repository.SubmissionRepository;
+import ru.skillfactory.learning.platform.repository.UserRepository;
+import ru.skillfactory.learning.platform.repository.projection.AssignmentRow;
+import ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow;
+import ru.skillfactory.learning.platform.repository.projection.CourseStatsTotalsRow;
+import ru.skillfactory.learning.platform.service.DashboardService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Дашборд собирается из независимых секций (курсы, задания, работы, тесты).
+ * Каждая секция - фиксированное число агрегирующих запросов в собственной read-only транзакции,
+ * секции выполняются параллельно на ограниченном пуле. Общая задержка ограничена бюджетом
+ * {@code app.dashboard.latency-budget} и публикуется в метриках {@code dashboard.student.latency}
+ * и {@code dashboard.teacher.latency}.
+ */
+@Service
+@Slf4j
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final String STUDENT = "student";
+    private static final String TEACHER = "teacher";
+
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final QuizSubmissionRepository quizSubmissionRepository;
+    private final CourseStatsRepository courseStatsRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseReviewRepository courseReviewRepository;
+    private final CourseMapper courseMapper;
+    private final AssignmentMapper assignmentMapper;
+    private final SubmissionMapper submissionMapper;
+    private final QuizMapper quizMapper;
+    private final Executor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final DashboardProperties properties;
+    private final Timer studentLatency;
+    private final Timer teacherLatency;
+
+    public DashboardServiceImpl(UserRepository userRepository,
+                                CourseRepository courseRepository,
+                                AssignmentRepository assignmentRepository,
+                                SubmissionRepository submissionRepository,
+                                QuizSubmissionRepository quizSubmissionRepository,
+                                CourseStatsRepository courseStatsRepository,
+                                EnrollmentRepository enrollmentRepository,
+                                CourseReviewRepository courseReviewRepository,
+                                CourseMapper courseMapper,
+                                AssignmentMapper assignmentMapper,
+                                SubmissionMapper submissionMapper,
+                                QuizMapper quizMapper,
+                                @Qualifier(DashboardExecutorConfiguration.DASHBOARD_EXECUTOR) Executor executor,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                DashboardProperties properties) {
+        this.userRepository = userRepository;
+        this.courseRepository = courseRepository;
+        this.assignmentRepository = assignmentRepository;
+        this.submissionRepository = submissionRepository;
+        this.quizSubmissionRepository = quizSubmissionRepository;
+        this.courseStatsRepository = courseStatsRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseReviewRepository = courseReviewRepository;
+        this.courseMapper = courseMapper;
+        this.assignmentMapper = assignmentMapper;
+        this.submissionMapper = submissionMapper;
+        this.quizMapper = quizMapper;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+
+        // Транзакция секции не переживет бюджет: запрос будет прерван на стороне БД
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout(
+                (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(properties.getLatencyBudget().toMillis() + 999)));
+
+        this.studentLatency = latencyTimer(STUDENT);
+        this.teacherLatency = latencyTimer(TEACHER);
+    }
+
+    @Override
+    public DashboardResponse.StudentDashboard getStudentDashboard(Long studentId) {
+        log.info("Building dashboard for student ID: {}", studentId);
+
+        if (!userRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("User", "id", studentId);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return assembleStudent(studentId);
+        } finally {
+            sample.stop(studentLatency);
+        }
+    }
+
+    @Override
+    public DashboardResponse.TeacherDashboard getTeacherDashboard(Long teacherId) {
+        log.info("Building dashboard for teacher ID: {}", teacherId);
+
+        if (!userRepository.existsById(teacherId)) {
+            throw new ResourceNotFoundException("User", "id", teacherId);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            return assembleTeacher(teacherId);
+        } finally {
+            sample.stop(teacherLatency);
+        }
+    }
+
+    private DashboardResponse.StudentDashboard assembleStudent(Long studentId) {
+        DashboardResponse.StudentDashboard dashboard = new DashboardResponse.StudentDashboard();
+        int recent = properties.getRecentItems();
+        LocalDate today = LocalDate.now();
+
+        Future<Void> courses = section(STUDENT, "courses", () -> {
+            Page<Course> page = courseRepository.findByEnrolledStudent(studentId, EnrollmentStatus.ACTIVE,
+                    PageRequest.of(0, recent, Sort.by(Sort.Direction.DESC, "id")));
+            dashboard.setEnrolledCourses(page.getTotalElements());
+            dashboard.setActiveCourses(courseMapper.toResponseList(page.getContent()));
+        });
+
+        Future<Void> assignments = section(STUDENT, "assignments", () -> {
+            Page<AssignmentRow> page = assignmentRepository.findUpcomingRowsForStudent(studentId, today,
+                    PageRequest.of(0, recent, Sort.by("dueDate", "id")));
+            dashboard.setAssignmentsDue(page.getTotalElements());
+            dashboard.setUpcomingAssignments(page.getContent().stream()
+                    .map(assignmentMapper::toResponse)
+                    .collect(Collectors.toList()));
+        });
+
+        Pageable recentPage = PageRequest.of(0, recent);
+
+        Future<ScoreStatsRow> submissions = section(STUDENT, "submissions", () -> {
+            ScoreStatsRow stats = submissionRepository.findScoreStatsByStudentId(studentId);
+            dashboard.setSubmissionsMade(stats.total());
+            dashboard.setRecentSubmissions(submissionRepository.findRecentByStudentId(studentId, recentPage).stream()
+                    .map(submissionMapper::toResponse)
+                    .collect(Collectors.toList()));
+            return stats;
+        });
+
+        Future<ScoreStatsRow> quizzes = section(STUDENT, "quizzes", () -> {
+            ScoreStatsRow stats = quizSubmissionRepository.findScoreStatsByStudentId(studentId);
+            dashboard.setQuizzesTaken(stats.total());
+            dashboard.setRecentQuizResults(quizSubmissionRepository.findResultRowsByStudentId(studentId, recentPage)
+                    .stream()
+                    .map(quizMapper::toResultResponse)
+                    .collect(Collectors.toList()));
+            return stats;
+        });
+
+        await(STUDENT, studentId, courses, assignments, submissions, quizzes);
+
+        dashboard.setAverageScore(averageScore(submissions.resultNow(), quizzes.resultNow()));
+        return dashboard;
+    }
+
+    private DashboardResponse.TeacherDashboard assembleTeacher(Long teacherId) {
+        DashboardResponse.TeacherDashboard dashboard = new DashboardResponse.TeacherDashboard();
+        Pageable recentPage = PageRequest.of(0, properties.getRecentItems());
+
+        // Счетчики читаются из course_stats, которые поддерживаются инкрементально. Студентов так
+        // не сложить: один студент на нескольких курсах учитывался бы несколько раз. Рейтинг - по отзывам
+        Future<Void> counters = section(TEACHER, "counters", () -> {
+            CourseStatsTotalsRow stats = courseStatsRepository.findTeacherTotals(teacherId);
+            dashboard.setCoursesTaught(stats.courseCount());
+            dashboard.setTotalStudents(enrollmentRepository.countDistinctStudentsByTeacherId(
+                    teacherId, EnrollmentStatus.ACTIVE));
+            dashboard.setSubmissionsToGrade(stats.ungradedSubmissionCount());
+            Double averageRating = courseReviewRepository.findAverageRatingByTeacherId(teacherId);
+            dashboard.setAverageCourseRating(averageRating != null
+                    ? Math.round(averageRating * 10) / 10.0
+                    : null);
+            dashboard.setAssignmentsCreated(assignmentRepository.countByTeacherId(teacherId));
+        });
+
+        Future<Void> courses = section(TEACHER, "courses", () ->
+                dashboard.setRecentCourses(courseMapper.toResponseList(courseRepository.findByTeacherId(teacherId,
+                        PageRequest.of(0, properties.getRecentItems(), Sort.by(Sort.Direction.DESC, "id"))))));
+
+        Future<Void> submissions = section(TEACHER, "submissions", () ->
+                dashboard.setRecentSubmissions(submissionRepository.findUngradedByTeacherId(teacherId, recentPage)
+                        .stream()
+                        .map(submissionMapper::toResponse)
+                        .collect(Collectors.toList())));
+
+        Future<Void> quizzes = section(TEACHER, "quizzes", () ->
+                dashboard.setRecentQuizResults(quizSubmissionRepository.findResultRowsByTeacherId(teacherId, recentPage)
+                        .stream()
+                        .map(quizMapper::toResultResponse)
+                        .collect(Collectors.toList())));
+
+        await(TEACHER, teacherId, counters, courses, submissions, quizzes);
+        return dashboard;
+    }
+
+    /**
+     * Ждет все секции в пределах бюджета задержки. При превышении бюджета невыполненные
+     * секции отменяются с прерыванием их потоков, а клиент получает 503.
+     */
+    private void await(String dashboard, Long userId, Future<?>... sections) {
+        Duration budget = properties.getLatencyBudget();
+        long deadline = System.nanoTime() + budget.toNanos();
+        try {
+            for (Future<?> section : sections) {
+                section.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            cancel(sections);
+            log.warn("Dashboard for {} {} exceeded latency budget of {} ms", dashboard, userId, budget.toMillis());
+            throw new ServiceUnavailableException("Dashboard is temporarily unavailable, please retry later");
+        } catch (ExecutionException e) {
+            cancel(sections);
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to build dashboard", e.getCause());
+        } catch (InterruptedException e) {
+            cancel(sections);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Dashboard request was interrupted");
+        }
+    }
+
+    // Прерывание освобождает поток пула; запрос, уже отправленный в БД, ограничен таймаутом транзакции
+    private void cancel(Future<?>... sections) {
+        for (Future<?> section : sections) {
+            section.cancel(true);
+        }
+    }
+
+    private Timer latencyTimer(String dashboard) {
+        return Timer.builder("dashboard." + dashboard + ".latency")
+                .description("Dashboard assembly time")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .serviceLevelObjectives(properties.getLatencyBudget())
+                .register(meterRegistry);
+    }
+
+    private Future<Void> section(String dashboard, String name, Runnable body) {
+        return section(dashboard, name, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    // FutureTask, а не CompletableFuture: только его cancel(true) прерывает поток, выполняющий секцию
+    private <T> Future<T> section(String dashboard, String name, Supplier<T> body) {
+        Timer timer = meterRegistry.timer("dashboard." + dashboard + ".section", "section", name);
+        FutureTask<T> task = new FutureTask<>(
+                () -> timer.record(() -> readOnlyTransaction.execute(status -> body.get())));
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Средний процент по всем оцененным работам и тестам, взвешенный по их количеству.
+     */
+    private Double averageScore(ScoreStatsRow submissions, ScoreStatsRow quizzes) {
+        long graded = 0;
+        double sum = 0;
+        for (ScoreStatsRow stats : new ScoreStatsRow[]{submissions, quizzes}) {
+            if (stats.averagePercent() != null && stats.graded() != null && stats.graded() > 0) {
+                graded += stats.graded();
+                sum += stats.averagePercent() * stats.graded();
+            }
+        }
+        if (graded == 0) {
+            return null;
+        }
+        return Math.round(sum / graded * 10) / 10.0;
+    }
+}
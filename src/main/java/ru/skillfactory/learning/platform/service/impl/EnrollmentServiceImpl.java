@@ -2,21 +2,30 @@ package ru.skillfactory.learning.platform.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.EnrollRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.EnrollmentResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.entity.*;
 import ru.skillfactory.learning.platform.exception.BadRequestException;
 import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.EnrollmentMapper;
 import ru.skillfactory.learning.platform.repository.CourseRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
 import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
 import ru.skillfactory.learning.platform.repository.UserRepository;
 import ru.skillfactory.learning.platform.service.EnrollmentService;
+import ru.skillfactory.learning.platform.service.course.CourseStatsUpdater;
+import ru.skillfactory.learning.platform.service.course.EnrollmentCountCache;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +37,9 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final EnrollmentMapper enrollmentMapper;
+    private final CourseStatsUpdater courseStatsUpdater;
+    private final CourseStatsRepository courseStatsRepository;
+    private final EnrollmentCountCache enrollmentCountCache;
 
     @Override
     @Transactional
@@ -46,19 +58,23 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Course course = courseRepository.findById(request.getCourseId())
                 .orElseThrow(() -> new ResourceNotFoundException("Course", "id", request.getCourseId()));
 
-        // Проверяем, не записан ли уже студент
-        if (enrollmentRepository.existsByStudentIdAndCourseId(request.getStudentId(), request.getCourseId())) {
+        // Вставка и проверка дубля - одна операция: параллельные запросы не создают повторных записей
+        int inserted = enrollmentRepository.insertIfAbsent(
+                student.getId(), course.getId(), LocalDate.now(), EnrollmentStatus.ACTIVE.name());
+        if (inserted == 0) {
             throw new BadRequestException("Student is already enrolled in this course");
         }
 
-        // Создаем запись о зачислении
-        Enrollment enrollment = new Enrollment();
-        enrollment.setStudent(student);
-        enrollment.setCourse(course);
-        enrollment.setEnrollDate(LocalDate.now());
-        enrollment.setStatus(EnrollmentStatus.ACTIVE);
+        Enrollment savedEnrollment = enrollmentRepository.findByStudentIdAndCourseId(student.getId(), course.getId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Enrollment", "studentId and courseId", student.getId() + ", " + course.getId()));
 
-        Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        // Место занимается последним запросом транзакции, чтобы строка счетчиков курса была заблокирована
+        // как можно меньше; если мест нет, откат удаляет и вставленную запись
+        if (!courseStatsUpdater.reserveSeat(course.getId())) {
+            throw new BadRequestException("Course is full");
+        }
+        enrollmentCountCache.enrollmentChanged(course.getId(), null, EnrollmentStatus.ACTIVE);
         log.info("Student enrolled with enrollment ID: {}", savedEnrollment.getId());
 
         return enrollmentMapper.toResponse(savedEnrollment);
@@ -109,14 +125,22 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<EnrollmentResponse> getAllEnrollments() {
-        log.info("Getting all enrollments");
+    public PaginatedResponse<EnrollmentResponse> getAllEnrollments(Pageable pageable) {
+        log.info("Getting all enrollments, page: {}", pageable);
 
-        List<Enrollment> enrollments = enrollmentRepository.findAll();
+        return PaginatedResponse.from(enrollmentRepository.findAll(pageable)
+                .map(enrollmentMapper::toResponse));
+    }
 
-        return enrollments.stream()
-                .map(enrollmentMapper::toResponse)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<EnrollmentResponse> scrollEnrollments(Long afterId, int size) {
+        log.info("Scrolling enrollments after ID: {}, size: {}", afterId, size);
+
+        Slice<Enrollment> enrollments = enrollmentRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, PageRequest.ofSize(size));
+
+        return CursorPaginatedResponse.from(enrollments.map(enrollmentMapper::toResponse), EnrollmentResponse::getId);
     }
 
     @Override
@@ -129,9 +153,20 @@ public class EnrollmentServiceImpl implements EnrollmentService {
 
         try {
             EnrollmentStatus newStatus = EnrollmentStatus.valueOf(status.toUpperCase());
+            EnrollmentStatus oldStatus = enrollment.getStatus();
             enrollment.setStatus(newStatus);
 
             Enrollment updatedEnrollment = enrollmentRepository.save(enrollment);
+            Course course = enrollment.getCourse();
+            if (newStatus == EnrollmentStatus.ACTIVE && oldStatus != EnrollmentStatus.ACTIVE) {
+                // Возобновленная запись снова занимает место на курсе
+                if (!courseStatsUpdater.reserveSeat(course.getId())) {
+                    throw new BadRequestException("Course is full");
+                }
+            } else {
+                courseStatsUpdater.enrollmentChanged(course.getId(), oldStatus, newStatus);
+            }
+            enrollmentCountCache.enrollmentChanged(course.getId(), oldStatus, newStatus);
             log.info("Enrollment status updated for ID: {}", id);
 
             return enrollmentMapper.toResponse(updatedEnrollment);
@@ -149,6 +184,8 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Enrollment", "id", id));
 
         enrollmentRepository.delete(enrollment);
+        courseStatsUpdater.enrollmentChanged(enrollment.getCourse().getId(), enrollment.getStatus(), null);
+        enrollmentCountCache.enrollmentChanged(enrollment.getCourse().getId(), enrollment.getStatus(), null);
         log.info("Enrollment canceled with ID: {}", id);
     }
 
@@ -162,6 +199,8 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                         "Enrollment", "studentId and courseId", studentId + ", " + courseId));
 
         enrollmentRepository.delete(enrollment);
+        courseStatsUpdater.enrollmentChanged(courseId, enrollment.getStatus(), null);
+        enrollmentCountCache.enrollmentChanged(courseId, enrollment.getStatus(), null);
         log.info("Enrollment canceled for student ID: {} and course ID: {}", studentId, courseId);
     }
 
@@ -172,12 +211,17 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public int getActiveEnrollmentsCount(Long courseId) {
-        List<Enrollment> enrollments = enrollmentRepository.findByCourseId(courseId);
-        return (int) enrollments.stream()
-                .filter(e -> e.getStatus() == EnrollmentStatus.ACTIVE)
-                .count();
+        // Активные записи уже ведутся в course_stats, пересчет - только если строки еще нет
+        return courseStatsRepository.findById(courseId)
+                .map(CourseStats::getActiveEnrollmentCount)
+                .orElseGet(() -> (int) courseStatsRepository.countEnrollments(courseId, EnrollmentStatus.ACTIVE));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<EnrollmentStatus, Long> getEnrollmentCountsByStatus(Long courseId) {
+        return enrollmentCountCache.get(courseId).asMap();
     }
 
     @Override
@@ -188,9 +232,12 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Enrollment", "id", enrollmentId));
 
+        EnrollmentStatus oldStatus = enrollment.getStatus();
         enrollment.setStatus(EnrollmentStatus.COMPLETED);
 
         Enrollment updatedEnrollment = enrollmentRepository.save(enrollment);
+        courseStatsUpdater.enrollmentChanged(enrollment.getCourse().getId(), oldStatus, EnrollmentStatus.COMPLETED);
+        enrollmentCountCache.enrollmentChanged(enrollment.getCourse().getId(), oldStatus, EnrollmentStatus.COMPLETED);
         log.info("Course marked as completed for enrollment ID: {}", enrollmentId);
 
         return enrollmentMapper.toResponse(updatedEnrollment);
@@ -0,0 +1,271 @@
+package ru.skillfactory.learning.platform.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.skillfactory.learning.platform.configuration.ExportExecutorConfiguration;
+import ru.skillfactory.learning.platform.configuration.ExportProperties;
+import ru.skillfactory.learning.platform.configuration.FileStorageConfiguration;
+import ru.skillfactory.learning.platform.dto.response.ExportDataResponse;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.exception.FileStorageException;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+import ru.skillfactory.learning.platform.service.ExportService;
+import ru.skillfactory.learning.platform.service.export.ExportFormat;
+import ru.skillfactory.learning.platform.service.export.ExportJob;
+import ru.skillfactory.learning.platform.service.export.ExportRowWriter;
+import ru.skillfactory.learning.platform.service.export.ExportType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+/**
+ * Фоновые выгрузки в CSV/NDJSON. Строки читаются forward-only курсором JDBC порциями по
+ * {@code app.export.fetch-size} и сразу пишутся в файл, поэтому расход памяти не зависит
+ * от размера выгрузки. Файл пишется во временный {@code .part} и переименовывается
+ * после успешного завершения. Завершенные выгрузки хранятся {@code app.export.retention},
+ * затем удаляются вместе с файлом.
+ */
+@Service
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor executor;
+    private final ObjectMapper objectMapper;
+    private final ExportProperties properties;
+    private final FileStorageConfiguration fileStorageConfiguration;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public ExportServiceImpl(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier(ExportExecutorConfiguration.EXPORT_EXECUTOR) Executor executor,
+                             ObjectMapper objectMapper,
+                             ExportProperties properties,
+                             FileStorageConfiguration fileStorageConfiguration) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.fileStorageConfiguration = fileStorageConfiguration;
+
+        // PostgreSQL отдает результат порциями только внутри транзакции (без autocommit)
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public ExportDataResponse startExport(String type, String format) {
+        ExportType exportType = ExportType.from(type);
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Starting {} export in {} format", exportType, exportFormat);
+
+        String exportId = UUID.randomUUID().toString();
+        ExportJob job = new ExportJob(exportId, exportType, exportFormat,
+                exportDirectory().resolve(exportId + "." + exportFormat.extension()));
+        jobs.put(exportId, job);
+
+        try {
+            executor.execute(() -> run(job));
+        } catch (TaskRejectedException e) {
+            jobs.remove(exportId);
+            throw new ServiceUnavailableException("Too many exports in progress, please retry later");
+        }
+
+        return toResponse(job);
+    }
+
+    @Override
+    public ExportDataResponse getExport(String exportId) {
+        return toResponse(findJob(exportId));
+    }
+
+    @Override
+    public ExportJob getCompletedExport(String exportId) {
+        ExportJob job = findJob(exportId);
+        if (job.getStatus() != ExportJob.Status.COMPLETED) {
+            throw new BadRequestException("Export " + exportId + " is not completed, status: " + job.getStatus());
+        }
+        return job;
+    }
+
+    @Override
+    public int removeExpiredExports() {
+        LocalDateTime completedBefore = LocalDateTime.now().minus(properties.getRetention());
+        int removed = 0;
+
+        for (ExportJob job : jobs.values()) {
+            LocalDateTime completedAt = job.getCompletedAt();
+            if (job.getStatus() == ExportJob.Status.PROCESSING || completedAt == null
+                    || !completedAt.isBefore(completedBefore)) {
+                continue;
+            }
+            if (jobs.remove(job.getId(), job)) {
+                deleteFile(job.getFile());
+                removed++;
+            }
+        }
+
+        // Файлы без записи в реестре остаются от предыдущих запусков приложения
+        removed += removeOrphanFiles(completedBefore.atZone(ZoneId.systemDefault()).toInstant());
+
+        if (removed > 0) {
+            log.info("Removed {} expired exports", removed);
+        }
+        return removed;
+    }
+
+    private int removeOrphanFiles(Instant modifiedBefore) {
+        Set<Path> known = new HashSet<>();
+        for (ExportJob job : jobs.values()) {
+            known.add(job.getFile());
+            known.add(job.getFile().resolveSibling(job.getFile().getFileName() + ".part"));
+        }
+
+        int removed = 0;
+        try (Stream<Path> files = Files.list(exportDirectory())) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (!known.contains(file) && Files.isRegularFile(file)
+                        && Files.getLastModifiedTime(file).toInstant().isBefore(modifiedBefore)) {
+                    deleteFile(file);
+                    removed++;
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not list export directory", e);
+        }
+        return removed;
+    }
+
+    private void deleteFile(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}", file, e);
+        }
+    }
+
+    private ExportJob findJob(String exportId) {
+        ExportJob job = jobs.get(exportId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Export", "id", exportId);
+        }
+        return job;
+    }
+
+    private void run(ExportJob job) {
+        Path partial = job.getFile().resolveSibling(job.getFile().getFileName() + ".part");
+        long started = System.nanoTime();
+
+        try {
+            try (OutputStream out = Files.newOutputStream(partial);
+                 ExportRowWriter writer = ExportRowWriter.create(job.getFormat(), out, objectMapper)) {
+                readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(job.getType().sql(),
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(properties.getFetchSize());
+                    return statement;
+                }, (ResultSetExtractor<Void>) resultSet -> {
+                    stream(resultSet, writer, job);
+                    return null;
+                }));
+            }
+            Files.move(partial, job.getFile(), StandardCopyOption.ATOMIC_MOVE);
+            job.complete();
+            log.info("Export {} completed: {} rows in {} ms", job.getId(), job.getRecordsExported().get(),
+                    (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.error("Export {} failed", job.getId(), e);
+            job.fail(e instanceof UncheckedIOException ? e.getCause().getMessage() : e.getMessage());
+            try {
+                Files.deleteIfExists(partial);
+            } catch (IOException deleteError) {
+                log.warn("Could not delete partial export file {}", partial, deleteError);
+            }
+        }
+    }
+
+    private void stream(ResultSet resultSet, ExportRowWriter writer, ExportJob job) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+
+        try {
+            // H2 возвращает имена колонок в верхнем регистре, приводим к единому виду
+            String[] columns = new String[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                columns[i] = metaData.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+            }
+            writer.writeHeader(columns);
+
+            Object[] values = new Object[columnCount];
+            while (resultSet.next()) {
+                for (int i = 0; i < columnCount; i++) {
+                    values[i] = resultSet.getObject(i + 1);
+                }
+                writer.writeRow(values);
+                job.getRecordsExported().incrementAndGet();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path exportDirectory() {
+        Path directory = Paths.get(fileStorageConfiguration.getUploadDir())
+                .resolve(properties.getDirectory())
+                .toAbsolutePath()
+                .normalize();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new FileStorageException("Could not create export directory", e);
+        }
+        return directory;
+    }
+
+    private ExportDataResponse toResponse(ExportJob job) {
+        ExportDataResponse response = new ExportDataResponse();
+        response.setExportId(job.getId());
+        response.setExportType(job.getType().name());
+        response.setFormat(job.getFormat().name());
+        response.setStatus(job.getStatus().name());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setCompletedAt(job.getCompletedAt());
+        response.setRecordsExported((int) Math.min(job.getRecordsExported().get(), Integer.MAX_VALUE));
+        response.setErrorMessage(job.getErrorMessage());
+
+        if (job.getStatus() == ExportJob.Status.COMPLETED) {
+            response.setFileUrl("/api/v1/exports/" + job.getId() + "/file");
+        }
+        return response;
+    }
+}
@@ -1,15 +1,23 @@
 package ru.skillfactory.learning.platform.service.impl;
 
+import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
 import ru.skillfactory.learning.platform.exception.FileStorageException;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.service.FileStorageService;
+import ru.skillfactory.learning.platform.service.file.ContentAddressedStore;
+import ru.skillfactory.learning.platform.service.file.ThumbnailGenerator;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -18,12 +26,20 @@ import java.util.UUID;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class FileStorageServiceImpl implements FileStorageService {
 
     @Value("${file.upload-dir:uploads}")
     @Setter
     private String uploadDir;
 
+    // Хранить загрузки по хэшу содержимого: одинаковые файлы занимают место один раз
+    @Value("${file.content-addressed:false}")
+    @Setter
+    private boolean contentAddressed;
+
+    private final ThumbnailGenerator thumbnailGenerator;
+
     @Override
     public String storeFile(MultipartFile file, String directory) {
         try {
@@ -33,6 +49,10 @@ public class FileStorageServiceImpl implements FileStorageService {
             // Создание уникального имени файла
             String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
             String fileExtension = getFileExtension(originalFileName);
+            if (contentAddressed) {
+                return storeByContent(file, directory, fileExtension);
+            }
+
             String fileName = generateUniqueFileName(fileExtension);
 
             // Создание пути для сохранения
@@ -42,6 +62,9 @@ public class FileStorageServiceImpl implements FileStorageService {
             Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
 
             log.info("File stored successfully: {}", targetLocation.toString());
+
+            // Уменьшенные копии готовятся в фоне, ответ на загрузку их не ждет
+            thumbnailGenerator.scheduleThumbnails(targetLocation);
             return fileName;
 
         } catch (IOException ex) {
@@ -68,6 +91,39 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
     }
 
+    @Override
+    public Resource loadFileAsResource(String filePath) {
+        return new FileSystemResource(resolveExistingFile(filePath));
+    }
+
+    @Override
+    public Resource loadThumbnailAsResource(String filePath, int size) {
+        if (!thumbnailGenerator.isSupportedSize(size)) {
+            throw new BadRequestException("Unsupported thumbnail size: " + size
+                    + ", supported sizes: " + thumbnailGenerator.getSizes());
+        }
+
+        Path original = resolveExistingFile(filePath);
+        Path thumbnail = ThumbnailGenerator.thumbnailPath(original, size);
+
+        // Пока копия не готова (или формат не поддерживается), отдаем оригинал
+        return new FileSystemResource(Files.isRegularFile(thumbnail) ? thumbnail : original);
+    }
+
+    private Path resolveExistingFile(String filePath) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path path = root.resolve(filePath).normalize();
+
+        // Отдаем только файлы внутри каталога загрузок
+        if (!path.startsWith(root)) {
+            throw new FileStorageException("Invalid file path: " + filePath);
+        }
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("File", "path", filePath);
+        }
+        return path;
+    }
+
     @Override
     public void deleteFile(String filePath) {
         try {
@@ -75,10 +131,14 @@ public class FileStorageServiceImpl implements FileStorageService {
 
             if (Files.exists(path)) {
                 Files.delete(path);
+                if (contentAddressed) {
+                    contentAddressedStore().release(path);
+                }
                 log.info("File deleted successfully: {}", path);
             } else {
                 log.warn("File not found for deletion: {}", path);
             }
+            deleteThumbnails(path);
 
         } catch (IOException ex) {
             log.error("Failed to delete file: {}", ex.getMessage());
@@ -86,6 +146,40 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
     }
 
+    // Уменьшенные копии лежат рядом с оригиналом и без него не нужны
+    private void deleteThumbnails(Path original) {
+        for (int size : thumbnailGenerator.getSizes()) {
+            Path thumbnail = ThumbnailGenerator.thumbnailPath(original, size);
+            try {
+                Files.deleteIfExists(thumbnail);
+            } catch (IOException ex) {
+                log.warn("Could not delete thumbnail {}", thumbnail, ex);
+            }
+        }
+    }
+
+    private String storeByContent(MultipartFile file, String directory, String fileExtension) throws IOException {
+        Path dirPath = Paths.get(uploadDir).resolve(directory).normalize();
+
+        ContentAddressedStore.StoredFile stored;
+        try (InputStream content = file.getInputStream()) {
+            stored = contentAddressedStore().store(content, dirPath, fileExtension);
+        }
+
+        if (stored.alreadyPresent()) {
+            log.info("File already stored, skipping: {}", stored.path());
+            return stored.fileName();
+        }
+
+        log.info("File stored successfully: {} (deduplicated: {})", stored.path(), stored.deduplicated());
+        thumbnailGenerator.scheduleThumbnails(stored.path());
+        return stored.fileName();
+    }
+
+    private ContentAddressedStore contentAddressedStore() {
+        return new ContentAddressedStore(Paths.get(uploadDir));
+    }
+
     private void validateFile(MultipartFile file) {
         if (file.isEmpty()) {
             throw new FileStorageException("File is empty");
@@ -2,12 +2,17 @@ package ru.skillfactory.learning.platform.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.CreateLessonRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateLessonRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.LessonDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.LessonResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.entity.Lesson;
 import ru.skillfactory.learning.platform.entity.Module;
 import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
@@ -90,14 +95,22 @@ public class LessonServiceImpl implements LessonService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<LessonResponse> getAllLessons() {
-        log.info("Getting all lessons");
+    public PaginatedResponse<LessonResponse> getAllLessons(Pageable pageable) {
+        log.info("Getting all lessons, page: {}", pageable);
 
-        List<Lesson> lessons = lessonRepository.findAll();
+        return PaginatedResponse.from(lessonRepository.findAll(pageable)
+                .map(lessonMapper::toResponse));
+    }
 
-        return lessons.stream()
-                .map(lessonMapper::toResponse)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<LessonResponse> scrollLessons(Long afterId, int size) {
+        log.info("Scrolling lessons after ID: {}, size: {}", afterId, size);
+
+        Slice<Lesson> lessons = lessonRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, PageRequest.ofSize(size));
+
+        return CursorPaginatedResponse.from(lessons.map(lessonMapper::toResponse), LessonResponse::getId);
     }
 
     @Override
@@ -2,12 +2,17 @@ package ru.skillfactory.learning.platform.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.CreateModuleRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateModuleRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.ModuleDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.ModuleResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.entity.Course;
 import ru.skillfactory.learning.platform.entity.Module;
 import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
@@ -15,6 +20,7 @@ import ru.skillfactory.learning.platform.mapper.ModuleMapper;
 import ru.skillfactory.learning.platform.repository.CourseRepository;
 import ru.skillfactory.learning.platform.repository.ModuleRepository;
 import ru.skillfactory.learning.platform.service.ModuleService;
+import ru.skillfactory.learning.platform.service.course.CourseStatsUpdater;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,6 +33,7 @@ public class ModuleServiceImpl implements ModuleService {
     private final ModuleRepository moduleRepository;
     private final CourseRepository courseRepository;
     private final ModuleMapper moduleMapper;
+    private final CourseStatsUpdater courseStatsUpdater;
 
     @Override
     @Transactional
@@ -52,6 +59,7 @@ public class ModuleServiceImpl implements ModuleService {
         module.setCourse(course);
 
         Module savedModule = moduleRepository.save(module);
+        courseStatsUpdater.moduleAdded(course.getId());
         log.info("Module created with ID: {}", savedModule.getId());
 
         return moduleMapper.toResponse(savedModule);
@@ -97,14 +105,22 @@ public class ModuleServiceImpl implements ModuleService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ModuleResponse> getAllModules() {
-        log.info("Getting all modules");
+    public PaginatedResponse<ModuleResponse> getAllModules(Pageable pageable) {
+        log.info("Getting all modules, page: {}", pageable);
 
-        List<Module> modules = moduleRepository.findAll();
+        return PaginatedResponse.from(moduleRepository.findAll(pageable)
+                .map(moduleMapper::toResponse));
+    }
 
-        return modules.stream()
-                .map(moduleMapper::toResponse)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<ModuleResponse> scrollModules(Long afterId, int size) {
+        log.info("Scrolling modules after ID: {}, size: {}", afterId, size);
+
+        Slice<Module> modules = moduleRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, PageRequest.ofSize(size));
+
+        return CursorPaginatedResponse.from(modules.map(moduleMapper::toResponse), ModuleResponse::getId);
     }
 
     @Override
@@ -136,11 +152,11 @@ public class ModuleServiceImpl implements ModuleService {
     public void deleteModule(Long id) {
         log.info("Deleting module with ID: {}", id);
 
-        if (!moduleRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Module", "id", id);
-        }
+        Long courseId = moduleRepository.findCourseIdById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Module", "id", id));
 
         moduleRepository.deleteById(id);
+        courseStatsUpdater.moduleRemoved(courseId);
         log.info("Module deleted with ID: {}", id);
     }
 
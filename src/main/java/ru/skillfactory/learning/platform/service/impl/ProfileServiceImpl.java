@@ -2,10 +2,15 @@ package ru.skillfactory.learning.platform.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.CreateProfileRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateProfileRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.ProfileResponse;
 import ru.skillfactory.learning.platform.entity.Profile;
 import ru.skillfactory.learning.platform.entity.Role;
@@ -16,9 +21,6 @@ import ru.skillfactory.learning.platform.repository.ProfileRepository;
 import ru.skillfactory.learning.platform.repository.UserRepository;
 import ru.skillfactory.learning.platform.service.ProfileService;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -77,20 +79,23 @@ public class ProfileServiceImpl implements ProfileService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ProfileResponse> getAllProfiles() {
-        log.info("Getting all profiles");
-
-        List<Profile> profiles = profileRepository.findAll();
-
-        return profiles.stream()
-                .map(profile -> {
-                    // Явно загружаем пользователя для каждого профиля
-                    if (profile.getUser() != null && profile.getUser().getId() != null) {
-                        profile.setUser(userRepository.findById(profile.getUser().getId()).orElse(null));
-                    }
-                    return profileMapper.toResponse(profile);
-                })
-                .collect(Collectors.toList());
+    public PaginatedResponse<ProfileResponse> getAllProfiles(Pageable pageable) {
+        log.info("Getting all profiles, page: {}", pageable);
+
+        // Пользователь подгружается в том же запросе
+        return PaginatedResponse.from(profileRepository.findAllWithUser(pageable)
+                .map(profileMapper::toResponse));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<ProfileResponse> scrollProfiles(Long afterId, int size) {
+        log.info("Scrolling profiles after ID: {}, size: {}", afterId, size);
+
+        Slice<Profile> profiles = profileRepository.findWithUserByIdGreaterThan(
+                afterId != null ? afterId : 0L, PageRequest.ofSize(size));
+
+        return CursorPaginatedResponse.from(profiles.map(profileMapper::toResponse), ProfileResponse::getId);
     }
 
     @Override
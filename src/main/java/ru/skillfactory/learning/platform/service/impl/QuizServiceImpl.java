@@ -2,9 +2,16 @@ package ru.skillfactory.learning.platform.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.skillfactory.learning.platform.dto.request.*;
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizResultResponse;
@@ -15,12 +22,20 @@ import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.QuizMapper;
 import ru.skillfactory.learning.platform.repository.*;
 import ru.skillfactory.learning.platform.service.QuizService;
+import ru.skillfactory.learning.platform.service.quiz.PendingQuizSubmission;
+import ru.skillfactory.learning.platform.service.quiz.QuizAnswerKey;
+import ru.skillfactory.learning.platform.service.quiz.QuizAnswerKeyCache;
+import ru.skillfactory.learning.platform.service.quiz.QuizAttemptCache;
+import ru.skillfactory.learning.platform.service.quiz.QuizSubmissionWriteBuffer;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,13 +43,17 @@ import java.util.stream.Collectors;
 @Slf4j
 public class QuizServiceImpl implements QuizService {
 
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 64;
+
     private final QuizRepository quizRepository;
     private final ModuleRepository moduleRepository;
     private final UserRepository userRepository;
-    private final QuestionRepository questionRepository;
-    private final AnswerOptionRepository answerOptionRepository;
     private final QuizSubmissionRepository quizSubmissionRepository;
     private final QuizMapper quizMapper;
+    private final QuizAnswerKeyCache answerKeyCache;
+    private final QuizAttemptCache quizAttemptCache;
+    private final QuizSubmissionWriteBuffer writeBuffer;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
     @Transactional
@@ -50,50 +69,51 @@ public class QuizServiceImpl implements QuizService {
             throw new BadRequestException("Module already has a quiz");
         }
 
-        // Создаем тест
-        Quiz quiz = new Quiz();
-        quiz.setTitle(request.getTitle());
-        quiz.setTimeLimit(request.getTimeLimit());
-        quiz.setModule(module);
-
-        Quiz savedQuiz = quizRepository.save(quiz);
-
-        // Создаем вопросы и варианты ответов
-        if (request.getQuestions() != null && !request.getQuestions().isEmpty()) {
-            List<Question> questions = new ArrayList<>();
+        // Вопросы и варианты ответов сохраняются каскадно вместе с тестом
+        Quiz savedQuiz = quizRepository.save(buildQuiz(request, module));
 
-            for (CreateQuestionRequest questionRequest : request.getQuestions()) {
-                Question question = new Question();
-                question.setText(questionRequest.getText());
-                question.setType(questionRequest.getType());
-                question.setQuiz(savedQuiz);
-
-                Question savedQuestion = questionRepository.save(question);
-
-                // Создаем варианты ответов
-                if (questionRequest.getOptions() != null && !questionRequest.getOptions().isEmpty()) {
-                    List<AnswerOption> options = new ArrayList<>();
+        log.info("Quiz created with ID: {}", savedQuiz.getId());
+        return quizMapper.toResponse(savedQuiz);
+    }
 
-                    for (AnswerOptionRequest optionRequest : questionRequest.getOptions()) {
-                        AnswerOption option = new AnswerOption();
-                        option.setText(optionRequest.getText());
-                        option.setIsCorrect(optionRequest.getIsCorrect());
-                        option.setQuestion(savedQuestion);
+    @Override
+    @Transactional
+    public List<QuizResponse> createQuizzes(BulkCreateQuizRequest request) {
+        List<CreateQuizRequest> quizRequests = request.getQuizzes();
+        log.info("Bulk creating {} quizzes", quizRequests.size());
+
+        Set<Long> moduleIds = new HashSet<>();
+        for (CreateQuizRequest quizRequest : quizRequests) {
+            if (!moduleIds.add(quizRequest.getModuleId())) {
+                throw new BadRequestException("Module " + quizRequest.getModuleId() + " appears more than once in the request");
+            }
+        }
 
-                        options.add(answerOptionRepository.save(option));
-                    }
+        // Модули с тестами ищутся одним запросом по quizzes
+        List<Long> modulesWithQuiz = quizRepository.findModuleIdsByModuleIdIn(moduleIds);
+        if (!modulesWithQuiz.isEmpty()) {
+            throw new BadRequestException("Module " + modulesWithQuiz.get(0) + " already has a quiz");
+        }
 
-                    savedQuestion.setOptions(options);
-                }
+        // Все модули загружаются одним запросом
+        Map<Long, Module> modules = moduleRepository.findAllByIdWithQuiz(moduleIds).stream()
+                .collect(Collectors.toMap(Module::getId, Function.identity()));
 
-                questions.add(savedQuestion);
+        List<Quiz> quizzes = new ArrayList<>(quizRequests.size());
+        for (CreateQuizRequest quizRequest : quizRequests) {
+            Module module = modules.get(quizRequest.getModuleId());
+            if (module == null) {
+                throw new ResourceNotFoundException("Module", "id", quizRequest.getModuleId());
             }
-
-            savedQuiz.setQuestions(questions);
+            quizzes.add(buildQuiz(quizRequest, module));
         }
 
-        log.info("Quiz created with ID: {}", savedQuiz.getId());
-        return quizMapper.toResponse(savedQuiz);
+        List<Quiz> savedQuizzes = quizRepository.saveAll(quizzes);
+
+        log.info("Bulk created {} quizzes", savedQuizzes.size());
+        return savedQuizzes.stream()
+                .map(quizMapper::toResponse)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -120,14 +140,22 @@ public class QuizServiceImpl implements QuizService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<QuizResponse> getAllQuizzes() {
-        log.info("Getting all quizzes");
+    public PaginatedResponse<QuizResponse> getAllQuizzes(Pageable pageable) {
+        log.info("Getting all quizzes, page: {}", pageable);
 
-        List<Quiz> quizzes = quizRepository.findAll();
+        return PaginatedResponse.from(quizRepository.findAll(pageable)
+                .map(quizMapper::toResponse));
+    }
 
-        return quizzes.stream()
-                .map(quizMapper::toResponse)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<QuizResponse> scrollQuizzes(Long afterId, int size) {
+        log.info("Scrolling quizzes after ID: {}, size: {}", afterId, size);
+
+        Slice<Quiz> quizzes = quizRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, PageRequest.ofSize(size));
+
+        return CursorPaginatedResponse.from(quizzes.map(quizMapper::toResponse), QuizResponse::getId);
     }
 
     @Override
@@ -146,6 +174,7 @@ public class QuizServiceImpl implements QuizService {
         }
 
         Quiz updatedQuiz = quizRepository.save(quiz);
+        answerKeyCache.invalidate(id);
         log.info("Quiz updated with ID: {}", updatedQuiz.getId());
 
         return quizMapper.toResponse(updatedQuiz);
@@ -161,14 +190,110 @@ public class QuizServiceImpl implements QuizService {
         }
 
         quizRepository.deleteById(id);
+        answerKeyCache.invalidate(id);
         log.info("Quiz deleted with ID: {}", id);
     }
 
     @Override
-    @Transactional
-    public QuizResultResponse takeQuiz(Long studentId, TakeQuizRequest request) {
+    public QuizResultResponse takeQuiz(Long studentId, TakeQuizRequest request, String idempotencyKey) {
         log.info("Student {} taking quiz {}", studentId, request.getQuizId());
 
+        if (idempotencyKey != null) {
+            if (idempotencyKey.isBlank() || idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+                throw new BadRequestException("Idempotency key must be 1 to " + IDEMPOTENCY_KEY_MAX_LENGTH + " characters");
+            }
+
+            // Повтор с тем же ключом отвечает из памяти, без транзакции и запросов к БД
+            QuizResultResponse replayed = quizAttemptCache.get(studentId, idempotencyKey);
+            if (replayed != null) {
+                checkSameQuiz(replayed, request.getQuizId());
+                log.info("Replaying quiz submission ID: {} from memory", replayed.getId());
+                return replayed;
+            }
+        }
+
+        QuizResultResponse result = writeBuffer.isEnabled()
+                ? bufferAttempt(studentId, request, idempotencyKey)
+                : transactionTemplate.execute(status -> recordAttempt(studentId, request, idempotencyKey));
+        if (idempotencyKey != null) {
+            quizAttemptCache.put(studentId, idempotencyKey, result);
+        }
+        return result;
+    }
+
+    private QuizResultResponse recordAttempt(Long studentId, TakeQuizRequest request, String idempotencyKey) {
+        GradedAttempt graded = grade(studentId, request);
+        Long quizId = graded.quiz().getId();
+
+        // Вставка и проверка повторной попытки - одна операция, параллельные повторы не создают дублей
+        int inserted = quizSubmissionRepository.insertIfAbsent(
+                quizId, studentId, graded.percentage(), LocalDateTime.now(), idempotencyKey);
+
+        // Если строки нет, вставка упала на ключе, уже занятом попыткой другого теста
+        QuizSubmission submission = quizSubmissionRepository.findByQuizIdAndStudentId(quizId, studentId)
+                .orElseThrow(() -> new BadRequestException("Idempotency key has already been used for another quiz"));
+
+        if (inserted == 0) {
+            checkRetry(submission.getIdempotencyKey(), idempotencyKey);
+        }
+
+        log.info(inserted == 0 ? "Replaying quiz submission ID: {}" : "Quiz submission created with ID: {}",
+                submission.getId());
+        return toResultResponse(submission, graded.maxScore());
+    }
+
+    /**
+     * Режим отложенной записи. Проверки и расчет идут в короткой транзакции, а постановка в очередь -
+     * уже после нее: ожидание места и запись пакета не держат соединение запроса и не попадают
+     * в его транзакцию. В ответе нет id - строка появится после записи пакета.
+     */
+    private QuizResultResponse bufferAttempt(Long studentId, TakeQuizRequest request, String idempotencyKey) {
+        BufferedAttempt attempt = transactionTemplate.execute(status -> prepareBufferedAttempt(studentId, request, idempotencyKey));
+        if (attempt.submission() == null) {
+            return attempt.result();
+        }
+
+        PendingQuizSubmission queued = writeBuffer.enqueue(attempt.submission());
+        QuizResultResponse result = attempt.result();
+        if (queued == null) {
+            log.info("Quiz submission of student {} for quiz {} queued for write", studentId, request.getQuizId());
+            return result;
+        }
+
+        // Попытка еще ждет записи: повтор с тем же ключом получает ее результат
+        checkRetry(queued.idempotencyKey(), idempotencyKey);
+        result.setScore(queued.score());
+        result.setAbsoluteScore((queued.score() * result.getMaxScore()) / 100);
+        result.setTakenAt(queued.takenAt());
+        return result;
+    }
+
+    private BufferedAttempt prepareBufferedAttempt(Long studentId, TakeQuizRequest request, String idempotencyKey) {
+        GradedAttempt graded = grade(studentId, request);
+
+        Optional<QuizSubmission> stored = quizSubmissionRepository.findByQuizIdAndStudentId(graded.quiz().getId(), studentId);
+        if (stored.isPresent()) {
+            checkRetry(stored.get().getIdempotencyKey(), idempotencyKey);
+            return new BufferedAttempt(null, toResultResponse(stored.get(), graded.maxScore()));
+        }
+        // Попытки этого теста нет, значит записанная строка с тем же ключом относится к другому тесту;
+        // без проверки ответ ушел бы с 201, а строка отбросилась бы при записи пакета
+        if (idempotencyKey != null && quizSubmissionRepository.existsByStudentIdAndIdempotencyKey(studentId, idempotencyKey)) {
+            throw new BadRequestException("Idempotency key has already been used for another quiz");
+        }
+
+        PendingQuizSubmission submission = new PendingQuizSubmission(
+                graded.quiz().getId(), studentId, graded.percentage(), LocalDateTime.now(), idempotencyKey);
+        QuizSubmission unsaved = QuizSubmission.builder()
+                .quiz(graded.quiz())
+                .student(graded.student())
+                .score(submission.score())
+                .takenAt(submission.takenAt())
+                .build();
+        return new BufferedAttempt(submission, toResultResponse(unsaved, graded.maxScore()));
+    }
+
+    private GradedAttempt grade(Long studentId, TakeQuizRequest request) {
         // Проверяем студента
         User student = userRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", studentId));
@@ -181,30 +306,28 @@ public class QuizServiceImpl implements QuizService {
         Quiz quiz = quizRepository.findById(request.getQuizId())
                 .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", request.getQuizId()));
 
-        // Проверяем, не проходил ли уже студент этот тест
-        Optional<QuizSubmission> existingSubmission = quizSubmissionRepository
-                .findByQuizIdAndStudentId(request.getQuizId(), studentId);
-
-        if (existingSubmission.isPresent()) {
-            throw new BadRequestException("Student has already taken this quiz");
-        }
-
-        // Рассчитываем результат
-        int score = calculateScore(request.getQuizId(), request.getAnswers());
-        int maxScore = quiz.getQuestions() != null ? quiz.getQuestions().size() : 0;
+        // Рассчитываем результат по ключу ответов, максимальный балл равен числу вопросов;
+        // в score сохраняется процент
+        QuizAnswerKey answerKey = loadAnswerKey(request.getQuizId());
+        int score = answerKey.score(request.getAnswers());
+        int maxScore = answerKey.questionCount();
         int percentage = maxScore > 0 ? (score * 100) / maxScore : 0;
 
-        // Создаем результат теста
-        QuizSubmission quizSubmission = new QuizSubmission();
-        quizSubmission.setStudent(student);
-        quizSubmission.setQuiz(quiz);
-        quizSubmission.setScore(percentage); // Сохраняем процент
-        quizSubmission.setTakenAt(LocalDateTime.now());
+        return new GradedAttempt(student, quiz, percentage, maxScore);
+    }
 
-        QuizSubmission savedSubmission = quizSubmissionRepository.save(quizSubmission);
-        log.info("Quiz submission created with ID: {}", savedSubmission.getId());
+    // Попытка уже есть: без ключа или с другим ключом это второе прохождение,
+    // с тем же ключом ее записал предыдущий или параллельный повтор - возвращаем ее
+    private void checkRetry(String storedKey, String idempotencyKey) {
+        if (idempotencyKey == null || !idempotencyKey.equals(storedKey)) {
+            throw new BadRequestException("Student has already taken this quiz");
+        }
+    }
 
-        return toResultResponse(savedSubmission);
+    private void checkSameQuiz(QuizResultResponse replayed, Long quizId) {
+        if (!replayed.getQuizId().equals(quizId)) {
+            throw new BadRequestException("Idempotency key has already been used for another quiz");
+        }
     }
 
     @Override
@@ -284,30 +407,60 @@ public class QuizServiceImpl implements QuizService {
     @Override
     @Transactional(readOnly = true)
     public int calculateScore(Long quizId, Map<Long, Long> answers) {
-        Quiz quiz = quizRepository.findByIdWithQuestions(quizId)
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz", "id", quizId));
+        QuizAnswerKey answerKey = loadAnswerKey(quizId);
 
-        int score = 0;
+        // Пустой ключ бывает и у теста без вопросов, поэтому существование проверяем только в этом случае
+        if (answerKey.isEmpty() && !quizRepository.existsById(quizId)) {
+            throw new ResourceNotFoundException("Quiz", "id", quizId);
+        }
 
-        if (quiz.getQuestions() != null) {
-            for (Question question : quiz.getQuestions()) {
-                Long selectedOptionId = answers.get(question.getId());
-
-                if (selectedOptionId != null) {
-                    // Находим выбранный вариант ответа
-                    Optional<AnswerOption> selectedOption = question.getOptions().stream()
-                            .filter(option -> option.getId().equals(selectedOptionId))
-                            .findFirst();
-
-                    // Если вариант найден и он правильный, добавляем балл
-                    if (selectedOption.isPresent() && Boolean.TRUE.equals(selectedOption.get().getIsCorrect())) {
-                        score++;
+        return answerKey.score(answers);
+    }
+
+    @Override
+    public CacheStatsResponse getAnswerKeyCacheStats() {
+        return answerKeyCache.stats();
+    }
+
+    /**
+     * Собирает граф теста в памяти без обращений к БД. Вопросы и варианты ответов получают id
+     * из пула последовательности и вставляются JDBC-батчами при сбросе контекста.
+     */
+    private Quiz buildQuiz(CreateQuizRequest request, Module module) {
+        Quiz quiz = new Quiz();
+        quiz.setTitle(request.getTitle());
+        quiz.setTimeLimit(request.getTimeLimit());
+        quiz.setModule(module);
+
+        List<Question> questions = new ArrayList<>();
+        if (request.getQuestions() != null) {
+            for (CreateQuestionRequest questionRequest : request.getQuestions()) {
+                Question question = new Question();
+                question.setText(questionRequest.getText());
+                question.setType(questionRequest.getType());
+                question.setQuiz(quiz);
+
+                List<AnswerOption> options = new ArrayList<>();
+                if (questionRequest.getOptions() != null) {
+                    for (AnswerOptionRequest optionRequest : questionRequest.getOptions()) {
+                        AnswerOption option = new AnswerOption();
+                        option.setText(optionRequest.getText());
+                        option.setIsCorrect(optionRequest.getIsCorrect());
+                        option.setQuestion(question);
+                        options.add(option);
                     }
                 }
+                question.setOptions(options);
+                questions.add(question);
             }
         }
+        quiz.setQuestions(questions);
+
+        return quiz;
+    }
 
-        return score;
+    private QuizAnswerKey loadAnswerKey(Long quizId) {
+        return answerKeyCache.get(quizId);
     }
 
     private QuizDetailResponse toDetailResponse(Quiz quiz) {
@@ -359,8 +512,14 @@ public class QuizServiceImpl implements QuizService {
     }
 
     private QuizResultResponse toResultResponse(QuizSubmission submission) {
+        // Максимальный возможный балл
+        int maxScore = submission.getQuiz() != null && submission.getQuiz().getQuestions() != null ?
+                submission.getQuiz().getQuestions().size() : 0;
+        return toResultResponse(submission, maxScore);
+    }
+
+    private QuizResultResponse toResultResponse(QuizSubmission submission, int maxScore) {
         QuizResultResponse response = QuizResultResponse.builder()
-                .id(submission.getId())
                 .id(submission.getId())
                 .score(submission.getScore())
                 .takenAt(submission.getTakenAt())
@@ -374,10 +533,6 @@ public class QuizServiceImpl implements QuizService {
         if (submission.getQuiz() != null) {
             response.setQuizId(submission.getQuiz().getId());
             response.setQuizTitle(submission.getQuiz().getTitle());
-
-            // Максимальный возможный балл
-            int maxScore = submission.getQuiz().getQuestions() != null ?
-                    submission.getQuiz().getQuestions().size() : 0;
             response.setMaxScore(maxScore);
 
             // Абсолютный балл
@@ -387,5 +542,11 @@ public class QuizServiceImpl implements QuizService {
 
         return response;
     }
-}
 
+    private record GradedAttempt(User student, Quiz quiz, int percentage, int maxScore) {
+    }
+
+    // Попытка для очереди записи (null, если она уже в БД) и готовый ответ
+    private record BufferedAttempt(PendingQuizSubmission submission, QuizResultResponse result) {
+    }
+}
@@ -0,0 +1,66 @@
+package ru.skillfactory.learning.platform.service.impl;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.service.SecondLevelCacheService;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Статистика и ручная очистка регионов кэша второго уровня Hibernate.
+ * Изменения через JPA обновляют кэш сами (READ_WRITE), очистка нужна после правок данных в обход приложения.
+ */
+@Service
+@Slf4j
+public class SecondLevelCacheServiceImpl implements SecondLevelCacheService {
+
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCacheServiceImpl(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    @Override
+    public List<CacheStatsResponse> getRegionStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> toResponse(region, statistics.getCacheRegionStatistics(region)))
+                .toList();
+    }
+
+    @Override
+    public void evictRegion(String region) {
+        if (sessionFactory.getStatistics().getCacheRegionStatistics(region) == null) {
+            throw new ResourceNotFoundException("Cache region", "name", region);
+        }
+        sessionFactory.getCache().evictRegion(region);
+        log.info("Second-level cache region {} evicted", region);
+    }
+
+    private CacheStatsResponse toResponse(String region, CacheRegionStatistics stats) {
+        if (stats == null) {
+            return CacheStatsResponse.builder().name(region).size(-1).build();
+        }
+
+        long hits = stats.getHitCount();
+        long misses = stats.getMissCount();
+        long elements = stats.getElementCountInMemory();
+        return CacheStatsResponse.builder()
+                .name(region)
+                // Провайдер JCache не сообщает размер региона
+                .size(elements == CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN ? -1 : elements)
+                .hitCount(hits)
+                .missCount(misses)
+                .hitRate(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses))
+                .loadCount(stats.getPutCount())
+                .build();
+    }
+}
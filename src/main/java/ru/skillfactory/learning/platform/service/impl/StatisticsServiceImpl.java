@@ -0,0 +1,75 @@
+package ru.skillfactory.learning.platform.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import ru.skillfactory.learning.platform.configuration.StatisticsProperties;
+import ru.skillfactory.learning.platform.dto.response.StatisticsResponse;
+import ru.skillfactory.learning.platform.service.StatisticsService;
+import ru.skillfactory.learning.platform.service.statistics.StatisticsCalculator;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Отдает снимок статистики из памяти. Снимок пересчитывается, когда становится старше
+ * {@code app.statistics.refresh-interval}; одновременные запросы к устаревшему снимку
+ * запускают только один пересчет. Блокировка - {@link ReentrantLock}, а не монитор: пересчет выполняет
+ * несколько агрегатных запросов, и виртуальный поток внутри {@code synchronized} занимал бы поток-носитель
+ * вместе со всеми потоками, ждущими вход.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private final StatisticsCalculator statisticsCalculator;
+    private final StatisticsProperties properties;
+
+    private final AtomicReference<StatisticsResponse> snapshot = new AtomicReference<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @Override
+    public StatisticsResponse getStatistics() {
+        StatisticsResponse current = snapshot.get();
+        if (isFresh(current)) {
+            return current;
+        }
+
+        refreshLock.lock();
+        try {
+            // Пока ждали блокировку, снимок мог пересчитать другой поток
+            current = snapshot.get();
+            if (isFresh(current)) {
+                return current;
+            }
+            return recalculate();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public StatisticsResponse refreshStatistics() {
+        refreshLock.lock();
+        try {
+            return recalculate();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private StatisticsResponse recalculate() {
+        log.info("Recalculating statistics snapshot");
+        StatisticsResponse statistics = statisticsCalculator.calculate();
+        snapshot.set(statistics);
+        return statistics;
+    }
+
+    private boolean isFresh(StatisticsResponse statistics) {
+        return statistics != null && statistics.getGeneratedAt()
+                .plus(properties.getRefreshInterval())
+                .isAfter(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,330 @@
+package ru.skillfactory.learning.platform.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+import ru.skillfactory.learning.platform.configuration.AttachmentProperties;
+import ru.skillfactory.learning.platform.configuration.FileStorageConfiguration;
+import ru.skillfactory.learning.platform.dto.request.InitAttachmentUploadRequest;
+import ru.skillfactory.learning.platform.dto.response.SubmissionAttachmentResponse;
+import ru.skillfactory.learning.platform.entity.AttachmentStatus;
+import ru.skillfactory.learning.platform.entity.Submission;
+import ru.skillfactory.learning.platform.entity.SubmissionAttachment;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.exception.FileStorageException;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.mapper.SubmissionAttachmentMapper;
+import ru.skillfactory.learning.platform.repository.SubmissionAttachmentRepository;
+import ru.skillfactory.learning.platform.repository.SubmissionRepository;
+import ru.skillfactory.learning.platform.service.SubmissionAttachmentService;
+import ru.skillfactory.learning.platform.service.file.AttachmentFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Возобновляемая загрузка вложений частями. При создании загрузки выделяется файл полного размера,
+ * каждая часть пишется позиционной записью {@link FileChannel#transferFrom} на свое смещение,
+ * поэтому части могут приходить в любом порядке и повторяться. Завершение загрузки - это
+ * переименование файла: части уже лежат на своих местах и повторно не копируются.
+ */
+@Service
+@Slf4j
+public class SubmissionAttachmentServiceImpl implements SubmissionAttachmentService {
+
+    // Битовая маска частей хранится в колонке длиной 8192 байта
+    private static final int MAX_CHUNK_COUNT = 8192 * 8;
+
+    private final SubmissionAttachmentRepository attachmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionAttachmentMapper attachmentMapper;
+    private final AttachmentProperties properties;
+    private final FileStorageConfiguration fileStorageConfiguration;
+    private final TransactionTemplate transactionTemplate;
+
+    public SubmissionAttachmentServiceImpl(SubmissionAttachmentRepository attachmentRepository,
+                                           SubmissionRepository submissionRepository,
+                                           SubmissionAttachmentMapper attachmentMapper,
+                                           AttachmentProperties properties,
+                                           FileStorageConfiguration fileStorageConfiguration,
+                                           PlatformTransactionManager transactionManager) {
+        this.attachmentRepository = attachmentRepository;
+        this.submissionRepository = submissionRepository;
+        this.attachmentMapper = attachmentMapper;
+        this.properties = properties;
+        this.fileStorageConfiguration = fileStorageConfiguration;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional
+    public SubmissionAttachmentResponse initUpload(Long submissionId, InitAttachmentUploadRequest request) {
+        log.info("Starting attachment upload for submission {}: {} ({} bytes)",
+                submissionId, request.getFileName(), request.getSize());
+
+        Submission submission = submissionRepository.findById(submissionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Submission", "id", submissionId));
+
+        long size = request.getSize();
+        if (size > properties.getMaxFileSize().toBytes()) {
+            throw new BadRequestException("File size exceeds maximum limit (" + properties.getMaxFileSize() + ")");
+        }
+
+        int chunkSize = (int) properties.getChunkSize().toBytes();
+        long chunkCount = (size + chunkSize - 1) / chunkSize;
+        if (chunkCount > MAX_CHUNK_COUNT) {
+            throw new BadRequestException("File requires too many chunks, maximum is " + MAX_CHUNK_COUNT);
+        }
+
+        String fileName = StringUtils.getFilename(StringUtils.cleanPath(request.getFileName()));
+        if (!StringUtils.hasText(fileName) || fileName.contains("..")) {
+            throw new BadRequestException("Invalid file name: " + request.getFileName());
+        }
+        String extension = StringUtils.getFilenameExtension(fileName);
+
+        SubmissionAttachment attachment = new SubmissionAttachment();
+        attachment.setSubmission(submission);
+        attachment.setFileName(fileName);
+        attachment.setContentType(request.getContentType());
+        attachment.setSize(size);
+        attachment.setChunkSize(chunkSize);
+        attachment.setChunkCount((int) chunkCount);
+        attachment.setStatus(AttachmentStatus.UPLOADING);
+        attachment.setCreatedAt(LocalDateTime.now());
+        attachment.setLastChunkAt(attachment.getCreatedAt());
+        attachment.setStoragePath(properties.getDirectory() + "/" + submissionId + "/" + UUID.randomUUID()
+                + (extension != null ? "." + extension : ""));
+
+        SubmissionAttachment saved = attachmentRepository.save(attachment);
+
+        // Файл сразу получает полный размер (на большинстве файловых систем - разреженный),
+        // чтобы любую часть можно было записать по ее смещению
+        Path part = partPath(saved);
+        try {
+            Files.createDirectories(part.getParent());
+            try (RandomAccessFile file = new RandomAccessFile(part.toFile(), "rw")) {
+                file.setLength(size);
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("Could not allocate upload file", e);
+        }
+
+        log.info("Attachment upload {} created: {} chunks of {} bytes", saved.getId(), chunkCount, chunkSize);
+        return attachmentMapper.toResponse(saved);
+    }
+
+    @Override
+    public SubmissionAttachmentResponse uploadChunk(Long attachmentId, int chunkIndex, InputStream content) {
+        SubmissionAttachment attachment = findAttachment(attachmentId);
+        if (attachment.getStatus() != AttachmentStatus.UPLOADING) {
+            throw new BadRequestException("Attachment upload " + attachmentId + " is already completed");
+        }
+        if (chunkIndex < 0 || chunkIndex >= attachment.getChunkCount()) {
+            throw new BadRequestException("Chunk index must be between 0 and " + (attachment.getChunkCount() - 1));
+        }
+
+        long position = (long) chunkIndex * attachment.getChunkSize();
+        long expected = Math.min(attachment.getChunkSize(), attachment.getSize() - position);
+
+        // Данные пишутся вне транзакции, чтобы медленный клиент не держал соединение с БД
+        writeChunk(partPath(attachment), content, position, expected, chunkIndex);
+
+        return transactionTemplate.execute(status -> {
+            SubmissionAttachment locked = attachmentRepository.findByIdForUpdate(attachmentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
+            BitSet received = BitSet.valueOf(locked.getReceivedChunks());
+            received.set(chunkIndex);
+            locked.setReceivedChunks(received.toByteArray());
+            locked.setLastChunkAt(LocalDateTime.now());
+            return attachmentMapper.toResponse(locked);
+        });
+    }
+
+    @Override
+    @Transactional
+    public SubmissionAttachmentResponse completeUpload(Long attachmentId) {
+        log.info("Completing attachment upload {}", attachmentId);
+
+        SubmissionAttachment attachment = attachmentRepository.findByIdForUpdate(attachmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
+        if (attachment.getStatus() == AttachmentStatus.COMPLETED) {
+            return attachmentMapper.toResponse(attachment);
+        }
+
+        int missing = attachment.getChunkCount() - BitSet.valueOf(attachment.getReceivedChunks()).cardinality();
+        if (missing > 0) {
+            throw new BadRequestException("Attachment upload " + attachmentId + " is missing "
+                    + missing + " of " + attachment.getChunkCount() + " chunks");
+        }
+
+        Path target = storagePath(attachment);
+        try {
+            Files.move(partPath(attachment), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            // Файл уже переименован предыдущей попыткой, транзакция которой не зафиксировалась
+            if (!Files.isRegularFile(target)) {
+                throw new FileStorageException("Upload file is missing for attachment " + attachmentId, e);
+            }
+        } catch (IOException e) {
+            throw new FileStorageException("Could not complete attachment upload " + attachmentId, e);
+        }
+
+        attachment.setStatus(AttachmentStatus.COMPLETED);
+        attachment.setCompletedAt(LocalDateTime.now());
+
+        log.info("Attachment upload {} completed", attachmentId);
+        return attachmentMapper.toResponse(attachment);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SubmissionAttachmentResponse getAttachment(Long attachmentId) {
+        return attachmentMapper.toResponse(findAttachment(attachmentId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SubmissionAttachmentResponse> getAttachmentsBySubmission(Long submissionId) {
+        if (!submissionRepository.existsById(submissionId)) {
+            throw new ResourceNotFoundException("Submission", "id", submissionId);
+        }
+
+        return attachmentRepository.findBySubmissionIdOrderByIdAsc(submissionId).stream()
+                .map(attachmentMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentFile loadAttachmentFile(Long attachmentId) {
+        SubmissionAttachment attachment = findAttachment(attachmentId);
+        if (attachment.getStatus() != AttachmentStatus.COMPLETED) {
+            throw new BadRequestException("Attachment upload " + attachmentId + " is not completed");
+        }
+
+        return new AttachmentFile(attachment.getFileName(), attachment.getContentType(),
+                new FileSystemResource(storagePath(attachment)));
+    }
+
+    @Override
+    @Transactional
+    public void deleteAttachments(Long submissionId) {
+        int deleted = attachmentRepository.deleteBySubmissionId(submissionId);
+        if (deleted == 0) {
+            return;
+        }
+
+        Path directory = uploadRoot().resolve(properties.getDirectory()).resolve(String.valueOf(submissionId));
+        // Файлы удаляются только после фиксации транзакции, иначе откат оставил бы записи без файлов
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteDirectory(directory);
+                }
+            });
+        } else {
+            deleteDirectory(directory);
+        }
+        log.info("Deleted {} attachments of submission {}", deleted, submissionId);
+    }
+
+    @Override
+    @Transactional
+    public int removeExpiredUploads() {
+        // Истекают по бездействию: большая загрузка, которая идет дольше срока, не удаляется
+        LocalDateTime inactiveSince = LocalDateTime.now().minus(properties.getExpireAfter());
+        List<SubmissionAttachment> expired =
+                attachmentRepository.findInactiveSince(AttachmentStatus.UPLOADING, inactiveSince);
+
+        for (SubmissionAttachment attachment : expired) {
+            try {
+                Files.deleteIfExists(partPath(attachment));
+            } catch (IOException e) {
+                log.warn("Could not delete upload file of attachment {}", attachment.getId(), e);
+            }
+        }
+        attachmentRepository.deleteAll(expired);
+
+        if (!expired.isEmpty()) {
+            log.info("Removed {} expired attachment uploads", expired.size());
+        }
+        return expired.size();
+    }
+
+    private void writeChunk(Path part, InputStream content, long position, long expected, int chunkIndex) {
+        // Без CREATE: запись в уже завершенную или удаленную загрузку не должна создавать файл заново
+        try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE);
+             ReadableByteChannel source = Channels.newChannel(content)) {
+            long written = 0;
+            while (written < expected) {
+                // Позиционная запись не сдвигает позицию канала, поэтому части пишутся независимо
+                long transferred = channel.transferFrom(source, position + written, expected - written);
+                if (transferred == 0) {
+                    break;
+                }
+                written += transferred;
+            }
+
+            if (written < expected) {
+                throw new BadRequestException("Chunk " + chunkIndex + " is incomplete: expected "
+                        + expected + " bytes, received " + written);
+            }
+            if (content.read() != -1) {
+                throw new BadRequestException("Chunk " + chunkIndex + " exceeds expected size of " + expected + " bytes");
+            }
+        } catch (NoSuchFileException e) {
+            throw new BadRequestException("Attachment upload is no longer in progress");
+        } catch (IOException e) {
+            throw new FileStorageException("Could not write chunk " + chunkIndex, e);
+        }
+    }
+
+    private SubmissionAttachment findAttachment(Long attachmentId) {
+        return attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
+    }
+
+    private Path storagePath(SubmissionAttachment attachment) {
+        return uploadRoot().resolve(attachment.getStoragePath()).normalize();
+    }
+
+    private Path partPath(SubmissionAttachment attachment) {
+        Path target = storagePath(attachment);
+        return target.resolveSibling(target.getFileName() + ".part");
+    }
+
+    private Path uploadRoot() {
+        return Paths.get(fileStorageConfiguration.getUploadDir()).toAbsolutePath().normalize();
+    }
+
+    private void deleteDirectory(Path directory) {
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            log.warn("Could not delete attachment directory {}", directory, e);
+        }
+    }
+}
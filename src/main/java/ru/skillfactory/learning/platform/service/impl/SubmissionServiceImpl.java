@@ -2,10 +2,15 @@ package ru.skillfactory.learning.platform.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.SubmitAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateSubmissionRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.SubmissionDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.SubmissionResponse;
 import ru.skillfactory.learning.platform.entity.Assignment;
@@ -18,7 +23,9 @@ import ru.skillfactory.learning.platform.mapper.SubmissionMapper;
 import ru.skillfactory.learning.platform.repository.AssignmentRepository;
 import ru.skillfactory.learning.platform.repository.SubmissionRepository;
 import ru.skillfactory.learning.platform.repository.UserRepository;
+import ru.skillfactory.learning.platform.service.SubmissionAttachmentService;
 import ru.skillfactory.learning.platform.service.SubmissionService;
+import ru.skillfactory.learning.platform.service.course.CourseStatsUpdater;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -33,6 +40,8 @@ public class SubmissionServiceImpl implements SubmissionService {
     private final AssignmentRepository assignmentRepository;
     private final UserRepository userRepository;
     private final SubmissionMapper submissionMapper;
+    private final CourseStatsUpdater courseStatsUpdater;
+    private final SubmissionAttachmentService submissionAttachmentService;
 
     @Override
     @Transactional
@@ -69,6 +78,7 @@ public class SubmissionServiceImpl implements SubmissionService {
         submission.setSubmittedAt(LocalDateTime.now());
 
         Submission savedSubmission = submissionRepository.save(submission);
+        courseStatsUpdater.submissionAdded(assignment.getId());
         log.info("Submission created with ID: {}", savedSubmission.getId());
 
         return submissionMapper.toResponse(savedSubmission);
@@ -139,14 +149,22 @@ public class SubmissionServiceImpl implements SubmissionService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<SubmissionResponse> getAllSubmissions() {
-        log.info("Getting all submissions");
+    public PaginatedResponse<SubmissionResponse> getAllSubmissions(Pageable pageable) {
+        log.info("Getting all submissions, page: {}", pageable);
 
-        List<Submission> submissions = submissionRepository.findAll();
+        return PaginatedResponse.from(submissionRepository.findAll(pageable)
+                .map(submissionMapper::toResponse));
+    }
 
-        return submissions.stream()
-                .map(submissionMapper::toResponse)
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<SubmissionResponse> scrollSubmissions(Long afterId, int size) {
+        log.info("Scrolling submissions after ID: {}, size: {}", afterId, size);
+
+        Slice<Submission> submissions = submissionRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, PageRequest.ofSize(size));
+
+        return CursorPaginatedResponse.from(submissions.map(submissionMapper::toResponse), SubmissionResponse::getId);
     }
 
     @Override
@@ -156,6 +174,7 @@ public class SubmissionServiceImpl implements SubmissionService {
 
         Submission submission = submissionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Submission", "id", id));
+        Integer oldScore = submission.getScore();
 
         // Студенты могут обновлять только контент до дедлайна
         if (request.getContent() != null) {
@@ -181,6 +200,7 @@ public class SubmissionServiceImpl implements SubmissionService {
         }
 
         Submission updatedSubmission = submissionRepository.save(submission);
+        courseStatsUpdater.submissionScoreChanged(submission.getAssignment().getId(), oldScore, submission.getScore());
         log.info("Submission updated with ID: {}", updatedSubmission.getId());
 
         return submissionMapper.toResponse(updatedSubmission);
@@ -191,11 +211,12 @@ public class SubmissionServiceImpl implements SubmissionService {
     public void deleteSubmission(Long id) {
         log.info("Deleting submission with ID: {}", id);
 
-        if (!submissionRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Submission", "id", id);
-        }
+        Submission submission = submissionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Submission", "id", id));
 
-        submissionRepository.deleteById(id);
+        submissionAttachmentService.deleteAttachments(id);
+        submissionRepository.delete(submission);
+        courseStatsUpdater.submissionRemoved(submission.getAssignment().getId(), submission.getScore());
         log.info("Submission deleted with ID: {}", id);
     }
 
@@ -211,10 +232,12 @@ public class SubmissionServiceImpl implements SubmissionService {
             throw new BadRequestException("Score must be between 0 and " + submission.getAssignment().getMaxScore());
         }
 
+        Integer oldScore = submission.getScore();
         submission.setScore(score);
         submission.setFeedback(feedback);
 
         Submission gradedSubmission = submissionRepository.save(submission);
+        courseStatsUpdater.submissionScoreChanged(submission.getAssignment().getId(), oldScore, score);
         log.info("Submission graded with ID: {}", id);
 
         return submissionMapper.toResponse(gradedSubmission);
@@ -231,10 +254,9 @@ public class SubmissionServiceImpl implements SubmissionService {
     public List<SubmissionResponse> getUngradedSubmissions() {
         log.info("Getting ungraded submissions");
 
-        List<Submission> allSubmissions = submissionRepository.findAll();
+        List<Submission> submissions = submissionRepository.findUngraded();
 
-        return allSubmissions.stream()
-                .filter(submission -> submission.getScore() == null)
+        return submissions.stream()
                 .map(submissionMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -2,10 +2,15 @@ package ru.skillfactory.learning.platform.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.skillfactory.learning.platform.dto.request.CreateUserRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateUserRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.UserDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.UserResponse;
 import ru.skillfactory.learning.platform.entity.Profile;
@@ -94,14 +99,22 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> getAllUsers() {
-        log.info("Getting all users");
+    public PaginatedResponse<UserResponse> getAllUsers(Pageable pageable) {
+        log.info("Getting all users, page: {}", pageable);
 
-        List<User> users = userRepository.findAll();
+        return PaginatedResponse.from(userRepository.findAll(pageable)
+                .map(userMapper::toResponse));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPaginatedResponse<UserResponse> scrollUsers(Long afterId, int size) {
+        log.info("Scrolling users after ID: {}, size: {}", afterId, size);
+
+        Slice<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, PageRequest.ofSize(size));
 
-        return users.stream()
-                .map(userMapper::toResponse)
-                .collect(Collectors.toList());
+        return CursorPaginatedResponse.from(users.map(userMapper::toResponse), UserResponse::getId);
     }
 
     @Override
@@ -123,18 +136,14 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<UserResponse> searchUsers(String keyword) {
-        log.info("Searching users with keyword: {}", keyword);
-
-        // Простой поиск по имени и email
-        List<User> users = userRepository.findAll().stream()
-                .filter(user -> user.getName().toLowerCase().contains(keyword.toLowerCase()) ||
-                        user.getEmail().toLowerCase().contains(keyword.toLowerCase()))
-                .toList();
-
-        return users.stream()
-                .map(userMapper::toResponse)
-                .collect(Collectors.toList());
+    public PaginatedResponse<UserResponse> searchUsers(String keyword, Pageable pageable) {
+        log.info("Searching users with keyword: {}, page: {}", keyword, pageable);
+
+        // Поиск выполняется в БД постранично, шаблон приводится к нижнему регистру
+        String pattern = "%" + escapeLikePattern(keyword.trim().toLowerCase()) + "%";
+
+        return PaginatedResponse.from(userRepository.searchByPattern(pattern, pageable)
+                .map(userMapper::toResponse));
     }
 
     @Override
@@ -229,6 +238,12 @@ public class UserServiceImpl implements UserService {
         return userMapper.toResponse(updatedUser);
     }
 
+    private String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+
     private UserDetailResponse toDetailResponse(User user) {
         UserDetailResponse response = new UserDetailResponse();
         response.setId(user.getId());
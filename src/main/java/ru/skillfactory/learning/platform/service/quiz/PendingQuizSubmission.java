@@ -0,0 +1,25 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import java.time.LocalDateTime;
+
+/**
+ * Проверенная попытка прохождения теста, ожидающая пакетной записи в БД.
+ *
+ * @param score балл в процентах, как в {@code QuizSubmission.score}
+ */
+public record PendingQuizSubmission(Long quizId,
+                                    Long studentId,
+                                    int score,
+                                    LocalDateTime takenAt,
+                                    String idempotencyKey) {
+
+    // Одна попытка на студента и тест, как uk_quiz_submissions_quiz_student
+    String attemptKey() {
+        return quizId + ":" + studentId;
+    }
+
+    // Ключ идемпотентности уникален в пределах студента, как uk_quiz_submissions_student_key
+    String idempotencyScope() {
+        return idempotencyKey == null ? null : studentId + ":" + idempotencyKey;
+    }
+}
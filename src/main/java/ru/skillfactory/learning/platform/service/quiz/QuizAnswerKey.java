@@ -0,0 +1,98 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import ru.skillfactory.learning.platform.repository.projection.CorrectAnswerRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Компактный ключ ответов теста: отсортированные идентификаторы вопросов и для каждого
+ * вопроса отсортированный диапазон идентификаторов правильных вариантов в общем массиве.
+ * Проверка ответа сводится к двум бинарным поискам по примитивным массивам.
+ * Объект неизменяем и может разделяться между потоками.
+ */
+public final class QuizAnswerKey {
+
+    private static final Comparator<CorrectAnswerRow> ROW_ORDER = Comparator
+            .comparing(CorrectAnswerRow::questionId)
+            .thenComparing(CorrectAnswerRow::optionId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final long[] questionIds;
+    // Правильные варианты вопроса questionIds[i] лежат в correctOptionIds[correctFrom[i]..correctFrom[i + 1])
+    private final int[] correctFrom;
+    private final long[] correctOptionIds;
+
+    private QuizAnswerKey(long[] questionIds, int[] correctFrom, long[] correctOptionIds) {
+        this.questionIds = questionIds;
+        this.correctFrom = correctFrom;
+        this.correctOptionIds = correctOptionIds;
+    }
+
+    public static QuizAnswerKey of(List<CorrectAnswerRow> rows) {
+        List<CorrectAnswerRow> sorted = new ArrayList<>(rows);
+        sorted.sort(ROW_ORDER);
+
+        long[] questions = new long[sorted.size()];
+        int[] from = new int[sorted.size() + 1];
+        long[] options = new long[sorted.size()];
+        int questionCount = 0;
+        int optionCount = 0;
+
+        for (CorrectAnswerRow row : sorted) {
+            if (questionCount == 0 || questions[questionCount - 1] != row.questionId()) {
+                questions[questionCount] = row.questionId();
+                from[questionCount] = optionCount;
+                questionCount++;
+            }
+            if (row.optionId() != null
+                    && (optionCount == from[questionCount - 1] || options[optionCount - 1] != row.optionId())) {
+                options[optionCount++] = row.optionId();
+            }
+        }
+        from[questionCount] = optionCount;
+
+        return new QuizAnswerKey(
+                Arrays.copyOf(questions, questionCount),
+                Arrays.copyOf(from, questionCount + 1),
+                Arrays.copyOf(options, optionCount));
+    }
+
+    /**
+     * Количество вопросов теста, оно же максимальный балл.
+     */
+    public int questionCount() {
+        return questionIds.length;
+    }
+
+    public boolean isEmpty() {
+        return questionIds.length == 0;
+    }
+
+    /**
+     * Считает количество правильных ответов. Ответы на вопросы, которых нет в тесте, игнорируются.
+     */
+    public int score(Map<Long, Long> answers) {
+        if (answers == null || answers.isEmpty()) {
+            return 0;
+        }
+
+        int score = 0;
+        for (Map.Entry<Long, Long> answer : answers.entrySet()) {
+            Long questionId = answer.getKey();
+            Long optionId = answer.getValue();
+            if (questionId == null || optionId == null) {
+                continue;
+            }
+
+            int question = Arrays.binarySearch(questionIds, questionId);
+            if (question >= 0 && Arrays.binarySearch(correctOptionIds,
+                    correctFrom[question], correctFrom[question + 1], optionId) >= 0) {
+                score++;
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,87 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.skillfactory.learning.platform.configuration.QuizAnswerKeyCacheProperties;
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+import ru.skillfactory.learning.platform.repository.QuestionRepository;
+import ru.skillfactory.learning.platform.service.cache.CallerLoads;
+
+/**
+ * Кэш ключей ответов по id теста. Во время экзамена один и тот же тест проверяется
+ * тысячи раз подряд, поэтому ключ строится из БД один раз и дальше берется из памяти.
+ * Записи вытесняются по размеру и времени жизни и сбрасываются при изменении теста,
+ * его вопросов или вариантов ответа.
+ */
+@Component
+@Slf4j
+public class QuizAnswerKeyCache {
+
+    public static final String NAME = "quizAnswerKeys";
+
+    private final QuestionRepository questionRepository;
+    private final AsyncCache<Long, QuizAnswerKey> cache;
+
+    public QuizAnswerKeyCache(QuestionRepository questionRepository, QuizAnswerKeyCacheProperties properties) {
+        this.questionRepository = questionRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .buildAsync();
+    }
+
+    public QuizAnswerKey get(Long quizId) {
+        return CallerLoads.get(cache, quizId,
+                id -> QuizAnswerKey.of(questionRepository.findCorrectAnswersByQuizId(id)));
+    }
+
+    /**
+     * Сбрасывает ключ теста. Внутри транзакции сброс откладывается до коммита,
+     * чтобы параллельная проверка не закэшировала снова старые данные.
+     */
+    public void invalidate(Long quizId) {
+        afterCommit(() -> {
+            cache.synchronous().invalidate(quizId);
+            log.debug("Answer key invalidated for quiz ID: {}", quizId);
+        });
+    }
+
+    public void invalidateAll() {
+        afterCommit(() -> {
+            cache.synchronous().invalidateAll();
+            log.debug("All answer keys invalidated");
+        });
+    }
+
+    public CacheStatsResponse stats() {
+        CacheStats stats = cache.synchronous().stats();
+        return CacheStatsResponse.builder()
+                .name(NAME)
+                .size(cache.synchronous().estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .loadCount(stats.loadCount())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
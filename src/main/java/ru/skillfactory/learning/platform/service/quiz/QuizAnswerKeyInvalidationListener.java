@@ -0,0 +1,59 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import ru.skillfactory.learning.platform.entity.AnswerOption;
+import ru.skillfactory.learning.platform.entity.Question;
+import ru.skillfactory.learning.platform.entity.Quiz;
+
+/**
+ * JPA-слушатель вопросов и вариантов ответа: любое изменение сбрасывает ключ ответов теста.
+ * Кэш получаем лениво, потому что слушатель создается вместе с EntityManagerFactory.
+ */
+@Component
+public class QuizAnswerKeyInvalidationListener {
+
+    private final ObjectProvider<QuizAnswerKeyCache> answerKeyCache;
+
+    public QuizAnswerKeyInvalidationListener(ObjectProvider<QuizAnswerKeyCache> answerKeyCache) {
+        this.answerKeyCache = answerKeyCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        QuizAnswerKeyCache cache = answerKeyCache.getIfAvailable();
+        if (cache == null) {
+            return;
+        }
+
+        Long quizId = resolveQuizId(entity);
+        if (quizId != null) {
+            cache.invalidate(quizId);
+        } else {
+            // Тест нельзя определить без загрузки связей, сбрасываем кэш целиком
+            cache.invalidateAll();
+        }
+    }
+
+    private Long resolveQuizId(Object entity) {
+        Question question = null;
+        if (entity instanceof Question changedQuestion) {
+            question = changedQuestion;
+        } else if (entity instanceof AnswerOption option && Hibernate.isInitialized(option.getQuestion())) {
+            question = option.getQuestion();
+        }
+
+        if (question == null) {
+            return null;
+        }
+        Quiz quiz = question.getQuiz();
+        // У прокси id доступен без инициализации
+        return quiz != null ? quiz.getId() : null;
+    }
+}
@@ -0,0 +1,38 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+import ru.skillfactory.learning.platform.configuration.QuizAttemptCacheProperties;
+import ru.skillfactory.learning.platform.dto.response.QuizResultResponse;
+
+/**
+ * Результаты попыток по ключу идемпотентности студента. Клиенты повторяют отправку теста
+ * по таймауту, и повтор с тем же ключом получает сохраненный результат без транзакции
+ * и запросов к БД. Кладутся только закоммиченные попытки; после вытеснения повтор
+ * распознается в БД по уникальному индексу.
+ */
+@Component
+public class QuizAttemptCache {
+
+    private final Cache<String, QuizResultResponse> cache;
+
+    public QuizAttemptCache(QuizAttemptCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .build();
+    }
+
+    public QuizResultResponse get(Long studentId, String idempotencyKey) {
+        return cache.getIfPresent(key(studentId, idempotencyKey));
+    }
+
+    public void put(Long studentId, String idempotencyKey, QuizResultResponse result) {
+        cache.put(key(studentId, idempotencyKey), result);
+    }
+
+    private static String key(Long studentId, String idempotencyKey) {
+        return studentId + ":" + idempotencyKey;
+    }
+}
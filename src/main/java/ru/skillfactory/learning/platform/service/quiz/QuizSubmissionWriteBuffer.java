@@ -0,0 +1,217 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.skillfactory.learning.platform.configuration.QuizWriteBehindProperties;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Отложенная запись результатов тестов (write-behind). В конце экзамена тысячи попыток приходят
+ * за секунды; вместо транзакции на каждую они копятся в ограниченной очереди и пишутся пакетными
+ * вставками по расписанию или при накоплении {@code batch-size} строк.
+ * <p>
+ * Заполненная очередь ждет место {@code offer-timeout}, затем запрос получает 503. При остановке
+ * приложения очередь дописывается в БД; при аварийном завершении процесса неподтвержденные
+ * записи теряются, поэтому режим включается явно ({@code app.quiz.write-behind.enabled}).
+ * <p>
+ * Если пакет не записался, его строки пишутся по одной: строки, нарушающие ограничения БД,
+ * откладываются в лог и не мешают остальным, а при недоступности БД попытка возвращается
+ * в очередь не более {@code max-retries} раз.
+ */
+@Component
+@Slf4j
+public class QuizSubmissionWriteBuffer {
+
+    // Дубль, пропущенный до записи (например, после перезапуска), отбрасывается уникальным индексом
+    private static final String INSERT_SQL = "INSERT INTO quiz_submissions "
+            + "(quiz_id, student_id, score, taken_at, idempotency_key) VALUES (?, ?, ?, ?, ?) "
+            + "ON CONFLICT DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final QuizWriteBehindProperties properties;
+    private final BlockingQueue<PendingQuizSubmission> queue;
+    // Попытки в очереди по (тест, студент): повтор до записи в БД распознается здесь
+    private final ConcurrentMap<String, PendingQuizSubmission> pending = new ConcurrentHashMap<>();
+    // Попытки в очереди по (студент, ключ идемпотентности): ключ, занятый другим тестом, отклоняется до записи
+    private final ConcurrentMap<String, PendingQuizSubmission> pendingKeys = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Число неудачных записей попытки; меняется только под flushLock
+    private final Map<String, Integer> failures = new HashMap<>();
+
+    public QuizSubmissionWriteBuffer(JdbcTemplate jdbcTemplate, QuizWriteBehindProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Ставит попытку в очередь записи.
+     *
+     * @return попытку того же студента по тому же тесту, уже ожидающую записи, или {@code null},
+     *         если переданная попытка принята
+     * @throws BadRequestException если ключ идемпотентности уже занят ожидающей попыткой другого теста
+     * @throws ServiceUnavailableException если очередь не освободилась за {@code offer-timeout}
+     */
+    public PendingQuizSubmission enqueue(PendingQuizSubmission submission) {
+        PendingQuizSubmission queued = pending.putIfAbsent(submission.attemptKey(), submission);
+        if (queued != null) {
+            return queued;
+        }
+
+        String scope = submission.idempotencyScope();
+        if (scope != null && pendingKeys.putIfAbsent(scope, submission) != null) {
+            pending.remove(submission.attemptKey(), submission);
+            throw new BadRequestException("Idempotency key has already been used for another quiz");
+        }
+
+        if (!offer(submission)) {
+            release(submission);
+            throw new ServiceUnavailableException("Quiz submission queue is full, please retry later");
+        }
+
+        // Пакет набран - пишем один пакет сразу, остальное заберет запись по расписанию
+        if (queue.size() >= properties.getBatchSize() && flushLock.tryLock()) {
+            try {
+                writeNextBatch(new ArrayList<>(properties.getBatchSize()));
+            } finally {
+                flushLock.unlock();
+            }
+        }
+        return null;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.quiz.write-behind.flush-interval:200ms}")
+    public void flush() {
+        if (queue.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            drain();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (!queue.isEmpty()) {
+            log.info("Flushing {} pending quiz submissions before shutdown", queue.size());
+            flush();
+        }
+    }
+
+    private boolean offer(PendingQuizSubmission submission) {
+        try {
+            return queue.offer(submission, properties.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drain() {
+        List<PendingQuizSubmission> batch = new ArrayList<>(properties.getBatchSize());
+        while (writeNextBatch(batch)) {
+            batch.clear();
+        }
+    }
+
+    /**
+     * @return {@code true}, если пакет записан и можно брать следующий; {@code false}, если очередь
+     *         пуста или БД недоступна и запись откладывается до следующего запуска
+     */
+    private boolean writeNextBatch(List<PendingQuizSubmission> batch) {
+        if (queue.drainTo(batch, properties.getBatchSize()) == 0) {
+            return false;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+            batch.forEach(this::written);
+            log.debug("Wrote {} quiz submissions", batch.size());
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Failed to write batch of {} quiz submissions, writing them one by one", batch.size(), e);
+            return writeOneByOne(batch);
+        }
+    }
+
+    // Одна плохая строка (например, удаленный тест) не должна блокировать весь пакет
+    private boolean writeOneByOne(List<PendingQuizSubmission> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingQuizSubmission submission = batch.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, submission));
+                written(submission);
+            } catch (DataIntegrityViolationException e) {
+                release(submission);
+                failures.remove(submission.attemptKey());
+                log.error("Rejected quiz submission {}: {}", submission, e.getMostSpecificCause().getMessage());
+            } catch (DataAccessException e) {
+                // БД недоступна: оставшиеся строки ждут следующей записи
+                log.error("Failed to write quiz submissions, {} returned to the queue", batch.size() - i, e);
+                batch.subList(i, batch.size()).forEach(this::requeue);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void requeue(PendingQuizSubmission submission) {
+        int attempts = failures.merge(submission.attemptKey(), 1, Integer::sum);
+        if (attempts > properties.getMaxRetries() || !queue.offer(submission)) {
+            release(submission);
+            failures.remove(submission.attemptKey());
+            log.error("Dropped quiz submission {} after {} failed writes", submission, attempts);
+        }
+    }
+
+    private void written(PendingQuizSubmission submission) {
+        release(submission);
+        failures.remove(submission.attemptKey());
+    }
+
+    private void release(PendingQuizSubmission submission) {
+        pending.remove(submission.attemptKey(), submission);
+        String scope = submission.idempotencyScope();
+        if (scope != null) {
+            pendingKeys.remove(scope, submission);
+        }
+    }
+
+    private void bind(PreparedStatement ps, PendingQuizSubmission submission) throws SQLException {
+        ps.setLong(1, submission.quizId());
+        ps.setLong(2, submission.studentId());
+        ps.setInt(3, submission.score());
+        ps.setTimestamp(4, Timestamp.valueOf(submission.takenAt()));
+        ps.setString(5, submission.idempotencyKey());
+    }
+}
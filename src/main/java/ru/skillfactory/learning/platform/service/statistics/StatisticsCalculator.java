@@ -0,0 +1,129 @@
+package ru.skillfactory.learning.platform.service.statistics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ru.skillfactory.learning.platform.dto.response.StatisticsResponse;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.entity.Role;
+import ru.skillfactory.learning.platform.repository.AssignmentRepository;
+import ru.skillfactory.learning.platform.repository.CourseRepository;
+import ru.skillfactory.learning.platform.repository.CourseReviewRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
+import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
+import ru.skillfactory.learning.platform.repository.QuizRepository;
+import ru.skillfactory.learning.platform.repository.QuizSubmissionRepository;
+import ru.skillfactory.learning.platform.repository.SubmissionRepository;
+import ru.skillfactory.learning.platform.repository.UserRepository;
+import ru.skillfactory.learning.platform.repository.projection.CategoryCountRow;
+import ru.skillfactory.learning.platform.repository.projection.CourseStatsTotalsRow;
+import ru.skillfactory.learning.platform.repository.projection.EnrollmentStatusCountRow;
+import ru.skillfactory.learning.platform.repository.projection.PopularCourseRow;
+import ru.skillfactory.learning.platform.repository.projection.RoleCountRow;
+import ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Считает {@link StatisticsResponse} агрегирующими запросами (COUNT, SUM, AVG, GROUP BY):
+ * ни одна сущность не загружается, число запросов не зависит от объема данных.
+ * Счетчики курсов берутся из {@code course_stats}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsCalculator {
+
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final CourseStatsRepository courseStatsRepository;
+    private final CourseReviewRepository courseReviewRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final AssignmentRepository assignmentRepository;
+    private final SubmissionRepository submissionRepository;
+    private final QuizRepository quizRepository;
+    private final QuizSubmissionRepository quizSubmissionRepository;
+
+    @Transactional(readOnly = true)
+    public StatisticsResponse calculate() {
+        long started = System.nanoTime();
+        StatisticsResponse statistics = new StatisticsResponse();
+
+        // Пользователи
+        Map<Role, Long> usersByRole = new EnumMap<>(Role.class);
+        for (RoleCountRow row : userRepository.countByRole()) {
+            usersByRole.put(row.role(), row.count());
+        }
+        statistics.setTotalStudents(usersByRole.getOrDefault(Role.STUDENT, 0L));
+        statistics.setTotalTeachers(usersByRole.getOrDefault(Role.TEACHER, 0L));
+
+        // Курсы
+        statistics.setTotalCourses(courseRepository.count());
+
+        Map<String, Long> coursesByCategory = new LinkedHashMap<>();
+        for (CategoryCountRow row : courseRepository.countByCategory()) {
+            coursesByCategory.merge(row.categoryName(), row.courseCount(), Long::sum);
+        }
+        statistics.setCoursesByCategory(coursesByCategory);
+
+        CourseStatsTotalsRow courseTotals = courseStatsRepository.findTotals();
+        Double averageRating = courseReviewRepository.findAverageRating();
+        if (averageRating != null) {
+            statistics.setAverageCourseRating(Math.round(averageRating * 10) / 10.0);
+        }
+        statistics.setUngradedSubmissionsCount(courseTotals.ungradedSubmissionCount());
+
+        List<PopularCourseRow> popular = courseStatsRepository.findMostPopular(PageRequest.of(0, 1));
+        if (!popular.isEmpty()) {
+            statistics.setMostPopularCourseId(popular.get(0).courseId());
+            statistics.setMostPopularCourseTitle(popular.get(0).title());
+        }
+
+        // Записи на курсы
+        Map<EnrollmentStatus, Long> enrollmentsByStatus = new EnumMap<>(EnrollmentStatus.class);
+        long totalEnrollments = 0;
+        for (EnrollmentStatusCountRow row : enrollmentRepository.countByStatus()) {
+            if (row.status() != null) {
+                enrollmentsByStatus.put(row.status(), row.count());
+            }
+            totalEnrollments += row.count();
+        }
+        long completed = enrollmentsByStatus.getOrDefault(EnrollmentStatus.COMPLETED, 0L);
+        statistics.setTotalEnrollments(totalEnrollments);
+        statistics.setCompletedCoursesCount(completed);
+        statistics.setActiveStudentsCount(enrollmentRepository.countDistinctStudentsByStatus(EnrollmentStatus.ACTIVE));
+        if (totalEnrollments > 0) {
+            statistics.setAverageCompletionRate(Math.round(completed * 1000.0 / totalEnrollments) / 10.0);
+        }
+
+        // Задания и работы
+        statistics.setTotalAssignments(assignmentRepository.count());
+        statistics.setOverdueAssignmentsCount(assignmentRepository.countByDueDateBefore(LocalDate.now()));
+
+        ScoreStatsRow submissions = submissionRepository.findScoreStats();
+        statistics.setTotalSubmissions(submissions.total());
+        statistics.setAverageAssignmentScore(round(submissions.averagePercent()));
+
+        // Тесты
+        statistics.setTotalQuizzes(quizRepository.count());
+
+        ScoreStatsRow quizzes = quizSubmissionRepository.findScoreStats();
+        statistics.setTotalQuizAttempts(quizzes.total());
+        statistics.setAverageQuizScore(round(quizzes.averagePercent()));
+
+        statistics.setGeneratedAt(LocalDateTime.now());
+        log.info("Statistics calculated in {} ms", (System.nanoTime() - started) / 1_000_000);
+        return statistics;
+    }
+
+    private static Double round(Double value) {
+        return value != null ? Math.round(value * 10) / 10.0 : null;
+    }
+}
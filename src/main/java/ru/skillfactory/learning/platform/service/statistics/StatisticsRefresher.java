@@ -0,0 +1,31 @@
+package ru.skillfactory.learning.platform.service.statistics;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.skillfactory.learning.platform.service.StatisticsService;
+
+/**
+ * Фоновый пересчет снимка статистики, чтобы запрос администратора не ждал агрегатов.
+ * Включается параметром {@code app.statistics.background-refresh}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.statistics", name = "background-refresh", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsRefresher {
+
+    private final StatisticsService statisticsService;
+
+    @Scheduled(fixedDelayString = "${app.statistics.refresh-interval:5m}")
+    public void refresh() {
+        try {
+            statisticsService.refreshStatistics();
+        } catch (RuntimeException e) {
+            // Остается предыдущий снимок, следующая попытка будет по расписанию
+            log.warn("Background statistics refresh failed", e);
+        }
+    }
+}
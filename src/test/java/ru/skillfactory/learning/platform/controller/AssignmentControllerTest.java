@@ -5,9 +5,12 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -15,6 +18,7 @@ import ru.skillfactory.learning.platform.dto.request.CreateAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.response.AssignmentResponse;
 import ru.skillfactory.learning.platform.dto.response.AssignmentDetailResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
 import ru.skillfactory.learning.platform.service.AssignmentService;
 
@@ -23,6 +27,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -50,6 +55,7 @@ public class AssignmentControllerTest {
 
         mockMvc = MockMvcBuilders.standaloneSetup(assignmentController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
 
         assignmentResponse = new AssignmentResponse();
@@ -146,15 +152,15 @@ public class AssignmentControllerTest {
     void getAllAssignments_Success() throws Exception {
         // Given
         List<AssignmentResponse> assignments = Arrays.asList(assignmentResponse);
-        when(assignmentService.getAllAssignments())
-                .thenReturn(assignments);
+        when(assignmentService.getAllAssignments(any(Pageable.class)))
+                .thenReturn(PaginatedResponse.of(assignments, 0, 20, assignments.size()));
 
         // When & Then
         mockMvc.perform(get("/api/v1/assignments"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data", hasSize(1)));
+                .andExpect(jsonPath("$.data.content", hasSize(1)));
 
-        verify(assignmentService, times(1)).getAllAssignments();
+        verify(assignmentService, times(1)).getAllAssignments(any(Pageable.class));
     }
 
     @Test
@@ -199,14 +205,35 @@ public class AssignmentControllerTest {
     void getAssignmentsDueSoon_Success() throws Exception {
         // Given
         List<AssignmentResponse> assignments = Arrays.asList(assignmentResponse);
-        when(assignmentService.getAssignmentsDueSoon())
-                .thenReturn(assignments);
+        when(assignmentService.getAssignmentsDueSoon(any(Pageable.class)))
+                .thenReturn(PaginatedResponse.of(assignments, 0, 20, assignments.size()));
 
         // When & Then
         mockMvc.perform(get("/api/v1/assignments/due-soon"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data", hasSize(1)));
+                .andExpect(jsonPath("$.data.content", hasSize(1)));
+
+        verify(assignmentService, times(1)).getAssignmentsDueSoon(any(Pageable.class));
+    }
+
+    @Test
+    void getAssignmentsByStudent_PassesPageRequest() throws Exception {
+        // Given
+        List<AssignmentResponse> assignments = Arrays.asList(assignmentResponse);
+        when(assignmentService.getAssignmentsByStudent(eq(1L), any(Pageable.class)))
+                .thenReturn(PaginatedResponse.of(assignments, 1, 5, 6));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/assignments/student/1")
+                        .param("page", "1")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.totalElements", is(6)));
 
-        verify(assignmentService, times(1)).getAssignmentsDueSoon();
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(assignmentService, times(1)).getAssignmentsByStudent(eq(1L), captor.capture());
+        assertEquals(1, captor.getValue().getPageNumber());
+        assertEquals(5, captor.getValue().getPageSize());
     }
 }
@@ -0,0 +1,79 @@
+package ru.skillfactory.learning.platform.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.service.SecondLevelCacheService;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CacheControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private SecondLevelCacheService secondLevelCacheService;
+
+    @InjectMocks
+    private CacheController cacheController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(cacheController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getRegionStatistics_ReturnsRegions() throws Exception {
+        CacheStatsResponse stats = CacheStatsResponse.builder()
+                .name("categories")
+                .size(-1)
+                .hitCount(9)
+                .missCount(1)
+                .hitRate(0.9)
+                .loadCount(1)
+                .build();
+        when(secondLevelCacheService.getRegionStatistics()).thenReturn(List.of(stats));
+
+        mockMvc.perform(get("/api/v1/cache/regions"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data", hasSize(1)))
+                .andExpect(jsonPath("$.data[0].name", is("categories")))
+                .andExpect(jsonPath("$.data[0].hitRate", is(0.9)));
+    }
+
+    @Test
+    void evictRegion_ReturnsOk() throws Exception {
+        mockMvc.perform(delete("/api/v1/cache/regions/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)));
+
+        verify(secondLevelCacheService).evictRegion("categories");
+    }
+
+    @Test
+    void evictRegion_UnknownRegion_NotFound() throws Exception {
+        doThrow(new ResourceNotFoundException("Cache region", "name", "missing"))
+                .when(secondLevelCacheService).evictRegion("missing");
+
+        mockMvc.perform(delete("/api/v1/cache/regions/missing"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,83 @@
+package ru.skillfactory.learning.platform.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import reactor.core.publisher.Flux;
+import ru.skillfactory.learning.platform.dto.response.CategoryResponse;
+import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
+import ru.skillfactory.learning.platform.service.CatalogStreamService;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogStreamControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private CatalogStreamService catalogStreamService;
+
+    @InjectMocks
+    private CatalogStreamController catalogStreamController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(catalogStreamController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void streamCourses_WritesOneCoursePerLine() throws Exception {
+        CourseResponse first = new CourseResponse();
+        first.setId(1L);
+        first.setTitle("Java Basics");
+        CourseResponse second = new CourseResponse();
+        second.setId(2L);
+        second.setTitle("Spring Boot");
+        when(catalogStreamService.streamCourses()).thenReturn(Flux.just(first, second));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/catalog/stream/courses")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(allOf(
+                        containsString("\"id\":1,"),
+                        containsString("\"title\":\"Spring Boot\""))))
+                .andExpect(content().string(matchesPattern("(?s)\\{[^\\n]*}\\n\\{[^\\n]*}\\n")));
+    }
+
+    @Test
+    void streamCategories_WritesOneCategoryPerLine() throws Exception {
+        CategoryResponse category = new CategoryResponse();
+        category.setId(1L);
+        category.setName("Programming");
+        when(catalogStreamService.streamCategories()).thenReturn(Flux.just(category));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/catalog/stream/categories")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("\"name\":\"Programming\"")));
+    }
+}
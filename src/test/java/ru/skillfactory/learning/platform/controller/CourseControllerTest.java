@@ -5,9 +5,13 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -15,6 +19,7 @@ import ru.skillfactory.learning.platform.dto.request.CreateCourseRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateCourseRequest;
 import ru.skillfactory.learning.platform.dto.response.CourseResponse;
 import ru.skillfactory.learning.platform.dto.response.CourseDetailResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
 import ru.skillfactory.learning.platform.service.CourseService;
 
@@ -23,6 +28,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -52,6 +58,7 @@ public class CourseControllerTest {
 
         mockMvc = MockMvcBuilders.standaloneSetup(courseController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
 
         // Настройка тестовых данных
@@ -166,24 +173,44 @@ public class CourseControllerTest {
         verify(courseService, times(1)).getCourseDetailById(1L);
     }
 
+    @Test
+    void getCourseReviews_DefaultsToNewestFirst() throws Exception {
+        // Given
+        CourseDetailResponse.ReviewResponse review = new CourseDetailResponse.ReviewResponse();
+        review.setId(7L);
+        review.setStudentName("Alice");
+        when(courseService.getCourseReviews(eq(1L), any(Pageable.class)))
+                .thenReturn(PaginatedResponse.of(List.of(review), 0, 20, 1));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/courses/1/reviews"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].studentName", is("Alice")));
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(courseService).getCourseReviews(eq(1L), pageable.capture());
+        assertEquals(Sort.Direction.DESC, pageable.getValue().getSort().getOrderFor("createdAt").getDirection());
+    }
+
     @Test
     void getAllCourses_Success() throws Exception {
         // Given
         List<CourseResponse> courses = Arrays.asList(courseResponse1, courseResponse2);
-        when(courseService.getAllCourses())
-                .thenReturn(courses);
+        when(courseService.getAllCourses(any(Pageable.class)))
+                .thenReturn(PaginatedResponse.of(courses, 0, 20, courses.size()));
 
         // When & Then
         mockMvc.perform(get("/api/v1/courses"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success", is(true)))
-                .andExpect(jsonPath("$.data", hasSize(2)))
-                .andExpect(jsonPath("$.data[0].id", is(1)))
-                .andExpect(jsonPath("$.data[0].title", is("Java Programming")))
-                .andExpect(jsonPath("$.data[1].id", is(2)))
-                .andExpect(jsonPath("$.data[1].title", is("Spring Boot")));
+                .andExpect(jsonPath("$.data.content", hasSize(2)))
+                .andExpect(jsonPath("$.data.content[0].id", is(1)))
+                .andExpect(jsonPath("$.data.content[0].title", is("Java Programming")))
+                .andExpect(jsonPath("$.data.content[1].id", is(2)))
+                .andExpect(jsonPath("$.data.content[1].title", is("Spring Boot")));
 
-        verify(courseService, times(1)).getAllCourses();
+        verify(courseService, times(1)).getAllCourses(any(Pageable.class));
     }
 
     @Test
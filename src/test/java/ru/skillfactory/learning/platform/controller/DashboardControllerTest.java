@@ -0,0 +1,99 @@
+package ru.skillfactory.learning.platform.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.skillfactory.learning.platform.dto.response.DashboardResponse;
+import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+import ru.skillfactory.learning.platform.service.DashboardService;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @InjectMocks
+    private DashboardController dashboardController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(dashboardController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void getStudentDashboard_Success() throws Exception {
+        DashboardResponse.StudentDashboard dashboard = new DashboardResponse.StudentDashboard();
+        dashboard.setEnrolledCourses(2L);
+        dashboard.setAssignmentsDue(3L);
+        dashboard.setAverageScore(75.5);
+        dashboard.setActiveCourses(List.of());
+
+        when(dashboardService.getStudentDashboard(1L)).thenReturn(dashboard);
+
+        mockMvc.perform(get("/api/v1/dashboard/student/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.enrolledCourses", is(2)))
+                .andExpect(jsonPath("$.data.assignmentsDue", is(3)))
+                .andExpect(jsonPath("$.data.averageScore", is(75.5)));
+
+        verify(dashboardService, times(1)).getStudentDashboard(1L);
+    }
+
+    @Test
+    void getStudentDashboard_NotFound() throws Exception {
+        when(dashboardService.getStudentDashboard(99L))
+                .thenThrow(new ResourceNotFoundException("User", "id", 99L));
+
+        mockMvc.perform(get("/api/v1/dashboard/student/99"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getStudentDashboard_BudgetExceeded_ReturnsServiceUnavailable() throws Exception {
+        when(dashboardService.getStudentDashboard(1L))
+                .thenThrow(new ServiceUnavailableException("Dashboard is temporarily unavailable, please retry later"));
+
+        mockMvc.perform(get("/api/v1/dashboard/student/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.errorCode", is("SERVICE_UNAVAILABLE")));
+    }
+
+    @Test
+    void getTeacherDashboard_Success() throws Exception {
+        DashboardResponse.TeacherDashboard dashboard = new DashboardResponse.TeacherDashboard();
+        dashboard.setCoursesTaught(5L);
+        dashboard.setSubmissionsToGrade(12L);
+        dashboard.setAverageCourseRating(4.5);
+
+        when(dashboardService.getTeacherDashboard(2L)).thenReturn(dashboard);
+
+        mockMvc.perform(get("/api/v1/dashboard/teacher/2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.coursesTaught", is(5)))
+                .andExpect(jsonPath("$.data.submissionsToGrade", is(12)))
+                .andExpect(jsonPath("$.data.averageCourseRating", is(4.5)));
+
+        verify(dashboardService, times(1)).getTeacherDashboard(2L);
+    }
+}
@@ -8,11 +8,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.skillfactory.learning.platform.dto.request.EnrollRequest;
 import ru.skillfactory.learning.platform.dto.response.EnrollmentResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
 import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
 import ru.skillfactory.learning.platform.service.EnrollmentService;
@@ -20,6 +23,7 @@ import ru.skillfactory.learning.platform.service.EnrollmentService;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -51,6 +55,7 @@ public class EnrollmentControllerTest {
 
         mockMvc = MockMvcBuilders.standaloneSetup(enrollmentController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
 
         // Настройка тестовых данных
@@ -170,16 +175,16 @@ public class EnrollmentControllerTest {
     void getAllEnrollments_Success() throws Exception {
         // Given
         List<EnrollmentResponse> enrollments = Arrays.asList(enrollmentResponse1, enrollmentResponse2);
-        when(enrollmentService.getAllEnrollments())
-                .thenReturn(enrollments);
+        when(enrollmentService.getAllEnrollments(any(Pageable.class)))
+                .thenReturn(PaginatedResponse.of(enrollments, 0, 20, enrollments.size()));
 
         // When & Then
         mockMvc.perform(get("/api/v1/enrollments"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success", is(true)))
-                .andExpect(jsonPath("$.data", hasSize(2)));
+                .andExpect(jsonPath("$.data.content", hasSize(2)));
 
-        verify(enrollmentService, times(1)).getAllEnrollments();
+        verify(enrollmentService, times(1)).getAllEnrollments(any(Pageable.class));
     }
 
     @Test
@@ -212,6 +217,19 @@ public class EnrollmentControllerTest {
         verify(enrollmentService, times(1)).getActiveEnrollmentsCount(1L);
     }
 
+    @Test
+    void getEnrollmentCountsByStatus_Success() throws Exception {
+        // Given
+        when(enrollmentService.getEnrollmentCountsByStatus(1L))
+                .thenReturn(Map.of(EnrollmentStatus.ACTIVE, 5L, EnrollmentStatus.DROPPED, 1L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/enrollments/course/1/counts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.ACTIVE", is(5)))
+                .andExpect(jsonPath("$.data.DROPPED", is(1)));
+    }
+
     @Test
     void updateEnrollmentStatus_Success() throws Exception {
         // Given
@@ -0,0 +1,90 @@
+package ru.skillfactory.learning.platform.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.skillfactory.learning.platform.dto.response.ExportDataResponse;
+import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.service.ExportService;
+import ru.skillfactory.learning.platform.service.export.ExportFormat;
+import ru.skillfactory.learning.platform.service.export.ExportJob;
+import ru.skillfactory.learning.platform.service.export.ExportType;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ExportService exportService;
+
+    @InjectMocks
+    private ExportController exportController;
+
+    @TempDir
+    Path tempDir;
+
+    private ExportDataResponse exportResponse;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(exportController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        exportResponse = new ExportDataResponse();
+        exportResponse.setExportId("abc");
+        exportResponse.setExportType("ENROLLMENTS");
+        exportResponse.setFormat("CSV");
+        exportResponse.setStatus("PROCESSING");
+        exportResponse.setRecordsExported(0);
+    }
+
+    @Test
+    void startExport_ReturnsAccepted() throws Exception {
+        when(exportService.startExport("enrollments", "csv")).thenReturn(exportResponse);
+
+        mockMvc.perform(post("/api/v1/exports").param("type", "enrollments"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.exportId", is("abc")))
+                .andExpect(jsonPath("$.data.status", is("PROCESSING")));
+    }
+
+    @Test
+    void getExport_NotFound() throws Exception {
+        when(exportService.getExport("missing")).thenThrow(new ResourceNotFoundException("Export", "id", "missing"));
+
+        mockMvc.perform(get("/api/v1/exports/missing"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void downloadExport_StreamsFile() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("abc.csv"), "id,status\r\n1,ACTIVE\r\n");
+        ExportJob job = new ExportJob("abc", ExportType.ENROLLMENTS, ExportFormat.CSV, file);
+        when(exportService.getCompletedExport("abc")).thenReturn(job);
+
+        mockMvc.perform(get("/api/v1/exports/abc/file"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string("Content-Disposition", containsString("enrollments-abc.csv")))
+                .andExpect(content().string("id,status\r\n1,ACTIVE\r\n"));
+    }
+}
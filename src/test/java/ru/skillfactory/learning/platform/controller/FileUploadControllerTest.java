@@ -3,21 +3,33 @@ package ru.skillfactory.learning.platform.controller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.multipart.MultipartFile;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
 import ru.skillfactory.learning.platform.exception.FileStorageException;
 import ru.skillfactory.learning.platform.service.FileStorageService;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
 public class FileUploadControllerTest {
@@ -28,6 +40,9 @@ public class FileUploadControllerTest {
     @InjectMocks
     private FileUploadController fileUploadController;
 
+    @TempDir
+    Path tempDir;
+
     private MockMultipartFile mockImageFile;
     private MockMultipartFile mockEmptyFile;
     private final String testFileName = "avatar-123.jpg";
@@ -113,15 +128,15 @@ public class FileUploadControllerTest {
         Long userId = 123L;
         String fileName = "non-existent.jpg";
 
-        when(fileStorageService.loadFile("avatars/" + userId + "/" + fileName))
+        when(fileStorageService.loadFileAsResource("avatars/" + userId + "/" + fileName))
                 .thenThrow(new FileStorageException("File not found"));
 
         // Act & Assert
         assertThrows(FileStorageException.class, () ->
-                fileUploadController.getAvatar(userId, fileName));
+                fileUploadController.getAvatar(userId, fileName, null));
 
         verify(fileStorageService, times(1))
-                .loadFile("avatars/" + userId + "/" + fileName);
+                .loadFileAsResource("avatars/" + userId + "/" + fileName);
     }
 
     @Test
@@ -130,15 +145,15 @@ public class FileUploadControllerTest {
         Long userId = 123L;
         String fileName = "../secret/passwords.txt"; // попытка path traversal
 
-        when(fileStorageService.loadFile("avatars/" + userId + "/" + fileName))
+        when(fileStorageService.loadFileAsResource("avatars/" + userId + "/" + fileName))
                 .thenThrow(new FileStorageException("Invalid file path"));
 
         // Act & Assert
         assertThrows(FileStorageException.class, () ->
-                fileUploadController.getAvatar(userId, fileName));
+                fileUploadController.getAvatar(userId, fileName, null));
 
         verify(fileStorageService, times(1))
-                .loadFile("avatars/" + userId + "/" + fileName);
+                .loadFileAsResource("avatars/" + userId + "/" + fileName);
     }
 
     @Test
@@ -147,15 +162,15 @@ public class FileUploadControllerTest {
         Long userId = 123L;
         String fileName = "";
 
-        when(fileStorageService.loadFile("avatars/" + userId + "/" + fileName))
+        when(fileStorageService.loadFileAsResource("avatars/" + userId + "/" + fileName))
                 .thenThrow(new FileStorageException("File name is empty"));
 
         // Act & Assert
         assertThrows(FileStorageException.class, () ->
-                fileUploadController.getAvatar(userId, fileName));
+                fileUploadController.getAvatar(userId, fileName, null));
 
         verify(fileStorageService, times(1))
-                .loadFile("avatars/" + userId + "/" + fileName);
+                .loadFileAsResource("avatars/" + userId + "/" + fileName);
     }
 
     @Test
@@ -209,26 +224,105 @@ public class FileUploadControllerTest {
     }
 
     @Test
-    void getAvatar_WithSpecialCharactersInFileName() {
+    void getAvatar_WithSpecialCharactersInFileName() throws IOException {
         // Arrange
         Long userId = 123L;
         String fileName = "avatar-测试-123.jpg";
-        byte[] expectedBytes = testImageBytes;
+        Resource avatar = avatarResource(fileName);
 
-        when(fileStorageService.loadFile("avatars/" + userId + "/" + fileName))
-                .thenReturn(expectedBytes);
+        when(fileStorageService.loadFileAsResource("avatars/" + userId + "/" + fileName))
+                .thenReturn(avatar);
 
         // Act
-        ResponseEntity<byte[]> response =
-                fileUploadController.getAvatar(userId, fileName);
+        ResponseEntity<Resource> response =
+                fileUploadController.getAvatar(userId, fileName, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(200, response.getStatusCodeValue());
-        assertArrayEquals(expectedBytes, response.getBody());
+        assertSame(avatar, response.getBody());
+        assertEquals(MediaType.IMAGE_JPEG, response.getHeaders().getContentType());
+        assertNotNull(response.getHeaders().getETag());
 
         verify(fileStorageService, times(1))
-                .loadFile("avatars/" + userId + "/" + fileName);
+                .loadFileAsResource("avatars/" + userId + "/" + fileName);
+    }
+
+    @Test
+    void getAvatar_ContentTypeFromExtension() throws IOException {
+        // Arrange
+        when(fileStorageService.loadFileAsResource("avatars/123/avatar.png"))
+                .thenReturn(avatarResource("avatar.png"));
+
+        // Act
+        ResponseEntity<Resource> response = fileUploadController.getAvatar(123L, "avatar.png", null);
+
+        // Assert
+        assertEquals(MediaType.IMAGE_PNG, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void getAvatar_IfNoneMatch_ReturnsNotModified() throws Exception {
+        // Arrange
+        when(fileStorageService.loadFileAsResource("avatars/123/avatar.jpg"))
+                .thenReturn(avatarResource("avatar.jpg"));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(fileUploadController).build();
+
+        String etag = mockMvc.perform(get("/api/v1/files/avatar/123/avatar.jpg"))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(testImageBytes))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/files/avatar/123/avatar.jpg").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void getAvatar_Range_ReturnsPartialContent() throws Exception {
+        // Arrange
+        when(fileStorageService.loadFileAsResource("avatars/123/avatar.jpg"))
+                .thenReturn(avatarResource("avatar.jpg"));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(fileUploadController).build();
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/files/avatar/123/avatar.jpg").header(HttpHeaders.RANGE, "bytes=1-2"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1-2/4"))
+                .andExpect(content().bytes(new byte[]{(byte)0xD8, (byte)0xFF}));
+    }
+
+    @Test
+    void getAvatar_WithSize_ServesThumbnail() throws Exception {
+        // Arrange
+        when(fileStorageService.loadThumbnailAsResource("avatars/123/avatar.jpg", 48))
+                .thenReturn(avatarResource("avatar-48.jpg"));
+
+        // Act
+        ResponseEntity<Resource> response = fileUploadController.getAvatar(123L, "avatar.jpg", 48);
+
+        // Assert
+        assertEquals("avatar-48.jpg", response.getBody().getFilename());
+        assertTrue(response.getHeaders().getCacheControl().contains("immutable"));
+        verify(fileStorageService, never()).loadFileAsResource(any());
+    }
+
+    @Test
+    void getAvatar_WithSize_ThumbnailNotReady_IsNotCachedForLong() throws Exception {
+        // Arrange
+        when(fileStorageService.loadThumbnailAsResource("avatars/123/avatar.jpg", 48))
+                .thenReturn(avatarResource("avatar.jpg"));
+
+        // Act
+        ResponseEntity<Resource> response = fileUploadController.getAvatar(123L, "avatar.jpg", 48);
+
+        // Assert
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+    }
+
+    private Resource avatarResource(String fileName) throws IOException {
+        return new FileSystemResource(Files.write(tempDir.resolve(fileName), testImageBytes));
     }
 
     @Test
@@ -8,11 +8,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.skillfactory.learning.platform.dto.request.CreateProfileRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateProfileRequest;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.ProfileResponse;
 import ru.skillfactory.learning.platform.entity.Role;
 import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
@@ -49,6 +52,7 @@ public class ProfileControllerTest {
 
         mockMvc = MockMvcBuilders.standaloneSetup(profileController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
 
         profileResponse = new ProfileResponse();
@@ -125,15 +129,15 @@ public class ProfileControllerTest {
     void getAllProfiles_Success() throws Exception {
         // Given
         List<ProfileResponse> profiles = Arrays.asList(profileResponse);
-        when(profileService.getAllProfiles())
-                .thenReturn(profiles);
+        when(profileService.getAllProfiles(any(Pageable.class)))
+                .thenReturn(PaginatedResponse.of(profiles, 0, 20, profiles.size()));
 
         // When & Then
         mockMvc.perform(get("/api/v1/profiles"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.data", hasSize(1)));
+                .andExpect(jsonPath("$.data.content", hasSize(1)));
 
-        verify(profileService, times(1)).getAllProfiles();
+        verify(profileService, times(1)).getAllProfiles(any(Pageable.class));
     }
 
     @Test
@@ -8,9 +8,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.skillfactory.learning.platform.dto.request.BulkCreateQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.CreateQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.TakeQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateQuizRequest;
@@ -49,7 +52,9 @@ public class QuizControllerTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(quizController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(quizController)
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .build();
         objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
 
@@ -155,6 +160,43 @@ public class QuizControllerTest {
         verify(quizService, never()).createQuiz(any());
     }
 
+    @Test
+    void createQuizzes_ValidRequest_ReturnsCreated() throws Exception {
+        BulkCreateQuizRequest request = BulkCreateQuizRequest.builder()
+                .quizzes(List.of(CreateQuizRequest.builder()
+                        .title("Основы Java")
+                        .moduleId(101L)
+                        .questions(List.of())
+                        .build()))
+                .build();
+
+        when(quizService.createQuizzes(any(BulkCreateQuizRequest.class))).thenReturn(List.of(quizResponse));
+
+        mockMvc.perform(post("/api/v1/quizzes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Quizzes created successfully"))
+                .andExpect(jsonPath("$.data[0].id").value(1));
+
+        verify(quizService).createQuizzes(any(BulkCreateQuizRequest.class));
+    }
+
+    @Test
+    void createQuizzes_EmptyRequest_ReturnsBadRequest() throws Exception {
+        BulkCreateQuizRequest request = BulkCreateQuizRequest.builder()
+                .quizzes(List.of())
+                .build();
+
+        mockMvc.perform(post("/api/v1/quizzes/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verify(quizService, never()).createQuizzes(any());
+    }
+
     // Тесты для получения квиза по ID
     @Test
     void getQuizById_ExistingId_ReturnsOk() throws Exception {
@@ -186,15 +228,15 @@ public class QuizControllerTest {
     @Test
     void getAllQuizzes_ReturnsList() throws Exception {
         List<QuizResponse> quizzes = List.of(quizResponse);
-        when(quizService.getAllQuizzes()).thenReturn(quizzes);
+        when(quizService.getAllQuizzes(any(Pageable.class))).thenReturn(PaginatedResponse.of(quizzes, 0, 20, quizzes.size()));
 
         mockMvc.perform(get("/api/v1/quizzes"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(1));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content.length()").value(1));
 
-        verify(quizService).getAllQuizzes();
+        verify(quizService).getAllQuizzes(any(Pageable.class));
     }
 
     @Test
@@ -273,7 +315,7 @@ public class QuizControllerTest {
                 .answers(Map.of(1L, 2L))
                 .build();
 
-        when(quizService.takeQuiz(eq(1001L), any(TakeQuizRequest.class)))
+        when(quizService.takeQuiz(eq(1001L), any(TakeQuizRequest.class), isNull()))
                 .thenReturn(quizResultResponse);
 
         mockMvc.perform(post("/api/v1/quizzes/student/{studentId}/take", 1001L)
@@ -283,7 +325,27 @@ public class QuizControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.message").value("Quiz completed successfully"));
 
-        verify(quizService).takeQuiz(eq(1001L), any(TakeQuizRequest.class));
+        verify(quizService).takeQuiz(eq(1001L), any(TakeQuizRequest.class), isNull());
+    }
+
+    @Test
+    void takeQuiz_WithIdempotencyKey_PassesKeyToService() throws Exception {
+        TakeQuizRequest request = TakeQuizRequest.builder()
+                .quizId(1L)
+                .answers(Map.of(1L, 2L))
+                .build();
+
+        when(quizService.takeQuiz(eq(1001L), any(TakeQuizRequest.class), eq("attempt-42")))
+                .thenReturn(quizResultResponse);
+
+        mockMvc.perform(post("/api/v1/quizzes/student/{studentId}/take", 1001L)
+                        .header(QuizController.IDEMPOTENCY_KEY_HEADER, "attempt-42")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.id").value(1));
+
+        verify(quizService).takeQuiz(eq(1001L), any(TakeQuizRequest.class), eq("attempt-42"));
     }
 
     @Test
@@ -298,7 +360,7 @@ public class QuizControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
 
-        verify(quizService, never()).takeQuiz(anyLong(), any());
+        verify(quizService, never()).takeQuiz(anyLong(), any(), any());
     }
 
     @Test
@@ -376,15 +438,15 @@ public class QuizControllerTest {
 
     @Test
     void getAllQuizzes_EmptyList_ReturnsEmptyArray() throws Exception {
-        when(quizService.getAllQuizzes()).thenReturn(List.of());
+        when(quizService.getAllQuizzes(any(Pageable.class))).thenReturn(PaginatedResponse.of(List.of(), 0, 20, 0));
 
         mockMvc.perform(get("/api/v1/quizzes"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data.length()").value(0));
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.content.length()").value(0));
 
-        verify(quizService).getAllQuizzes();
+        verify(quizService).getAllQuizzes(any(Pageable.class));
     }
 
     @Test
@@ -417,7 +479,7 @@ public class QuizControllerTest {
                 .quizTitle("Основы Java")
                 .build();
 
-        when(quizService.takeQuiz(eq(1001L), any(TakeQuizRequest.class)))
+        when(quizService.takeQuiz(eq(1001L), any(TakeQuizRequest.class), isNull()))
                 .thenReturn(resultWithZeroScore);
 
         mockMvc.perform(post("/api/v1/quizzes/student/{studentId}/take", 1001L)
@@ -426,7 +488,7 @@ public class QuizControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.data.score").value(0));
 
-        verify(quizService).takeQuiz(eq(1001L), any(TakeQuizRequest.class));
+        verify(quizService).takeQuiz(eq(1001L), any(TakeQuizRequest.class), isNull());
     }
 
     @Test
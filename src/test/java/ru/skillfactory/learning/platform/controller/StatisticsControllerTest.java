@@ -0,0 +1,71 @@
+package ru.skillfactory.learning.platform.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.skillfactory.learning.platform.dto.response.StatisticsResponse;
+import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
+import ru.skillfactory.learning.platform.service.StatisticsService;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatisticsControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private StatisticsService statisticsService;
+
+    @InjectMocks
+    private StatisticsController statisticsController;
+
+    private StatisticsResponse statistics;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(statisticsController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        statistics = new StatisticsResponse();
+        statistics.setTotalCourses(30L);
+        statistics.setCoursesByCategory(Map.of("Programming", 20L));
+        statistics.setAverageQuizScore(64.1);
+    }
+
+    @Test
+    void getStatistics_Success() throws Exception {
+        when(statisticsService.getStatistics()).thenReturn(statistics);
+
+        mockMvc.perform(get("/api/v1/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.data.totalCourses", is(30)))
+                .andExpect(jsonPath("$.data.coursesByCategory.Programming", is(20)))
+                .andExpect(jsonPath("$.data.averageQuizScore", is(64.1)));
+    }
+
+    @Test
+    void refreshStatistics_Success() throws Exception {
+        when(statisticsService.refreshStatistics()).thenReturn(statistics);
+
+        mockMvc.perform(post("/api/v1/statistics/refresh"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success", is(true)))
+                .andExpect(jsonPath("$.message", is("Statistics refreshed successfully")));
+
+        verify(statisticsService, times(1)).refreshStatistics();
+    }
+}
@@ -0,0 +1,124 @@
+package ru.skillfactory.learning.platform.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import ru.skillfactory.learning.platform.dto.request.InitAttachmentUploadRequest;
+import ru.skillfactory.learning.platform.dto.response.SubmissionAttachmentResponse;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
+import ru.skillfactory.learning.platform.service.SubmissionAttachmentService;
+import ru.skillfactory.learning.platform.service.file.AttachmentFile;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SubmissionAttachmentControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private SubmissionAttachmentService attachmentService;
+
+    @InjectMocks
+    private SubmissionAttachmentController attachmentController;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SubmissionAttachmentResponse uploadingResponse;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(attachmentController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        uploadingResponse = new SubmissionAttachmentResponse();
+        uploadingResponse.setId(1L);
+        uploadingResponse.setSubmissionId(7L);
+        uploadingResponse.setFileName("lecture.mp4");
+        uploadingResponse.setChunkCount(3);
+        uploadingResponse.setReceivedChunkCount(0);
+        uploadingResponse.setMissingChunks(List.of(0, 1, 2));
+        uploadingResponse.setStatus("UPLOADING");
+    }
+
+    @Test
+    void initUpload_ReturnsCreated() throws Exception {
+        InitAttachmentUploadRequest request = new InitAttachmentUploadRequest("lecture.mp4", "video/mp4", 10L);
+        when(attachmentService.initUpload(eq(7L), any(InitAttachmentUploadRequest.class))).thenReturn(uploadingResponse);
+
+        mockMvc.perform(post("/api/v1/submissions/7/attachments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.id", is(1)))
+                .andExpect(jsonPath("$.data.missingChunks", hasSize(3)));
+    }
+
+    @Test
+    void initUpload_WithoutSize_ReturnsBadRequest() throws Exception {
+        InitAttachmentUploadRequest request = new InitAttachmentUploadRequest("lecture.mp4", "video/mp4", null);
+
+        mockMvc.perform(post("/api/v1/submissions/7/attachments")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(attachmentService);
+    }
+
+    @Test
+    void uploadChunk_StreamsRequestBody() throws Exception {
+        when(attachmentService.uploadChunk(eq(1L), eq(2), any(InputStream.class))).thenAnswer(invocation -> {
+            InputStream content = invocation.getArgument(2);
+            assertArrayEquals("ij".getBytes(), content.readAllBytes());
+            return uploadingResponse;
+        });
+
+        mockMvc.perform(put("/api/v1/submissions/attachments/1/chunks/2")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content("ij".getBytes()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message", is("Chunk uploaded successfully")));
+    }
+
+    @Test
+    void completeUpload_MissingChunks_ReturnsBadRequest() throws Exception {
+        when(attachmentService.completeUpload(1L))
+                .thenThrow(new BadRequestException("Attachment upload 1 is missing 2 of 3 chunks"));
+
+        mockMvc.perform(post("/api/v1/submissions/attachments/1/complete"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("missing 2 of 3")));
+    }
+
+    @Test
+    void downloadAttachment_ReturnsFileWithOriginalName() throws Exception {
+        when(attachmentService.loadAttachmentFile(1L))
+                .thenReturn(new AttachmentFile("lecture.mp4", "video/mp4", new ByteArrayResource("abc".getBytes())));
+
+        mockMvc.perform(get("/api/v1/submissions/attachments/1/file"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("video/mp4"))
+                .andExpect(header().string("Content-Disposition", containsString("lecture.mp4")))
+                .andExpect(content().string("abc"));
+    }
+}
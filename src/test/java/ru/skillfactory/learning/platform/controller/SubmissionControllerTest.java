@@ -8,11 +8,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import ru.skillfactory.learning.platform.dto.request.SubmitAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateSubmissionRequest;
 import ru.skillfactory.learning.platform.dto.response.ApiResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.SubmissionDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.SubmissionResponse;
 import ru.skillfactory.learning.platform.service.SubmissionService;
@@ -227,22 +230,23 @@ public class SubmissionControllerTest {
                         .studentName("Петр Петров")
                         .build()
         );
-        when(submissionService.getAllSubmissions())
-                .thenReturn(submissions);
+        Pageable pageable = PageRequest.of(0, 20);
+        when(submissionService.getAllSubmissions(pageable))
+                .thenReturn(PaginatedResponse.of(submissions, 0, 20, submissions.size()));
 
         // Act
-        ResponseEntity<ApiResponse<List<SubmissionResponse>>> response =
-                submissionController.getAllSubmissions();
+        ResponseEntity<ApiResponse<PaginatedResponse<SubmissionResponse>>> response =
+                submissionController.getAllSubmissions(pageable);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertTrue(response.getBody().isSuccess());
-        assertEquals(2, response.getBody().getData().size());
-        assertEquals(submissions, response.getBody().getData());
+        assertEquals(2, response.getBody().getData().getContent().size());
+        assertEquals(submissions, response.getBody().getData().getContent());
 
-        verify(submissionService, times(1)).getAllSubmissions();
+        verify(submissionService, times(1)).getAllSubmissions(pageable);
     }
 
     @Test
@@ -7,11 +7,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import ru.skillfactory.learning.platform.dto.request.CreateUserRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateUserRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.UserResponse;
 import ru.skillfactory.learning.platform.entity.Role;
 import ru.skillfactory.learning.platform.exception.GlobalExceptionHandler;
@@ -22,6 +26,8 @@ import java.util.List;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -48,6 +54,7 @@ public class UserControllerTest {
         objectMapper = new ObjectMapper();
         mockMvc = MockMvcBuilders.standaloneSetup(userController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
 
         // Настройка тестовых данных
@@ -148,19 +155,40 @@ public class UserControllerTest {
     void getAllUsers_Success() throws Exception {
         // Given
         List<UserResponse> users = Arrays.asList(studentResponse, teacherResponse, adminResponse);
-        when(userService.getAllUsers())
-                .thenReturn(users);
+        when(userService.getAllUsers(any(Pageable.class)))
+                .thenReturn(PaginatedResponse.of(users, 0, 20, users.size()));
 
         // When & Then
         mockMvc.perform(get("/api/v1/users"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success", is(true)))
-                .andExpect(jsonPath("$.data", hasSize(3)))
-                .andExpect(jsonPath("$.data[0].role", is("STUDENT")))
-                .andExpect(jsonPath("$.data[1].role", is("TEACHER")))
-                .andExpect(jsonPath("$.data[2].role", is("ADMIN")));
+                .andExpect(jsonPath("$.data.content", hasSize(3)))
+                .andExpect(jsonPath("$.data.content[0].role", is("STUDENT")))
+                .andExpect(jsonPath("$.data.content[1].role", is("TEACHER")))
+                .andExpect(jsonPath("$.data.content[2].role", is("ADMIN")));
 
-        verify(userService, times(1)).getAllUsers();
+        verify(userService, times(1)).getAllUsers(any(Pageable.class));
+    }
+
+    @Test
+    void scrollUsers_PassesCursorAndPageSize() throws Exception {
+        // Given
+        CursorPaginatedResponse<UserResponse> page = new CursorPaginatedResponse<>();
+        page.setContent(List.of(teacherResponse));
+        page.setPageSize(1);
+        page.setNextCursor(2L);
+        when(userService.scrollUsers(1L, 1)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/users/scroll")
+                        .param("afterId", "1")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.nextCursor", is(2)))
+                .andExpect(jsonPath("$.data.last", is(false)));
+
+        verify(userService, times(1)).scrollUsers(1L, 1);
     }
 
     @Test
@@ -247,18 +275,23 @@ public class UserControllerTest {
     @Test
     void searchUsers_Success() throws Exception {
         // Given
-        List<UserResponse> users = Arrays.asList(studentResponse);
-        when(userService.searchUsers("John"))
-                .thenReturn(users);
+        PaginatedResponse<UserResponse> page = PaginatedResponse.of(List.of(studentResponse), 0, 10, 1);
+        when(userService.searchUsers(eq("John"), any(Pageable.class)))
+                .thenReturn(page);
 
         // When & Then
         mockMvc.perform(get("/api/v1/users/search")
-                        .param("keyword", "John"))
+                        .param("keyword", "John")
+                        .param("page", "0")
+                        .param("size", "10"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success", is(true)))
-                .andExpect(jsonPath("$.data", hasSize(1)))
-                .andExpect(jsonPath("$.data[0].name", containsString("John")));
+                .andExpect(jsonPath("$.data.content", hasSize(1)))
+                .andExpect(jsonPath("$.data.content[0].name", containsString("John")))
+                .andExpect(jsonPath("$.data.totalElements", is(1)))
+                .andExpect(jsonPath("$.data.pageSize", is(10)));
 
-        verify(userService, times(1)).searchUsers("John");
+        verify(userService, times(1)).searchUsers(eq("John"), argThat(pageable ->
+                pageable.getPageNumber() == 0 && pageable.getPageSize() == 10));
     }
 }
@@ -43,6 +43,9 @@ public class AssignmentSubmissionIntegrationTest extends BaseIntegrationTest{
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private CourseStatsRepository courseStatsRepository;
+
     @Autowired
     private ModuleRepository moduleRepository;
 
@@ -67,6 +70,7 @@ public class AssignmentSubmissionIntegrationTest extends BaseIntegrationTest{
         lessonRepository.deleteAll();
         moduleRepository.deleteAll();
         enrollmentRepository.deleteAll();
+        courseStatsRepository.deleteAll();
         courseRepository.deleteAll();
         userRepository.deleteAll();
         categoryRepository.deleteAll();
@@ -1,5 +1,8 @@
 package ru.skillfactory.learning.platform.integration;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +14,7 @@ import ru.skillfactory.learning.platform.dto.response.CourseResponse;
 import ru.skillfactory.learning.platform.dto.response.EnrollmentResponse;
 import ru.skillfactory.learning.platform.dto.response.UserResponse;
 import ru.skillfactory.learning.platform.entity.Category;
+import ru.skillfactory.learning.platform.entity.Course;
 import ru.skillfactory.learning.platform.repository.*;
 import ru.skillfactory.learning.platform.service.CourseService;
 import ru.skillfactory.learning.platform.service.EnrollmentService;
@@ -40,14 +44,21 @@ public class UserCourseIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private CourseStatsRepository courseStatsRepository;
+
     @Autowired
     private EnrollmentRepository enrollmentRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     @Transactional
     void cleanDatabase() {
         // Очищаем базу данных в обратном порядке зависимостей
         enrollmentRepository.deleteAll();
+        courseStatsRepository.deleteAll();
         courseRepository.deleteAll();
         userRepository.deleteAll();
         categoryRepository.deleteAll();
@@ -103,4 +114,44 @@ public class UserCourseIntegrationTest extends BaseIntegrationTest {
         assertEquals(1, enrolledCourses.size());
         assertEquals("Java Programming", enrolledCourses.get(0).getTitle());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEnrollmentKeepsCourseInSecondLevelCache_Integration() {
+        Category category = new Category();
+        category.setName("Programming");
+        Category savedCategory = categoryRepository.save(category);
+
+        CreateUserRequest teacherRequest = new CreateUserRequest();
+        teacherRequest.setName("John Teacher");
+        teacherRequest.setEmail("teacher@example.com");
+        teacherRequest.setRole("TEACHER");
+        UserResponse teacher = userService.createUser(teacherRequest);
+
+        CreateUserRequest studentRequest = new CreateUserRequest();
+        studentRequest.setName("Jane Student");
+        studentRequest.setEmail("student@example.com");
+        studentRequest.setRole("STUDENT");
+        UserResponse student = userService.createUser(studentRequest);
+
+        CreateCourseRequest courseRequest = new CreateCourseRequest();
+        courseRequest.setTitle("Java Programming");
+        courseRequest.setDescription("Learn Java from scratch");
+        courseRequest.setTeacherId(teacher.getId());
+        courseRequest.setCategoryId(savedCategory.getId());
+        courseRequest.setStartDate(LocalDate.now().plusDays(1));
+        CourseResponse course = courseService.createCourse(courseRequest);
+
+        // Курс попадает в регион courses при первом чтении
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        courseRepository.findById(course.getId());
+        assertTrue(cache.containsEntity(Course.class, course.getId()));
+
+        EnrollRequest enrollRequest = new EnrollRequest();
+        enrollRequest.setStudentId(student.getId());
+        enrollRequest.setCourseId(course.getId());
+        enrollmentService.enrollStudent(enrollRequest);
+
+        // Native-вставка записи затрагивает только таблицу enrollments и не сбрасывает регион courses
+        assertTrue(cache.containsEntity(Course.class, course.getId()));
+    }
+}
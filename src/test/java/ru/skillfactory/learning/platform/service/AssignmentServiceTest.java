@@ -6,9 +6,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import ru.skillfactory.learning.platform.dto.request.CreateAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateAssignmentRequest;
 import ru.skillfactory.learning.platform.dto.response.AssignmentResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.entity.Assignment;
 import ru.skillfactory.learning.platform.entity.Course;
 import ru.skillfactory.learning.platform.entity.Lesson;
@@ -18,9 +22,9 @@ import ru.skillfactory.learning.platform.entity.User;
 import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.AssignmentMapper;
 import ru.skillfactory.learning.platform.repository.AssignmentRepository;
-import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
 import ru.skillfactory.learning.platform.repository.LessonRepository;
 import ru.skillfactory.learning.platform.repository.UserRepository;
+import ru.skillfactory.learning.platform.repository.projection.AssignmentRow;
 import ru.skillfactory.learning.platform.service.impl.AssignmentServiceImpl;
 
 import java.time.LocalDate;
@@ -43,9 +47,6 @@ public class AssignmentServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private EnrollmentRepository enrollmentRepository;
-
     @Mock
     private AssignmentMapper assignmentMapper;
 
@@ -291,52 +292,106 @@ public class AssignmentServiceTest {
         verify(assignmentRepository, never()).deleteById(anyLong());
     }
 
+    @Test
+    void getAllAssignments_Success() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        AssignmentRow row = toRow(testAssignment, 3L);
+
+        when(assignmentRepository.findAllRows(pageable)).thenReturn(new PageImpl<>(List.of(row), pageable, 1));
+        when(assignmentMapper.toResponse(row)).thenReturn(testAssignmentResponse);
+
+        // When
+        PaginatedResponse<AssignmentResponse> response = assignmentService.getAllAssignments(pageable);
+
+        // Then
+        assertEquals(1, response.getContent().size());
+        assertEquals(1, response.getTotalElements());
+
+        verify(assignmentRepository, never()).findAll();
+    }
+
+    @Test
+    void getAssignmentsByStudent_Success() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        AssignmentRow row = toRow(testAssignment, 0L);
+
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(assignmentRepository.findRowsByStudentId(1L, pageable)).thenReturn(new PageImpl<>(List.of(row), pageable, 1));
+        when(assignmentMapper.toResponse(row)).thenReturn(testAssignmentResponse);
+
+        // When
+        PaginatedResponse<AssignmentResponse> response = assignmentService.getAssignmentsByStudent(1L, pageable);
+
+        // Then
+        assertEquals(1, response.getContent().size());
+        assertEquals("Homework 1", response.getContent().get(0).getTitle());
+
+        verify(assignmentRepository, times(1)).findRowsByStudentId(1L, pageable);
+        verify(assignmentRepository, never()).findAll();
+    }
+
+    @Test
+    void getAssignmentsByStudent_StudentNotFound() {
+        // Given
+        when(userRepository.existsById(999L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> {
+            assignmentService.getAssignmentsByStudent(999L, PageRequest.of(0, 20));
+        });
+
+        verify(assignmentRepository, never()).findRowsByStudentId(anyLong(), any(Pageable.class));
+    }
+
     @Test
     void getAssignmentsByTeacher_Success() {
         // Given
-        User teacher = new User();
-        teacher.setId(2L);
-        teacher.setRole(Role.TEACHER);
+        Pageable pageable = PageRequest.of(0, 20);
+        AssignmentRow row = toRow(testAssignment, 0L);
 
-        when(userRepository.findById(2L)).thenReturn(Optional.of(teacher));
-        when(assignmentRepository.findAll()).thenReturn(List.of(testAssignment));
-        when(assignmentMapper.toResponse(testAssignment)).thenReturn(testAssignmentResponse);
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(assignmentRepository.findRowsByTeacherId(2L, pageable)).thenReturn(new PageImpl<>(List.of(row), pageable, 1));
+        when(assignmentMapper.toResponse(row)).thenReturn(testAssignmentResponse);
 
         // When
-        List<AssignmentResponse> responses = assignmentService.getAssignmentsByTeacher(2L);
+        PaginatedResponse<AssignmentResponse> response = assignmentService.getAssignmentsByTeacher(2L, pageable);
 
         // Then
-        assertNotNull(responses);
-        assertEquals(1, responses.size());
+        assertNotNull(response);
+        assertEquals(1, response.getContent().size());
 
-        verify(assignmentRepository, times(1)).findAll();
+        verify(assignmentRepository, times(1)).findRowsByTeacherId(2L, pageable);
+        verify(assignmentRepository, never()).findAll();
     }
 
     @Test
     void getAssignmentsDueSoon_Success() {
         // Given
-        Assignment dueSoonAssignment = new Assignment();
-        dueSoonAssignment.setId(2L);
-        dueSoonAssignment.setTitle("Due Soon");
-        dueSoonAssignment.setDueDate(LocalDate.now().plusDays(2));
-        dueSoonAssignment.setLesson(testLesson);
-
-        Assignment farFutureAssignment = new Assignment();
-        farFutureAssignment.setId(3L);
-        farFutureAssignment.setTitle("Far Future");
-        farFutureAssignment.setDueDate(LocalDate.now().plusDays(30));
-        farFutureAssignment.setLesson(testLesson);
-
-        when(assignmentRepository.findAll()).thenReturn(List.of(testAssignment, dueSoonAssignment, farFutureAssignment));
-        when(assignmentMapper.toResponse(any(Assignment.class))).thenReturn(testAssignmentResponse);
+        Pageable pageable = PageRequest.of(0, 20);
+        LocalDate today = LocalDate.now();
+        AssignmentRow row = toRow(testAssignment, 0L);
+
+        when(assignmentRepository.findRowsDueBetween(today, today.plusDays(7), pageable))
+                .thenReturn(new PageImpl<>(List.of(row), pageable, 1));
+        when(assignmentMapper.toResponse(row)).thenReturn(testAssignmentResponse);
 
         // When
-        List<AssignmentResponse> responses = assignmentService.getAssignmentsDueSoon();
+        PaginatedResponse<AssignmentResponse> response = assignmentService.getAssignmentsDueSoon(pageable);
 
         // Then
-        assertNotNull(responses);
-        // Только dueSoonAssignment должен быть в результатах (текущий + 7 дней)
+        assertNotNull(response);
+        assertEquals(1, response.getContent().size());
+
+        // Фильтрация по сроку выполняется в БД, а не перебором всех заданий
+        verify(assignmentRepository, times(1)).findRowsDueBetween(today, today.plusDays(7), pageable);
+        verify(assignmentRepository, never()).findAll();
+    }
 
-        verify(assignmentRepository, times(1)).findAll();
+    private AssignmentRow toRow(Assignment assignment, long submissionCount) {
+        return new AssignmentRow(assignment.getId(), assignment.getTitle(), assignment.getDescription(),
+                assignment.getDueDate(), assignment.getMaxScore(),
+                assignment.getLesson().getId(), assignment.getLesson().getTitle(), submissionCount);
     }
-}
\ No newline at end of file
+}
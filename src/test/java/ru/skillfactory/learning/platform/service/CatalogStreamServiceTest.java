@@ -0,0 +1,111 @@
+package ru.skillfactory.learning.platform.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import ru.skillfactory.learning.platform.configuration.CatalogStreamProperties;
+import ru.skillfactory.learning.platform.dto.response.CategoryResponse;
+import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+import ru.skillfactory.learning.platform.service.impl.CatalogStreamServiceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogStreamServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private CourseService courseService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    private CatalogStreamServiceImpl catalogStreamService;
+
+    @BeforeEach
+    void setUp() {
+        CatalogStreamProperties properties = new CatalogStreamProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        catalogStreamService = new CatalogStreamServiceImpl(
+                courseService, categoryService, properties, Schedulers.immediate());
+    }
+
+    @Test
+    void streamCourses_FollowsCursorUntilLastPage() {
+        // Given
+        when(courseService.scrollCourses(null, BATCH_SIZE)).thenReturn(page(true, 1L, 2L));
+        when(courseService.scrollCourses(2L, BATCH_SIZE)).thenReturn(page(false, 3L));
+
+        // When / Then
+        StepVerifier.create(catalogStreamService.streamCourses())
+                .expectNextMatches(course -> course.getId() == 1L)
+                .expectNextMatches(course -> course.getId() == 2L)
+                .expectNextMatches(course -> course.getId() == 3L)
+                .verifyComplete();
+    }
+
+    @Test
+    void streamCourses_ReadsAtMostOnePageAhead() {
+        // Given
+        when(courseService.scrollCourses(null, BATCH_SIZE)).thenReturn(page(true, 1L, 2L));
+        lenient().when(courseService.scrollCourses(2L, BATCH_SIZE)).thenReturn(page(true, 3L, 4L));
+
+        // When / Then
+        StepVerifier.create(catalogStreamService.streamCourses(), 1)
+                .expectNextMatches(course -> course.getId() == 1L)
+                .thenCancel()
+                .verify();
+
+        verify(courseService, never()).scrollCourses(4L, BATCH_SIZE);
+    }
+
+    @Test
+    void streamCourses_WhenSchedulerRejects_MapsToServiceUnavailable() {
+        // Given
+        when(courseService.scrollCourses(null, BATCH_SIZE)).thenThrow(new RejectedExecutionException("full"));
+
+        // When / Then
+        StepVerifier.create(catalogStreamService.streamCourses())
+                .expectError(ServiceUnavailableException.class)
+                .verify();
+    }
+
+    @Test
+    void streamCategories_EmitsEveryCategory() {
+        // Given
+        CategoryResponse programming = new CategoryResponse();
+        programming.setId(1L);
+        CategoryResponse design = new CategoryResponse();
+        design.setId(2L);
+        when(categoryService.getAllCategories()).thenReturn(List.of(programming, design));
+
+        // When / Then
+        StepVerifier.create(catalogStreamService.streamCategories())
+                .expectNext(programming, design)
+                .verifyComplete();
+    }
+
+    private CursorPaginatedResponse<CourseResponse> page(boolean hasNext, Long... ids) {
+        List<CourseResponse> courses = new ArrayList<>();
+        for (Long id : ids) {
+            CourseResponse course = new CourseResponse();
+            course.setId(id);
+            courses.add(course);
+        }
+        return CursorPaginatedResponse.from(
+                new SliceImpl<>(courses, PageRequest.ofSize(BATCH_SIZE), hasNext), CourseResponse::getId);
+    }
+}
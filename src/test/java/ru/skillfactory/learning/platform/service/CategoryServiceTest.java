@@ -6,7 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.PageRequest;
 import ru.skillfactory.learning.platform.dto.request.CreateCategoryRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateCategoryRequest;
 import ru.skillfactory.learning.platform.dto.response.CategoryResponse;
@@ -15,6 +15,7 @@ import ru.skillfactory.learning.platform.entity.Course;
 import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.CategoryMapper;
 import ru.skillfactory.learning.platform.repository.CategoryRepository;
+import ru.skillfactory.learning.platform.repository.projection.CategoryWithCourseCountRow;
 import ru.skillfactory.learning.platform.service.impl.CategoryServiceImpl;
 
 import java.time.LocalDateTime;
@@ -45,6 +46,7 @@ public class CategoryServiceTest {
     private CreateCategoryRequest createRequest;
     private UpdateCategoryRequest updateRequest;
     private CategoryResponse categoryResponse;
+    private CategoryWithCourseCountRow categoryRow;
 
     @BeforeEach
     void setUp() {
@@ -88,6 +90,9 @@ public class CategoryServiceTest {
         categoryResponse.setName("Programming");
         categoryResponse.setDescription("Programming courses");
         categoryResponse.setCourseCount(0);
+
+        categoryRow = new CategoryWithCourseCountRow(1L, "Programming", "Programming courses",
+                category.getCreatedAt(), category.getUpdatedAt(), 0L);
         categoryResponse.setCreatedAt(LocalDateTime.now());
         categoryResponse.setUpdatedAt(LocalDateTime.now());
     }
@@ -157,9 +162,8 @@ public class CategoryServiceTest {
     @Test
     void getAllCategories_Success() {
         // Arrange
-        List<Category> categories = Arrays.asList(category);
-        when(categoryRepository.findAll(any(Sort.class))).thenReturn(categories);
-        when(categoryMapper.toResponse(category)).thenReturn(categoryResponse);
+        when(categoryRepository.findAllWithCourseCount()).thenReturn(List.of(categoryRow));
+        when(categoryMapper.toResponse(categoryRow)).thenReturn(categoryResponse);
 
         // Act
         List<CategoryResponse> results = categoryService.getAllCategories();
@@ -167,14 +171,15 @@ public class CategoryServiceTest {
         // Assert
         assertNotNull(results);
         assertEquals(1, results.size());
-        verify(categoryRepository).findAll(any(Sort.class));
-        verify(categoryMapper).toResponse(category);
+        verify(categoryRepository).findAllWithCourseCount();
+        verify(categoryMapper).toResponse(categoryRow);
+        verify(categoryMapper, never()).toResponse(any(Category.class));
     }
 
     @Test
     void getAllCategories_EmptyList() {
         // Arrange
-        when(categoryRepository.findAll(any(Sort.class))).thenReturn(Arrays.asList());
+        when(categoryRepository.findAllWithCourseCount()).thenReturn(Arrays.asList());
 
         // Act
         List<CategoryResponse> results = categoryService.getAllCategories();
@@ -182,16 +187,15 @@ public class CategoryServiceTest {
         // Assert
         assertNotNull(results);
         assertTrue(results.isEmpty());
-        verify(categoryRepository).findAll(any(Sort.class));
-        verify(categoryMapper, never()).toResponse(any(Category.class));
+        verify(categoryRepository).findAllWithCourseCount();
+        verify(categoryMapper, never()).toResponse(any(CategoryWithCourseCountRow.class));
     }
 
     @Test
     void searchCategories_Success() {
         // Arrange
-        List<Category> categories = Arrays.asList(category);
-        when(categoryRepository.findByNameContainingIgnoreCase("prog")).thenReturn(categories);
-        when(categoryMapper.toResponse(category)).thenReturn(categoryResponse);
+        when(categoryRepository.searchWithCourseCount("prog")).thenReturn(List.of(categoryRow));
+        when(categoryMapper.toResponse(categoryRow)).thenReturn(categoryResponse);
 
         // Act
         List<CategoryResponse> results = categoryService.searchCategories("prog");
@@ -199,14 +203,14 @@ public class CategoryServiceTest {
         // Assert
         assertNotNull(results);
         assertEquals(1, results.size());
-        verify(categoryRepository).findByNameContainingIgnoreCase("prog");
-        verify(categoryMapper).toResponse(category);
+        verify(categoryRepository).searchWithCourseCount("prog");
+        verify(categoryMapper).toResponse(categoryRow);
     }
 
     @Test
     void searchCategories_EmptyResult() {
         // Arrange
-        when(categoryRepository.findByNameContainingIgnoreCase("nonexistent")).thenReturn(Arrays.asList());
+        when(categoryRepository.searchWithCourseCount("nonexistent")).thenReturn(Arrays.asList());
 
         // Act
         List<CategoryResponse> results = categoryService.searchCategories("nonexistent");
@@ -214,8 +218,8 @@ public class CategoryServiceTest {
         // Assert
         assertNotNull(results);
         assertTrue(results.isEmpty());
-        verify(categoryRepository).findByNameContainingIgnoreCase("nonexistent");
-        verify(categoryMapper, never()).toResponse(any(Category.class));
+        verify(categoryRepository).searchWithCourseCount("nonexistent");
+        verify(categoryMapper, never()).toResponse(any(CategoryWithCourseCountRow.class));
     }
 
     @Test
@@ -450,10 +454,13 @@ public class CategoryServiceTest {
         popularResponse.setName("Popular Category");
         popularResponse.setCourseCount(2);
 
-        List<Category> categories = Arrays.asList(categoryWithCourses, category);
-        when(categoryRepository.findAllWithCourseCount()).thenReturn(categories);
-        when(categoryMapper.toResponse(categoryWithCourses)).thenReturn(popularResponse);
-        when(categoryMapper.toResponse(category)).thenReturn(categoryResponse);
+        CategoryWithCourseCountRow popularRow = new CategoryWithCourseCountRow(2L, "Popular Category", null,
+                null, null, 2L);
+
+        // Строки уже отсортированы и ограничены в БД
+        when(categoryRepository.findMostPopular(PageRequest.of(0, 2))).thenReturn(List.of(popularRow, categoryRow));
+        when(categoryMapper.toResponse(popularRow)).thenReturn(popularResponse);
+        when(categoryMapper.toResponse(categoryRow)).thenReturn(categoryResponse);
 
         // Act
         List<CategoryResponse> results = categoryService.getPopularCategories(2);
@@ -463,16 +470,15 @@ public class CategoryServiceTest {
         assertEquals(2, results.size());
         // Первая категория должна быть с большим количеством курсов
         assertEquals("Popular Category", results.get(0).getName());
-        verify(categoryRepository).findAllWithCourseCount();
-        verify(categoryMapper, times(2)).toResponse(any(Category.class));
+        verify(categoryRepository).findMostPopular(PageRequest.of(0, 2));
+        verify(categoryMapper, never()).toResponse(any(Category.class));
     }
 
     @Test
     void getPopularCategories_LimitExceedsAvailable() {
         // Arrange
-        List<Category> categories = Arrays.asList(category);
-        when(categoryRepository.findAllWithCourseCount()).thenReturn(categories);
-        when(categoryMapper.toResponse(category)).thenReturn(categoryResponse);
+        when(categoryRepository.findMostPopular(PageRequest.of(0, 10))).thenReturn(List.of(categoryRow));
+        when(categoryMapper.toResponse(categoryRow)).thenReturn(categoryResponse);
 
         // Act
         List<CategoryResponse> results = categoryService.getPopularCategories(10);
@@ -480,8 +486,18 @@ public class CategoryServiceTest {
         // Assert
         assertNotNull(results);
         assertEquals(1, results.size());
-        verify(categoryRepository).findAllWithCourseCount();
-        verify(categoryMapper).toResponse(category);
+        verify(categoryRepository).findMostPopular(PageRequest.of(0, 10));
+        verify(categoryMapper).toResponse(categoryRow);
+    }
+
+    @Test
+    void getPopularCategories_NonPositiveLimit_ReturnsEmpty() {
+        // Act
+        List<CategoryResponse> results = categoryService.getPopularCategories(0);
+
+        // Assert
+        assertTrue(results.isEmpty());
+        verify(categoryRepository, never()).findMostPopular(any());
     }
 
     @Test
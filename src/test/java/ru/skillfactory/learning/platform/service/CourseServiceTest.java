@@ -3,24 +3,44 @@ package ru.skillfactory.learning.platform.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import ru.skillfactory.learning.platform.dto.request.CreateCourseRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateCourseRequest;
+import ru.skillfactory.learning.platform.dto.response.CourseDetailResponse;
 import ru.skillfactory.learning.platform.dto.response.CourseResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.entity.Category;
 import ru.skillfactory.learning.platform.entity.Course;
+import ru.skillfactory.learning.platform.entity.CourseStats;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.entity.Lesson;
+import ru.skillfactory.learning.platform.entity.Module;
 import ru.skillfactory.learning.platform.entity.Role;
+import ru.skillfactory.learning.platform.entity.Tag;
 import ru.skillfactory.learning.platform.entity.User;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
 import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.CourseMapper;
 import ru.skillfactory.learning.platform.repository.*;
+import ru.skillfactory.learning.platform.repository.projection.CourseReviewRow;
+import ru.skillfactory.learning.platform.repository.projection.EnrollmentStatusCountRow;
+import ru.skillfactory.learning.platform.service.course.CourseStatsUpdater;
+import ru.skillfactory.learning.platform.service.course.EnrollmentCountCache;
+import ru.skillfactory.learning.platform.service.course.EnrollmentCounts;
 import ru.skillfactory.learning.platform.service.impl.CourseServiceImpl;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +64,18 @@ public class CourseServiceTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private CourseReviewRepository courseReviewRepository;
+
+    @Mock
+    private CourseStatsRepository courseStatsRepository;
+
+    @Mock
+    private CourseStatsUpdater courseStatsUpdater;
+
+    @Mock
+    private EnrollmentCountCache enrollmentCountCache;
+
     @Mock
     private CourseMapper courseMapper;
 
@@ -110,6 +142,7 @@ public class CourseServiceTest {
         verify(userRepository, times(1)).findById(1L);
         verify(categoryRepository, times(1)).findById(1L);
         verify(courseRepository, times(1)).save(any(Course.class));
+        verify(courseStatsRepository, times(1)).save(any(CourseStats.class));
     }
 
     @Test
@@ -202,6 +235,43 @@ public class CourseServiceTest {
         verify(courseRepository, times(1)).save(any(Course.class));
     }
 
+    @Test
+    void updateCourse_CapacityBelowActiveEnrollments_ThrowsBadRequest() {
+        // Given
+        UpdateCourseRequest request = new UpdateCourseRequest();
+        request.setCapacity(2);
+
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+        doThrow(new BadRequestException("Capacity cannot be less than the number of active enrollments (3)"))
+                .when(courseStatsUpdater).changeCapacity(1L, 2);
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> courseService.updateCourse(1L, request));
+
+        assertNull(testCourse.getCapacity());
+        verify(courseRepository, never()).save(any(Course.class));
+    }
+
+    @Test
+    void updateCourse_UnlimitedCapacity_ClearsLimit() {
+        // Given
+        testCourse.setCapacity(30);
+        UpdateCourseRequest request = new UpdateCourseRequest();
+        request.setUnlimitedCapacity(true);
+
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+        when(courseRepository.save(any(Course.class))).thenReturn(testCourse);
+        when(courseMapper.toResponse(any(Course.class))).thenReturn(testCourseResponse);
+
+        // When
+        courseService.updateCourse(1L, request);
+
+        // Then
+        assertNull(testCourse.getCapacity());
+        // Лимит снимается и в строке счетчиков, с которой сравнивает занятие места
+        verify(courseStatsUpdater, times(1)).changeCapacity(1L, null);
+    }
+
     @Test
     void deleteCourse_Success() {
         // Given
@@ -212,6 +282,7 @@ public class CourseServiceTest {
 
         // Then
         verify(courseRepository, times(1)).existsById(1L);
+        verify(courseStatsRepository, times(1)).deleteById(1L);
         verify(courseRepository, times(1)).deleteById(1L);
     }
 
@@ -234,7 +305,7 @@ public class CourseServiceTest {
         // Given
         when(userRepository.existsById(1L)).thenReturn(true);
         when(courseRepository.findByTeacherId(1L)).thenReturn(List.of(testCourse));
-        when(courseMapper.toResponse(testCourse)).thenReturn(testCourseResponse);
+        when(courseMapper.toResponseList(List.of(testCourse))).thenReturn(List.of(testCourseResponse));
 
         // When
         List<CourseResponse> responses = courseService.getCoursesByTeacher(1L);
@@ -245,4 +316,102 @@ public class CourseServiceTest {
 
         verify(courseRepository, times(1)).findByTeacherId(1L);
     }
+
+    @Test
+    void getCourseDetailById_LoadsGraphAndFirstReviewPage() {
+        // Given
+        Lesson lesson = new Lesson();
+        lesson.setId(10L);
+        lesson.setTitle("Variables");
+        Module module = new Module();
+        module.setId(5L);
+        module.setTitle("Intro");
+        module.setLessons(List.of(lesson));
+        testCourse.setModules(List.of(module));
+
+        Tag tag = new Tag();
+        tag.setName("java");
+        testCourse.setTags(Set.of(tag));
+
+        CourseReviewRow review = new CourseReviewRow(7L, 5, "Great", LocalDateTime.now(), "Alice");
+        when(courseRepository.findDetailById(1L)).thenReturn(Optional.of(testCourse));
+        when(courseReviewRepository.findRowsByCourseId(eq(1L), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(review), PageRequest.of(0, 1), 3));
+        when(courseReviewRepository.findAverageRatingByCourseId(1L)).thenReturn(13.0 / 3);
+
+        // When
+        CourseDetailResponse response = courseService.getCourseDetailById(1L);
+
+        // Then
+        assertEquals("Java Basics", response.getTitle());
+        assertEquals("John Teacher", response.getTeacherName());
+        assertEquals("Programming", response.getCategoryName());
+        assertEquals(1, response.getModules().size());
+        assertEquals("Variables", response.getModules().get(0).getLessons().get(0).getTitle());
+        assertEquals(List.of("java"), response.getTags());
+        assertEquals(1, response.getReviews().size());
+        assertEquals("Alice", response.getReviews().get(0).getStudentName());
+        assertEquals(3L, response.getReviewCount());
+        assertEquals(4.3, response.getAverageRating());
+
+        ArgumentCaptor<Pageable> pageable = ArgumentCaptor.forClass(Pageable.class);
+        verify(courseReviewRepository).findRowsByCourseId(eq(1L), pageable.capture());
+        assertEquals(0, pageable.getValue().getPageNumber());
+        assertTrue(pageable.getValue().getSort().isSorted());
+    }
+
+    @Test
+    void getCourseDetailById_NotFound() {
+        // Given
+        when(courseRepository.findDetailById(999L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> courseService.getCourseDetailById(999L));
+        verify(courseReviewRepository, never()).findRowsByCourseId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void getCourseReviews_Success() {
+        // Given
+        Pageable pageable = PageRequest.of(1, 2, Sort.by("rating"));
+        CourseReviewRow review = new CourseReviewRow(7L, 4, "Good", LocalDateTime.now(), "Bob");
+        when(courseRepository.existsById(1L)).thenReturn(true);
+        when(courseReviewRepository.findRowsByCourseId(1L, pageable))
+                .thenReturn(new PageImpl<>(List.of(review), pageable, 3));
+
+        // When
+        PaginatedResponse<CourseDetailResponse.ReviewResponse> response = courseService.getCourseReviews(1L, pageable);
+
+        // Then
+        assertEquals(1, response.getContent().size());
+        assertEquals("Bob", response.getContent().get(0).getStudentName());
+        assertEquals(3, response.getTotalElements());
+        assertEquals(1, response.getCurrentPage());
+    }
+
+    @Test
+    void getCourseReviews_CourseNotFound() {
+        // Given
+        when(courseRepository.existsById(999L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class,
+                () -> courseService.getCourseReviews(999L, PageRequest.of(0, 10)));
+        verify(courseReviewRepository, never()).findRowsByCourseId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void getEnrolledStudentsCount_SumsAllStatusesFromCache() {
+        // Given
+        when(enrollmentCountCache.get(1L)).thenReturn(EnrollmentCounts.of(List.of(
+                new EnrollmentStatusCountRow(EnrollmentStatus.ACTIVE, 80_000L),
+                new EnrollmentStatusCountRow(EnrollmentStatus.COMPLETED, 500L))));
+
+        // When
+        int count = courseService.getEnrolledStudentsCount(1L);
+
+        // Then
+        assertEquals(80_500, count);
+        verifyNoInteractions(enrollmentRepository);
+    }
 }
@@ -0,0 +1,239 @@
+package ru.skillfactory.learning.platform.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.skillfactory.learning.platform.configuration.DashboardProperties;
+import ru.skillfactory.learning.platform.dto.response.DashboardResponse;
+import ru.skillfactory.learning.platform.entity.Course;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+import ru.skillfactory.learning.platform.mapper.AssignmentMapper;
+import ru.skillfactory.learning.platform.mapper.CourseMapper;
+import ru.skillfactory.learning.platform.mapper.QuizMapper;
+import ru.skillfactory.learning.platform.mapper.SubmissionMapper;
+import ru.skillfactory.learning.platform.repository.AssignmentRepository;
+import ru.skillfactory.learning.platform.repository.CourseRepository;
+import ru.skillfactory.learning.platform.repository.CourseReviewRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
+import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
+import ru.skillfactory.learning.platform.repository.QuizSubmissionRepository;
+import ru.skillfactory.learning.platform.repository.SubmissionRepository;
+import ru.skillfactory.learning.platform.repository.UserRepository;
+import ru.skillfactory.learning.platform.repository.projection.CourseRatingRow;
+import ru.skillfactory.learning.platform.repository.projection.QuizResultRow;
+import ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow;
+import ru.skillfactory.learning.platform.repository.projection.CourseStatsTotalsRow;
+import ru.skillfactory.learning.platform.service.impl.DashboardServiceImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private QuizSubmissionRepository quizSubmissionRepository;
+
+    @Mock
+    private CourseStatsRepository courseStatsRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private CourseReviewRepository courseReviewRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new DashboardProperties();
+        properties.setLatencyBudget(Duration.ofMillis(200));
+    }
+
+    private DashboardServiceImpl createService(Executor executor) {
+        return new DashboardServiceImpl(userRepository, courseRepository, assignmentRepository,
+                submissionRepository, quizSubmissionRepository, courseStatsRepository, enrollmentRepository,
+                courseReviewRepository, new CourseMapper(courseStatsRepository, courseReviewRepository),
+                new AssignmentMapper(), new SubmissionMapper(), new QuizMapper(), executor, transactionManager,
+                meterRegistry, properties);
+    }
+
+    @Test
+    void getStudentDashboard_AggregatesAllSections() {
+        DashboardServiceImpl dashboardService = createService(Runnable::run);
+
+        Course course = new Course();
+        course.setId(10L);
+        course.setTitle("Java");
+
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.findByEnrolledStudent(eq(1L), eq(EnrollmentStatus.ACTIVE), any()))
+                .thenReturn(new PageImpl<>(List.of(course), PageRequest.of(0, 5), 3));
+        when(courseReviewRepository.findAverageRatingsByCourseIds(List.of(10L)))
+                .thenReturn(List.of(new CourseRatingRow(10L, 4.25)));
+        when(assignmentRepository.findUpcomingRowsForStudent(eq(1L), any(), any()))
+                .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 5), 0));
+        when(submissionRepository.findScoreStatsByStudentId(1L)).thenReturn(new ScoreStatsRow(4L, 2L, 80.0));
+        when(submissionRepository.findRecentByStudentId(eq(1L), any())).thenReturn(List.of());
+        when(quizSubmissionRepository.findScoreStatsByStudentId(1L)).thenReturn(new ScoreStatsRow(1L, 1L, 50.0));
+        when(quizSubmissionRepository.findResultRowsByStudentId(eq(1L), any())).thenReturn(List.of(
+                new QuizResultRow(5L, 50, LocalDateTime.now(), 7L, "Basics", 10, 1L, "Student")));
+
+        DashboardResponse.StudentDashboard dashboard = dashboardService.getStudentDashboard(1L);
+
+        assertEquals(3L, dashboard.getEnrolledCourses());
+        assertEquals(1, dashboard.getActiveCourses().size());
+        // Рейтинг курса в списке - по отзывам, одним запросом на всю страницу
+        assertEquals(4.3, dashboard.getActiveCourses().get(0).getAverageRating());
+        assertEquals(0L, dashboard.getAssignmentsDue());
+        assertEquals(4L, dashboard.getSubmissionsMade());
+        assertEquals(1L, dashboard.getQuizzesTaken());
+        // (80 * 2 + 50 * 1) / 3
+        assertEquals(70.0, dashboard.getAverageScore());
+        assertEquals(5, dashboard.getRecentQuizResults().get(0).getAbsoluteScore());
+        assertEquals(1L, meterRegistry.get("dashboard.student.latency").timer().count());
+        assertEquals(4, meterRegistry.find("dashboard.student.section").timers().size());
+    }
+
+    @Test
+    void getStudentDashboard_NoGrades_AverageScoreIsNull() {
+        DashboardServiceImpl dashboardService = createService(Runnable::run);
+
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.findByEnrolledStudent(eq(1L), eq(EnrollmentStatus.ACTIVE), any()))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(assignmentRepository.findUpcomingRowsForStudent(eq(1L), any(), any()))
+                .thenReturn(new PageImpl<>(List.of()));
+        when(submissionRepository.findScoreStatsByStudentId(1L)).thenReturn(new ScoreStatsRow(0L, 0L, null));
+        when(submissionRepository.findRecentByStudentId(eq(1L), any())).thenReturn(List.of());
+        when(quizSubmissionRepository.findScoreStatsByStudentId(1L)).thenReturn(new ScoreStatsRow(0L, 0L, null));
+        when(quizSubmissionRepository.findResultRowsByStudentId(eq(1L), any())).thenReturn(List.of());
+
+        DashboardResponse.StudentDashboard dashboard = dashboardService.getStudentDashboard(1L);
+
+        assertNull(dashboard.getAverageScore());
+        assertEquals(0L, dashboard.getEnrolledCourses());
+    }
+
+    @Test
+    void getStudentDashboard_StudentNotFound_ThrowsException() {
+        DashboardServiceImpl dashboardService = createService(Runnable::run);
+
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> dashboardService.getStudentDashboard(99L));
+        verifyNoInteractions(courseRepository, assignmentRepository, submissionRepository, quizSubmissionRepository);
+    }
+
+    @Test
+    void getStudentDashboard_BudgetExceeded_ThrowsServiceUnavailable() {
+        // Пул, который не успевает взять задачи в работу
+        DashboardServiceImpl dashboardService = createService(task -> { });
+        properties.setLatencyBudget(Duration.ofMillis(50));
+
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(ServiceUnavailableException.class, () -> dashboardService.getStudentDashboard(1L));
+        assertEquals(1L, meterRegistry.get("dashboard.student.latency").timer().count());
+    }
+
+    @Test
+    void getStudentDashboard_BudgetExceeded_InterruptsRunningSection() throws InterruptedException {
+        DashboardServiceImpl dashboardService = createService(task -> new Thread(task).start());
+        properties.setLatencyBudget(Duration.ofMillis(50));
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(courseRepository.findByEnrolledStudent(eq(1L), eq(EnrollmentStatus.ACTIVE), any())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return Page.empty();
+        });
+
+        assertThrows(ServiceUnavailableException.class, () -> dashboardService.getStudentDashboard(1L));
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void getTeacherDashboard_ReadsCountersFromCourseStatsAndRatingFromReviews() {
+        DashboardServiceImpl dashboardService = createService(Runnable::run);
+
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(courseStatsRepository.findTeacherTotals(2L)).thenReturn(new CourseStatsTotalsRow(50L, 1200L, 37L));
+        when(courseReviewRepository.findAverageRatingByTeacherId(2L)).thenReturn(13.0 / 3);
+        when(enrollmentRepository.countDistinctStudentsByTeacherId(2L, EnrollmentStatus.ACTIVE)).thenReturn(900L);
+        when(assignmentRepository.countByTeacherId(2L)).thenReturn(400L);
+        when(courseRepository.findByTeacherId(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(submissionRepository.findUngradedByTeacherId(eq(2L), any())).thenReturn(List.of());
+        when(quizSubmissionRepository.findResultRowsByTeacherId(eq(2L), any())).thenReturn(List.of());
+
+        DashboardResponse.TeacherDashboard dashboard = dashboardService.getTeacherDashboard(2L);
+
+        assertEquals(50L, dashboard.getCoursesTaught());
+        // Уникальные студенты, а не сумма записей по курсам
+        assertEquals(900L, dashboard.getTotalStudents());
+        assertEquals(37L, dashboard.getSubmissionsToGrade());
+        assertEquals(400L, dashboard.getAssignmentsCreated());
+        // 13 / 3
+        assertEquals(4.3, dashboard.getAverageCourseRating());
+        assertEquals(1L, meterRegistry.get("dashboard.teacher.latency").timer().count());
+        verify(submissionRepository, never()).findAll();
+    }
+
+    @Test
+    void getTeacherDashboard_NoReviews_AverageRatingIsNull() {
+        DashboardServiceImpl dashboardService = createService(Runnable::run);
+
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(courseStatsRepository.findTeacherTotals(2L)).thenReturn(new CourseStatsTotalsRow(0L, 0L, 0L));
+        when(assignmentRepository.countByTeacherId(2L)).thenReturn(0L);
+        when(courseRepository.findByTeacherId(eq(2L), any(Pageable.class))).thenReturn(List.of());
+        when(submissionRepository.findUngradedByTeacherId(eq(2L), any())).thenReturn(List.of());
+        when(quizSubmissionRepository.findResultRowsByTeacherId(eq(2L), any())).thenReturn(List.of());
+
+        DashboardResponse.TeacherDashboard dashboard = dashboardService.getTeacherDashboard(2L);
+
+        assertNull(dashboard.getAverageCourseRating());
+        assertEquals(0L, dashboard.getSubmissionsToGrade());
+    }
+}
@@ -12,15 +12,21 @@ import ru.skillfactory.learning.platform.entity.*;
 import ru.skillfactory.learning.platform.exception.BadRequestException;
 import ru.skillfactory.learning.platform.mapper.EnrollmentMapper;
 import ru.skillfactory.learning.platform.repository.CourseRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
 import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
 import ru.skillfactory.learning.platform.repository.UserRepository;
+import ru.skillfactory.learning.platform.service.course.CourseStatsUpdater;
+import ru.skillfactory.learning.platform.service.course.EnrollmentCountCache;
 import ru.skillfactory.learning.platform.service.impl.EnrollmentServiceImpl;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +44,15 @@ public class EnrollmentServiceTest {
     @Mock
     private EnrollmentMapper enrollmentMapper;
 
+    @Mock
+    private CourseStatsUpdater courseStatsUpdater;
+
+    @Mock
+    private CourseStatsRepository courseStatsRepository;
+
+    @Mock
+    private EnrollmentCountCache enrollmentCountCache;
+
     @InjectMocks
     private EnrollmentServiceImpl enrollmentService;
 
@@ -90,9 +105,10 @@ public class EnrollmentServiceTest {
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testStudent));
         when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
-        when(enrollmentRepository.existsByStudentIdAndCourseId(1L, 1L)).thenReturn(false);
-        when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(testEnrollment);
-        when(enrollmentMapper.toResponse(any(Enrollment.class))).thenReturn(testEnrollmentResponse);
+        when(enrollmentRepository.insertIfAbsent(eq(1L), eq(1L), any(LocalDate.class), eq("ACTIVE"))).thenReturn(1);
+        when(enrollmentRepository.findByStudentIdAndCourseId(1L, 1L)).thenReturn(Optional.of(testEnrollment));
+        when(courseStatsUpdater.reserveSeat(1L)).thenReturn(true);
+        when(enrollmentMapper.toResponse(testEnrollment)).thenReturn(testEnrollmentResponse);
 
         // When
         EnrollmentResponse response = enrollmentService.enrollStudent(request);
@@ -104,8 +120,10 @@ public class EnrollmentServiceTest {
 
         verify(userRepository, times(1)).findById(1L);
         verify(courseRepository, times(1)).findById(1L);
-        verify(enrollmentRepository, times(1)).existsByStudentIdAndCourseId(1L, 1L);
-        verify(enrollmentRepository, times(1)).save(any(Enrollment.class));
+        verify(enrollmentRepository, never()).existsByStudentIdAndCourseId(anyLong(), anyLong());
+        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        verify(courseStatsUpdater, times(1)).reserveSeat(1L);
+        verify(enrollmentCountCache, times(1)).enrollmentChanged(1L, null, EnrollmentStatus.ACTIVE);
     }
 
     @Test
@@ -123,7 +141,7 @@ public class EnrollmentServiceTest {
         });
 
         verify(userRepository, times(1)).findById(2L);
-        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        verify(enrollmentRepository, never()).insertIfAbsent(anyLong(), anyLong(), any(), any());
     }
 
     @Test
@@ -135,15 +153,38 @@ public class EnrollmentServiceTest {
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(testStudent));
         when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
-        when(enrollmentRepository.existsByStudentIdAndCourseId(1L, 1L)).thenReturn(true);
+        when(enrollmentRepository.insertIfAbsent(eq(1L), eq(1L), any(LocalDate.class), eq("ACTIVE"))).thenReturn(0);
 
         // When & Then
-        assertThrows(BadRequestException.class, () -> {
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> {
             enrollmentService.enrollStudent(request);
         });
 
-        verify(enrollmentRepository, times(1)).existsByStudentIdAndCourseId(1L, 1L);
-        verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        assertEquals("Student is already enrolled in this course", exception.getMessage());
+        verifyNoInteractions(courseStatsUpdater, enrollmentCountCache);
+    }
+
+    @Test
+    void enrollStudent_CourseFull() {
+        // Given
+        EnrollRequest request = new EnrollRequest();
+        request.setStudentId(1L);
+        request.setCourseId(1L);
+        testCourse.setCapacity(30);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(testCourse));
+        when(enrollmentRepository.insertIfAbsent(eq(1L), eq(1L), any(LocalDate.class), eq("ACTIVE"))).thenReturn(1);
+        when(enrollmentRepository.findByStudentIdAndCourseId(1L, 1L)).thenReturn(Optional.of(testEnrollment));
+        when(courseStatsUpdater.reserveSeat(1L)).thenReturn(false);
+
+        // When & Then
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> {
+            enrollmentService.enrollStudent(request);
+        });
+
+        assertEquals("Course is full", exception.getMessage());
+        verifyNoInteractions(enrollmentCountCache, enrollmentMapper);
     }
 
     @Test
@@ -173,6 +214,8 @@ public class EnrollmentServiceTest {
         // Then
         verify(enrollmentRepository, times(1)).findById(1L);
         verify(enrollmentRepository, times(1)).delete(testEnrollment);
+        verify(courseStatsUpdater, times(1)).enrollmentChanged(1L, EnrollmentStatus.ACTIVE, null);
+        verify(enrollmentCountCache, times(1)).enrollmentChanged(1L, EnrollmentStatus.ACTIVE, null);
     }
 
     @Test
@@ -203,6 +246,29 @@ public class EnrollmentServiceTest {
 
         verify(enrollmentRepository, times(1)).findById(1L);
         verify(enrollmentRepository, times(1)).save(any(Enrollment.class));
+        verify(courseStatsUpdater, times(1))
+                .enrollmentChanged(1L, EnrollmentStatus.ACTIVE, EnrollmentStatus.COMPLETED);
+        verify(enrollmentCountCache, times(1))
+                .enrollmentChanged(1L, EnrollmentStatus.ACTIVE, EnrollmentStatus.COMPLETED);
+    }
+
+    @Test
+    void updateEnrollmentStatus_ReactivationWhenCourseFull_Throws() {
+        // Given
+        testEnrollment.setStatus(EnrollmentStatus.DROPPED);
+        testCourse.setCapacity(30);
+        when(enrollmentRepository.findById(1L)).thenReturn(Optional.of(testEnrollment));
+        when(enrollmentRepository.save(testEnrollment)).thenReturn(testEnrollment);
+        when(courseStatsUpdater.reserveSeat(1L)).thenReturn(false);
+
+        // When & Then
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> {
+            enrollmentService.updateEnrollmentStatus(1L, "ACTIVE");
+        });
+
+        assertEquals("Course is full", exception.getMessage());
+        verify(courseStatsUpdater, never()).enrollmentChanged(any(), any(), any());
+        verifyNoInteractions(enrollmentCountCache);
     }
 
     @Test
@@ -217,5 +283,36 @@ public class EnrollmentServiceTest {
 
         verify(enrollmentRepository, times(1)).findById(1L);
         verify(enrollmentRepository, never()).save(any(Enrollment.class));
+        verifyNoInteractions(courseStatsUpdater);
+        verifyNoInteractions(enrollmentCountCache);
+    }
+
+    @Test
+    void getActiveEnrollmentsCount_ReadsCourseStats() {
+        // Given
+        CourseStats stats = new CourseStats(testCourse);
+        stats.setActiveEnrollmentCount(7);
+        when(courseStatsRepository.findById(1L)).thenReturn(Optional.of(stats));
+
+        // When
+        int count = enrollmentService.getActiveEnrollmentsCount(1L);
+
+        // Then
+        assertEquals(7, count);
+        verify(courseStatsRepository, never()).countEnrollments(anyLong(), any());
+        verifyNoInteractions(enrollmentCountCache);
+    }
+
+    @Test
+    void getActiveEnrollmentsCount_NoStatsRow_CountsEnrollments() {
+        // Given
+        when(courseStatsRepository.findById(1L)).thenReturn(Optional.empty());
+        when(courseStatsRepository.countEnrollments(1L, EnrollmentStatus.ACTIVE)).thenReturn(4L);
+
+        // When
+        int count = enrollmentService.getActiveEnrollmentsCount(1L);
+
+        // Then
+        assertEquals(4, count);
     }
 }
@@ -0,0 +1,189 @@
+package ru.skillfactory.learning.platform.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.skillfactory.learning.platform.configuration.ExportProperties;
+import ru.skillfactory.learning.platform.configuration.FileStorageConfiguration;
+import ru.skillfactory.learning.platform.dto.response.ExportDataResponse;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+import ru.skillfactory.learning.platform.service.export.ExportJob;
+import ru.skillfactory.learning.platform.service.impl.ExportServiceImpl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path uploadDir;
+
+    private FileStorageConfiguration fileStorageConfiguration;
+
+    @BeforeEach
+    void setUp() {
+        fileStorageConfiguration = new FileStorageConfiguration();
+        fileStorageConfiguration.setUploadDir(uploadDir.toString());
+    }
+
+    private ExportServiceImpl createService(Executor executor) {
+        return createService(executor, new ExportProperties());
+    }
+
+    private ExportServiceImpl createService(Executor executor, ExportProperties properties) {
+        return new ExportServiceImpl(jdbcTemplate, transactionManager, executor, new ObjectMapper(),
+                properties, fileStorageConfiguration);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void startExport_StreamsRowsToCsvFile() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn("ID");
+        when(metaData.getColumnLabel(2)).thenReturn("STATUS");
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(1L, 2L);
+        when(resultSet.getObject(2)).thenReturn("ACTIVE", "COMPLETED");
+
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenAnswer(invocation -> invocation.<ResultSetExtractor<Void>>getArgument(1).extractData(resultSet));
+
+        ExportServiceImpl exportService = createService(Runnable::run);
+
+        // When
+        ExportDataResponse response = exportService.startExport("enrollments", "csv");
+
+        // Then
+        ExportDataResponse status = exportService.getExport(response.getExportId());
+        assertEquals("COMPLETED", status.getStatus());
+        assertEquals(2, status.getRecordsExported());
+        assertEquals("/api/v1/exports/" + response.getExportId() + "/file", status.getFileUrl());
+
+        ExportJob job = exportService.getCompletedExport(response.getExportId());
+        assertEquals("id,status\r\n1,ACTIVE\r\n2,COMPLETED\r\n", Files.readString(job.getFile()));
+        assertFalse(Files.exists(job.getFile().resolveSibling(job.getFile().getFileName() + ".part")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void startExport_QueryFails_MarksJobFailed() {
+        // Given
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenThrow(new DataAccessResourceFailureException("Connection lost"));
+
+        ExportServiceImpl exportService = createService(Runnable::run);
+
+        // When
+        ExportDataResponse response = exportService.startExport("users", "ndjson");
+
+        // Then
+        ExportDataResponse status = exportService.getExport(response.getExportId());
+        assertEquals("FAILED", status.getStatus());
+        assertEquals("Connection lost", status.getErrorMessage());
+        assertNull(status.getFileUrl());
+        assertThrows(BadRequestException.class, () -> exportService.getCompletedExport(response.getExportId()));
+    }
+
+    @Test
+    void startExport_PoolSaturated_ThrowsServiceUnavailable() {
+        ExportServiceImpl exportService = createService(task -> {
+            throw new TaskRejectedException("Queue is full");
+        });
+
+        assertThrows(ServiceUnavailableException.class, () -> exportService.startExport("courses", "csv"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void startExport_UnknownType_ThrowsBadRequest() {
+        ExportServiceImpl exportService = createService(Runnable::run);
+
+        assertThrows(BadRequestException.class, () -> exportService.startExport("payments", "csv"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void removeExpiredExports_RemovesJobsAndFilesPastRetention() throws Exception {
+        // Given: срок хранения отрицательный, поэтому любая завершенная выгрузка уже устарела
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenThrow(new DataAccessResourceFailureException("Connection lost"));
+        ExportProperties properties = new ExportProperties();
+        properties.setRetention(Duration.ofMinutes(-1));
+        ExportServiceImpl exportService = createService(Runnable::run, properties);
+
+        ExportDataResponse response = exportService.startExport("users", "csv");
+        Path orphan = Files.writeString(uploadDir.resolve("exports").resolve("previous-run.csv"), "id\r\n");
+        Files.setLastModifiedTime(orphan, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+
+        // When
+        int removed = exportService.removeExpiredExports();
+
+        // Then
+        assertEquals(2, removed);
+        assertFalse(Files.exists(orphan));
+        assertThrows(ResourceNotFoundException.class, () -> exportService.getExport(response.getExportId()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void removeExpiredExports_KeepsExportsWithinRetention() throws Exception {
+        // Given
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("ID");
+        when(resultSet.next()).thenReturn(false);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(ResultSetExtractor.class)))
+                .thenAnswer(invocation -> invocation.<ResultSetExtractor<Void>>getArgument(1).extractData(resultSet));
+        ExportServiceImpl exportService = createService(Runnable::run);
+        ExportDataResponse response = exportService.startExport("courses", "csv");
+
+        // When
+        int removed = exportService.removeExpiredExports();
+
+        // Then
+        assertEquals(0, removed);
+        assertTrue(Files.exists(exportService.getCompletedExport(response.getExportId()).getFile()));
+    }
+
+    @Test
+    void getExport_NotFound() {
+        ExportServiceImpl exportService = createService(Runnable::run);
+
+        assertThrows(ResourceNotFoundException.class, () -> exportService.getExport("missing"));
+    }
+}
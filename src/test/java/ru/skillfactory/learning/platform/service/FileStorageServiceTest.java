@@ -4,22 +4,36 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.util.FileSystemUtils;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
 import ru.skillfactory.learning.platform.exception.FileStorageException;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.service.file.ThumbnailGenerator;
 import ru.skillfactory.learning.platform.service.impl.FileStorageServiceImpl;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class FileStorageServiceTest {
 
+    @Mock
+    private ThumbnailGenerator thumbnailGenerator;
+
     private FileStorageServiceImpl fileStorageService;
     private final Path testUploadDir = Paths.get("test-uploads");
     private MockMultipartFile testFile;
@@ -29,7 +43,7 @@ public class FileStorageServiceTest {
         // Создаем тестовую директорию
         Files.createDirectories(testUploadDir);
 
-        fileStorageService = new FileStorageServiceImpl();
+        fileStorageService = new FileStorageServiceImpl(thumbnailGenerator);
         fileStorageService.setUploadDir(testUploadDir.toString());
 
         // Создаем тестовый файл
@@ -58,6 +72,7 @@ public class FileStorageServiceTest {
 
         Path storedFile = testUploadDir.resolve("test-directory").resolve(fileName);
         assertTrue(Files.exists(storedFile));
+        verify(thumbnailGenerator).scheduleThumbnails(storedFile);
     }
 
     @Test
@@ -95,6 +110,75 @@ public class FileStorageServiceTest {
                 fileStorageService.loadFile("non-existent/file.jpg"));
     }
 
+    @Test
+    void loadFileAsResource_Success() throws IOException {
+        // Arrange
+        String fileName = fileStorageService.storeFile(testFile, "test-directory");
+
+        // Act
+        Resource resource = fileStorageService.loadFileAsResource("test-directory/" + fileName);
+
+        // Assert
+        assertTrue(resource.exists());
+        assertEquals("test image content".length(), resource.contentLength());
+        try (InputStream in = resource.getInputStream()) {
+            assertArrayEquals("test image content".getBytes(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void loadFileAsResource_FileNotFound_ThrowsException() {
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+                fileStorageService.loadFileAsResource("non-existent/file.jpg"));
+    }
+
+    @Test
+    void loadFileAsResource_WithPathTraversal_ThrowsException() {
+        // Act & Assert
+        assertThrows(FileStorageException.class, () ->
+                fileStorageService.loadFileAsResource("../build.gradle"));
+    }
+
+    @Test
+    void loadThumbnailAsResource_ThumbnailExists() throws IOException {
+        // Arrange
+        when(thumbnailGenerator.isSupportedSize(48)).thenReturn(true);
+        String fileName = fileStorageService.storeFile(testFile, "test-directory");
+        Path original = testUploadDir.resolve("test-directory").resolve(fileName);
+        Files.write(ThumbnailGenerator.thumbnailPath(original, 48), "thumbnail".getBytes());
+
+        // Act
+        Resource resource = fileStorageService.loadThumbnailAsResource("test-directory/" + fileName, 48);
+
+        // Assert
+        assertEquals(ThumbnailGenerator.thumbnailPath(original, 48).getFileName().toString(), resource.getFilename());
+    }
+
+    @Test
+    void loadThumbnailAsResource_ThumbnailNotReady_ReturnsOriginal() {
+        // Arrange
+        when(thumbnailGenerator.isSupportedSize(48)).thenReturn(true);
+        String fileName = fileStorageService.storeFile(testFile, "test-directory");
+
+        // Act
+        Resource resource = fileStorageService.loadThumbnailAsResource("test-directory/" + fileName, 48);
+
+        // Assert
+        assertEquals(fileName, resource.getFilename());
+    }
+
+    @Test
+    void loadThumbnailAsResource_UnsupportedSize_ThrowsException() {
+        // Arrange
+        when(thumbnailGenerator.isSupportedSize(1000)).thenReturn(false);
+        when(thumbnailGenerator.getSizes()).thenReturn(List.of(48, 128, 256));
+
+        // Act & Assert
+        assertThrows(BadRequestException.class, () ->
+                fileStorageService.loadThumbnailAsResource("test-directory/avatar.jpg", 1000));
+    }
+
     @Test
     void deleteFile_Success() throws IOException {
         // Arrange
@@ -109,6 +193,61 @@ public class FileStorageServiceTest {
         assertFalse(Files.exists(filePath));
     }
 
+    @Test
+    void storeFile_ContentAddressed_DeduplicatesAcrossDirectories() throws IOException {
+        // Arrange
+        fileStorageService.setContentAddressed(true);
+
+        // Act
+        String first = fileStorageService.storeFile(testFile, "avatars/1");
+        String second = fileStorageService.storeFile(testFile, "avatars/2");
+        String repeated = fileStorageService.storeFile(testFile, "avatars/2");
+
+        // Assert
+        assertEquals(first, second);
+        assertEquals(first, repeated);
+        assertTrue(Files.isSameFile(testUploadDir.resolve("avatars/1").resolve(first),
+                testUploadDir.resolve("avatars/2").resolve(second)));
+        // Повторная загрузка в тот же каталог не готовит копии заново
+        verify(thumbnailGenerator, times(2)).scheduleThumbnails(any());
+    }
+
+    @Test
+    void deleteFile_ContentAddressed_KeepsContentWhileReferenced() throws IOException {
+        // Arrange
+        fileStorageService.setContentAddressed(true);
+        String fileName = fileStorageService.storeFile(testFile, "avatars/1");
+        fileStorageService.storeFile(testFile, "avatars/2");
+
+        // Act
+        fileStorageService.deleteFile("avatars/1/" + fileName);
+
+        // Assert
+        assertFalse(Files.exists(testUploadDir.resolve("avatars/1").resolve(fileName)));
+        assertArrayEquals("test image content".getBytes(),
+                fileStorageService.loadFile("avatars/2/" + fileName));
+    }
+
+    @Test
+    void deleteFile_RemovesThumbnails() throws IOException {
+        // Arrange
+        when(thumbnailGenerator.getSizes()).thenReturn(List.of(48, 128));
+        String fileName = fileStorageService.storeFile(testFile, "avatars/1");
+        Path original = testUploadDir.resolve("avatars/1").resolve(fileName);
+        Path small = ThumbnailGenerator.thumbnailPath(original, 48);
+        Path medium = ThumbnailGenerator.thumbnailPath(original, 128);
+        Files.writeString(small, "small");
+        Files.writeString(medium, "medium");
+
+        // Act
+        fileStorageService.deleteFile("avatars/1/" + fileName);
+
+        // Assert
+        assertFalse(Files.exists(original));
+        assertFalse(Files.exists(small));
+        assertFalse(Files.exists(medium));
+    }
+
     @Test
     void deleteFile_FileNotFound_NoException() {
         // Act (не должно бросать исключение)
@@ -11,9 +11,11 @@ import ru.skillfactory.learning.platform.dto.request.UpdateModuleRequest;
 import ru.skillfactory.learning.platform.dto.response.ModuleResponse;
 import ru.skillfactory.learning.platform.entity.Course;
 import ru.skillfactory.learning.platform.entity.Module;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.ModuleMapper;
 import ru.skillfactory.learning.platform.repository.CourseRepository;
 import ru.skillfactory.learning.platform.repository.ModuleRepository;
+import ru.skillfactory.learning.platform.service.course.CourseStatsUpdater;
 import ru.skillfactory.learning.platform.service.impl.ModuleServiceImpl;
 
 import java.util.ArrayList;
@@ -36,6 +38,9 @@ public class ModuleServiceTest {
     @Mock
     private ModuleMapper moduleMapper;
 
+    @Mock
+    private CourseStatsUpdater courseStatsUpdater;
+
     @InjectMocks
     private ModuleServiceImpl moduleService;
 
@@ -87,6 +92,7 @@ public class ModuleServiceTest {
 
         verify(courseRepository, times(1)).findById(1L);
         verify(moduleRepository, times(1)).save(any(Module.class));
+        verify(courseStatsUpdater, times(1)).moduleAdded(1L);
     }
 
     @Test
@@ -178,4 +184,31 @@ public class ModuleServiceTest {
         verify(moduleRepository, times(1)).findByCourseId(1L);
         verify(moduleRepository, times(1)).saveAll(anyList());
     }
-}
\ No newline at end of file
+
+    @Test
+    void deleteModule_Success() {
+        // Given
+        when(moduleRepository.findCourseIdById(1L)).thenReturn(Optional.of(1L));
+
+        // When
+        moduleService.deleteModule(1L);
+
+        // Then
+        verify(moduleRepository, times(1)).deleteById(1L);
+        verify(courseStatsUpdater, times(1)).moduleRemoved(1L);
+    }
+
+    @Test
+    void deleteModule_NotFound() {
+        // Given
+        when(moduleRepository.findCourseIdById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> {
+            moduleService.deleteModule(99L);
+        });
+
+        verify(moduleRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(courseStatsUpdater);
+    }
+}
@@ -3,26 +3,49 @@ package ru.skillfactory.learning.platform.service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.skillfactory.learning.platform.dto.request.AnswerOptionRequest;
+import ru.skillfactory.learning.platform.dto.request.BulkCreateQuizRequest;
+import ru.skillfactory.learning.platform.dto.request.CreateQuestionRequest;
 import ru.skillfactory.learning.platform.dto.request.CreateQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.TakeQuizRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateQuizRequest;
+import ru.skillfactory.learning.platform.dto.response.CursorPaginatedResponse;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizResponse;
 import ru.skillfactory.learning.platform.dto.response.QuizResultResponse;
 import ru.skillfactory.learning.platform.entity.*;
 import ru.skillfactory.learning.platform.entity.Module;
 import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
 import ru.skillfactory.learning.platform.mapper.QuizMapper;
 import ru.skillfactory.learning.platform.repository.*;
+import ru.skillfactory.learning.platform.repository.projection.CorrectAnswerRow;
 import ru.skillfactory.learning.platform.service.impl.QuizServiceImpl;
+import ru.skillfactory.learning.platform.service.quiz.PendingQuizSubmission;
+import ru.skillfactory.learning.platform.service.quiz.QuizAnswerKey;
+import ru.skillfactory.learning.platform.service.quiz.QuizAnswerKeyCache;
+import ru.skillfactory.learning.platform.service.quiz.QuizAttemptCache;
+import ru.skillfactory.learning.platform.service.quiz.QuizSubmissionWriteBuffer;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,16 +61,22 @@ public class QuizServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private QuestionRepository questionRepository;
+    private QuizSubmissionRepository quizSubmissionRepository;
 
     @Mock
-    private AnswerOptionRepository answerOptionRepository;
+    private QuizMapper quizMapper;
 
     @Mock
-    private QuizSubmissionRepository quizSubmissionRepository;
+    private QuizAnswerKeyCache answerKeyCache;
 
     @Mock
-    private QuizMapper quizMapper;
+    private QuizAttemptCache quizAttemptCache;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private QuizSubmissionWriteBuffer writeBuffer;
 
     @InjectMocks
     private QuizServiceImpl quizService;
@@ -181,6 +210,111 @@ public class QuizServiceTest {
         verify(quizMapper).toResponse(any(Quiz.class));
     }
 
+    @Test
+    void createQuiz_WithQuestions_SavesGraphInSingleCascade() {
+        // Given
+        AnswerOptionRequest option = new AnswerOptionRequest();
+        option.setText("4");
+        option.setIsCorrect(true);
+
+        CreateQuestionRequest question = new CreateQuestionRequest();
+        question.setText("What is 2+2?");
+        question.setType(QuestionType.SINGLE_CHOICE);
+        question.setOptions(List.of(option));
+
+        CreateQuizRequest request = CreateQuizRequest.builder()
+                .title("Quiz 1")
+                .moduleId(1L)
+                .questions(List.of(question))
+                .build();
+
+        Module moduleWithoutQuiz = Module.builder()
+                .id(1L)
+                .title("Module 1")
+                .build();
+
+        when(moduleRepository.findById(1L)).thenReturn(Optional.of(moduleWithoutQuiz));
+        when(quizRepository.save(any(Quiz.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(quizMapper.toResponse(any(Quiz.class))).thenReturn(testQuizResponse);
+
+        // When
+        quizService.createQuiz(request);
+
+        // Then
+        ArgumentCaptor<Quiz> captor = ArgumentCaptor.forClass(Quiz.class);
+        verify(quizRepository).save(captor.capture());
+
+        Quiz saved = captor.getValue();
+        assertEquals(1, saved.getQuestions().size());
+        Question savedQuestion = saved.getQuestions().get(0);
+        assertSame(saved, savedQuestion.getQuiz());
+        assertEquals(1, savedQuestion.getOptions().size());
+        assertSame(savedQuestion, savedQuestion.getOptions().get(0).getQuestion());
+        assertTrue(savedQuestion.getOptions().get(0).getIsCorrect());
+    }
+
+    @Test
+    void createQuizzes_Success() {
+        // Given
+        BulkCreateQuizRequest request = BulkCreateQuizRequest.builder()
+                .quizzes(List.of(
+                        CreateQuizRequest.builder().title("Quiz 1").moduleId(1L).build(),
+                        CreateQuizRequest.builder().title("Quiz 2").moduleId(2L).build()))
+                .build();
+
+        Module firstModule = Module.builder().id(1L).title("Module 1").build();
+        Module secondModule = Module.builder().id(2L).title("Module 2").build();
+
+        when(quizRepository.findModuleIdsByModuleIdIn(Set.of(1L, 2L))).thenReturn(List.of());
+        when(moduleRepository.findAllByIdWithQuiz(Set.of(1L, 2L))).thenReturn(List.of(firstModule, secondModule));
+        when(quizRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(quizMapper.toResponse(any(Quiz.class))).thenReturn(testQuizResponse);
+
+        // When
+        List<QuizResponse> responses = quizService.createQuizzes(request);
+
+        // Then
+        assertEquals(2, responses.size());
+        verify(moduleRepository, never()).findById(anyLong());
+        verify(quizRepository).saveAll(anyList());
+        verify(quizRepository, never()).save(any(Quiz.class));
+    }
+
+    @Test
+    void createQuizzes_DuplicateModule_ThrowsException() {
+        // Given
+        BulkCreateQuizRequest request = BulkCreateQuizRequest.builder()
+                .quizzes(List.of(
+                        CreateQuizRequest.builder().title("Quiz 1").moduleId(1L).build(),
+                        CreateQuizRequest.builder().title("Quiz 2").moduleId(1L).build()))
+                .build();
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> quizService.createQuizzes(request));
+
+        verify(moduleRepository, never()).findAllByIdWithQuiz(any());
+        verify(quizRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void createQuizzes_ModuleAlreadyHasQuiz_ThrowsWithoutLoadingModules() {
+        // Given
+        BulkCreateQuizRequest request = BulkCreateQuizRequest.builder()
+                .quizzes(List.of(
+                        CreateQuizRequest.builder().title("Quiz 1").moduleId(1L).build(),
+                        CreateQuizRequest.builder().title("Quiz 2").moduleId(2L).build()))
+                .build();
+
+        when(quizRepository.findModuleIdsByModuleIdIn(Set.of(1L, 2L))).thenReturn(List.of(2L));
+
+        // When & Then
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> quizService.createQuizzes(request));
+
+        assertEquals("Module 2 already has a quiz", exception.getMessage());
+        verify(moduleRepository, never()).findAllByIdWithQuiz(any());
+        verify(quizRepository, never()).saveAll(anyList());
+    }
+
     @Test
     void createQuiz_ModuleAlreadyHasQuiz_ThrowsException() {
         // Given
@@ -216,26 +350,29 @@ public class QuizServiceTest {
                 .takenAt(LocalDateTime.now())
                 .build();
 
+        runTransactionsInline();
         when(userRepository.findById(1L)).thenReturn(Optional.of(testStudent));
         when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizRepository.findByIdWithQuestions(1L)).thenReturn(Optional.of(testQuiz));
-        when(quizSubmissionRepository.findByQuizIdAndStudentId(1L, 1L)).thenReturn(Optional.empty());
-        when(quizSubmissionRepository.save(any(QuizSubmission.class))).thenReturn(quizSubmission);
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L))));
+        when(quizSubmissionRepository.insertIfAbsent(eq(1L), eq(1L), eq(100), any(LocalDateTime.class), isNull()))
+                .thenReturn(1);
+        when(quizSubmissionRepository.findByQuizIdAndStudentId(1L, 1L)).thenReturn(Optional.of(quizSubmission));
 
         // When
-        QuizResultResponse result = quizService.takeQuiz(1L, request);
+        QuizResultResponse result = quizService.takeQuiz(1L, request, null);
 
         // Then
         assertNotNull(result);
         assertEquals(100, result.getScore());
         assertEquals(1, result.getAbsoluteScore());
+        assertEquals(1, result.getMaxScore());
 
         verify(userRepository).findById(1L);
         verify(quizRepository).findById(1L);
-        verify(quizRepository).findByIdWithQuestions(1L);
-        verify(quizSubmissionRepository).findByQuizIdAndStudentId(1L, 1L);
-        verify(quizSubmissionRepository).save(any(QuizSubmission.class));
-
+        verify(answerKeyCache).get(1L);
+        verify(quizRepository, never()).findByIdWithQuestions(anyLong());
+        verify(quizSubmissionRepository, never()).save(any(QuizSubmission.class));
+        verifyNoInteractions(quizAttemptCache);
     }
 
     @Test
@@ -253,26 +390,191 @@ public class QuizServiceTest {
                 .score(80)
                 .build();
 
+        runTransactionsInline();
         when(userRepository.findById(1L)).thenReturn(Optional.of(testStudent));
         when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L))));
+        when(quizSubmissionRepository.insertIfAbsent(eq(1L), eq(1L), eq(100), any(LocalDateTime.class), isNull()))
+                .thenReturn(0);
         when(quizSubmissionRepository.findByQuizIdAndStudentId(1L, 1L))
                 .thenReturn(Optional.of(existingSubmission));
 
         // When & Then
-        assertThrows(BadRequestException.class, () -> {
-            quizService.takeQuiz(1L, request);
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> {
+            quizService.takeQuiz(1L, request, null);
         });
 
-        verify(quizSubmissionRepository).findByQuizIdAndStudentId(1L, 1L);
+        assertEquals("Student has already taken this quiz", exception.getMessage());
         verify(quizSubmissionRepository, never()).save(any(QuizSubmission.class));
     }
 
+    @Test
+    void takeQuiz_RetryWithSameKey_ReturnsStoredAttempt() {
+        // Given
+        TakeQuizRequest request = TakeQuizRequest.builder()
+                .quizId(1L)
+                .answers(Map.of(1L, 1L))
+                .build();
+
+        QuizSubmission storedSubmission = QuizSubmission.builder()
+                .id(7L)
+                .student(testStudent)
+                .quiz(testQuiz)
+                .score(0)
+                .idempotencyKey("attempt-1")
+                .build();
+
+        runTransactionsInline();
+        when(quizAttemptCache.get(1L, "attempt-1")).thenReturn(null);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L))));
+        when(quizSubmissionRepository.insertIfAbsent(eq(1L), eq(1L), eq(100), any(LocalDateTime.class), eq("attempt-1")))
+                .thenReturn(0);
+        when(quizSubmissionRepository.findByQuizIdAndStudentId(1L, 1L)).thenReturn(Optional.of(storedSubmission));
+
+        // When
+        QuizResultResponse result = quizService.takeQuiz(1L, request, "attempt-1");
+
+        // Then: возвращается первая попытка, а не пересчитанный результат повтора
+        assertEquals(7L, result.getId());
+        assertEquals(0, result.getScore());
+        verify(quizAttemptCache).put(1L, "attempt-1", result);
+    }
+
+    @Test
+    void takeQuiz_KeyInMemory_ReturnsWithoutTransaction() {
+        // Given
+        TakeQuizRequest request = TakeQuizRequest.builder()
+                .quizId(1L)
+                .answers(Map.of(1L, 1L))
+                .build();
+        when(quizAttemptCache.get(1L, "attempt-1")).thenReturn(testQuizResultResponse);
+
+        // When
+        QuizResultResponse result = quizService.takeQuiz(1L, request, "attempt-1");
+
+        // Then
+        assertSame(testQuizResultResponse, result);
+        verifyNoInteractions(transactionTemplate, quizSubmissionRepository, userRepository);
+    }
+
+    @Test
+    void takeQuiz_KeyUsedForAnotherQuiz_ThrowsException() {
+        // Given
+        TakeQuizRequest request = TakeQuizRequest.builder()
+                .quizId(2L)
+                .answers(Map.of(1L, 1L))
+                .build();
+        when(quizAttemptCache.get(1L, "attempt-1")).thenReturn(testQuizResultResponse);
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> quizService.takeQuiz(1L, request, "attempt-1"));
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void takeQuiz_WriteBehind_QueuesAttemptWithoutInsert() {
+        // Given
+        TakeQuizRequest request = TakeQuizRequest.builder()
+                .quizId(1L)
+                .answers(Map.of(1L, 1L))
+                .build();
+
+        runTransactionsInline();
+        when(writeBuffer.isEnabled()).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L))));
+        when(quizSubmissionRepository.findByQuizIdAndStudentId(1L, 1L)).thenReturn(Optional.empty());
+        when(writeBuffer.enqueue(any(PendingQuizSubmission.class))).thenReturn(null);
+
+        // When
+        QuizResultResponse result = quizService.takeQuiz(1L, request, null);
+
+        // Then
+        assertNull(result.getId());
+        assertEquals(100, result.getScore());
+        assertEquals(1L, result.getQuizId());
+
+        ArgumentCaptor<PendingQuizSubmission> captor = ArgumentCaptor.forClass(PendingQuizSubmission.class);
+        verify(writeBuffer).enqueue(captor.capture());
+        assertEquals(1L, captor.getValue().quizId());
+        assertEquals(1L, captor.getValue().studentId());
+        assertEquals(100, captor.getValue().score());
+        verify(quizSubmissionRepository, never()).insertIfAbsent(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void takeQuiz_WriteBehind_SecondAttemptWhileQueued_ThrowsException() {
+        // Given
+        TakeQuizRequest request = TakeQuizRequest.builder()
+                .quizId(1L)
+                .answers(Map.of(1L, 1L))
+                .build();
+        PendingQuizSubmission queued = new PendingQuizSubmission(1L, 1L, 0, LocalDateTime.now(), null);
+
+        runTransactionsInline();
+        when(writeBuffer.isEnabled()).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L))));
+        when(quizSubmissionRepository.findByQuizIdAndStudentId(1L, 1L)).thenReturn(Optional.empty());
+        when(writeBuffer.enqueue(any(PendingQuizSubmission.class))).thenReturn(queued);
+
+        // When & Then
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> {
+            quizService.takeQuiz(1L, request, null);
+        });
+
+        assertEquals("Student has already taken this quiz", exception.getMessage());
+    }
+
+    @Test
+    void takeQuiz_WriteBehind_KeyStoredForAnotherQuiz_ThrowsException() {
+        // Given
+        TakeQuizRequest request = TakeQuizRequest.builder()
+                .quizId(1L)
+                .answers(Map.of(1L, 1L))
+                .build();
+
+        runTransactionsInline();
+        when(writeBuffer.isEnabled()).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testStudent));
+        when(quizRepository.findById(1L)).thenReturn(Optional.of(testQuiz));
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L))));
+        when(quizSubmissionRepository.findByQuizIdAndStudentId(1L, 1L)).thenReturn(Optional.empty());
+        when(quizSubmissionRepository.existsByStudentIdAndIdempotencyKey(1L, "attempt-1")).thenReturn(true);
+
+        // When & Then
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> {
+            quizService.takeQuiz(1L, request, "attempt-1");
+        });
+
+        assertEquals("Idempotency key has already been used for another quiz", exception.getMessage());
+        verify(writeBuffer, never()).enqueue(any(PendingQuizSubmission.class));
+        verify(quizAttemptCache, never()).put(any(), any(), any());
+    }
+
+    @Test
+    void takeQuiz_BlankKey_ThrowsException() {
+        // Given
+        TakeQuizRequest request = TakeQuizRequest.builder()
+                .quizId(1L)
+                .answers(Map.of(1L, 1L))
+                .build();
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> quizService.takeQuiz(1L, request, " "));
+        verifyNoInteractions(quizAttemptCache, transactionTemplate);
+    }
+
     @Test
     void calculateScore_AllCorrect() {
         // Given
         Map<Long, Long> answers = Map.of(1L, 1L); // Выбран правильный ответ
 
-        when(quizRepository.findByIdWithQuestions(1L)).thenReturn(Optional.of(testQuiz));
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L))));
 
         // When
         int score = quizService.calculateScore(1L, answers);
@@ -280,7 +582,8 @@ public class QuizServiceTest {
         // Then
         assertEquals(1, score); // 1 правильный ответ из 1
 
-        verify(quizRepository).findByIdWithQuestions(1L);
+        verify(answerKeyCache).get(1L);
+        verify(quizRepository, never()).findByIdWithQuestions(anyLong());
     }
 
     @Test
@@ -288,7 +591,7 @@ public class QuizServiceTest {
         // Given
         Map<Long, Long> answers = Map.of(1L, 2L); // Выбран неправильный ответ
 
-        when(quizRepository.findByIdWithQuestions(1L)).thenReturn(Optional.of(testQuiz));
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L))));
 
         // When
         int score = quizService.calculateScore(1L, answers);
@@ -296,7 +599,7 @@ public class QuizServiceTest {
         // Then
         assertEquals(0, score); // 0 правильных ответов
 
-        verify(quizRepository).findByIdWithQuestions(1L);
+        verify(answerKeyCache).get(1L);
     }
 
     @Test
@@ -304,7 +607,7 @@ public class QuizServiceTest {
         // Given
         Map<Long, Long> answers = new HashMap<>(); // Нет ответов
 
-        when(quizRepository.findByIdWithQuestions(1L)).thenReturn(Optional.of(testQuiz));
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L))));
 
         // When
         int score = quizService.calculateScore(1L, answers);
@@ -312,51 +615,40 @@ public class QuizServiceTest {
         // Then
         assertEquals(0, score); // 0 правильных ответов
 
-        verify(quizRepository).findByIdWithQuestions(1L);
+        verify(answerKeyCache).get(1L);
     }
 
     @Test
     void calculateScore_MultipleQuestions() {
         // Given
-        // Создаем второй вопрос
-        Question question2 = Question.builder()
-                .id(2L)
-                .text("What is 3+3?")
-                .type(QuestionType.SINGLE_CHOICE)
-                .quiz(testQuiz)
-                .build();
-
-        AnswerOption correctOption2 = AnswerOption.builder()
-                .id(3L)
-                .text("6")
-                .isCorrect(true)
-                .question(question2)
-                .build();
-
-        AnswerOption wrongOption2 = AnswerOption.builder()
-                .id(4L)
-                .text("7")
-                .isCorrect(false)
-                .question(question2)
-                .build();
-
-        question2.setOptions(Arrays.asList(correctOption2, wrongOption2));
-        testQuiz.setQuestions(Arrays.asList(testQuestion, question2));
+        // Второй вопрос с правильным вариантом 3
+        when(answerKeyCache.get(1L)).thenReturn(QuizAnswerKey.of(List.of(
+                new CorrectAnswerRow(1L, 1L),
+                new CorrectAnswerRow(2L, 3L)
+        )));
 
         Map<Long, Long> answers = Map.of(
                 1L, 1L, // Правильный ответ на первый вопрос
                 2L, 4L  // Неправильный ответ на второй вопрос
         );
 
-        when(quizRepository.findByIdWithQuestions(1L)).thenReturn(Optional.of(testQuiz));
-
         // When
         int score = quizService.calculateScore(1L, answers);
 
         // Then
         assertEquals(1, score); // 1 правильный ответ из 2
 
-        verify(quizRepository).findByIdWithQuestions(1L);
+        verify(answerKeyCache).get(1L);
+    }
+
+    @Test
+    void calculateScore_QuizNotFound_ThrowsException() {
+        // Given
+        when(answerKeyCache.get(99L)).thenReturn(QuizAnswerKey.of(List.of()));
+        when(quizRepository.existsById(99L)).thenReturn(false);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> quizService.calculateScore(99L, Map.of(1L, 1L)));
     }
 
     @Test
@@ -431,27 +723,45 @@ public class QuizServiceTest {
         // Then
         verify(quizRepository).existsById(1L);
         verify(quizRepository).deleteById(1L);
+        verify(answerKeyCache).invalidate(1L);
     }
 
     @Test
     void getAllQuizzes_Success() {
         // Given
-        List<Quiz> quizzes = List.of(testQuiz);
-        when(quizRepository.findAll()).thenReturn(quizzes);
+        Pageable pageable = PageRequest.of(0, 20);
+        when(quizRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(testQuiz), pageable, 1));
         when(quizMapper.toResponse(testQuiz)).thenReturn(testQuizResponse);
 
         // When
-        List<QuizResponse> results = quizService.getAllQuizzes();
+        PaginatedResponse<QuizResponse> results = quizService.getAllQuizzes(pageable);
 
         // Then
         assertNotNull(results);
-        assertEquals(1, results.size());
-        assertEquals("Quiz 1", results.get(0).getTitle());
+        assertEquals(1, results.getContent().size());
+        assertEquals(1, results.getTotalElements());
+        assertEquals("Quiz 1", results.getContent().get(0).getTitle());
 
-        verify(quizRepository).findAll();
+        verify(quizRepository).findAll(pageable);
         verify(quizMapper).toResponse(testQuiz);
     }
 
+    @Test
+    void scrollQuizzes_ReturnsCursorOfLastElement() {
+        // Given
+        when(quizRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.ofSize(1)))
+                .thenReturn(new SliceImpl<>(List.of(testQuiz), PageRequest.ofSize(1), true));
+        when(quizMapper.toResponse(testQuiz)).thenReturn(testQuizResponse);
+
+        // When
+        CursorPaginatedResponse<QuizResponse> results = quizService.scrollQuizzes(null, 1);
+
+        // Then
+        assertEquals(1, results.getContent().size());
+        assertEquals(testQuizResponse.getId(), results.getNextCursor());
+        assertFalse(results.isLast());
+    }
+
     @Test
     void getQuizDetailById_Success() {
         // Given
@@ -529,4 +839,10 @@ public class QuizServiceTest {
         verify(quizRepository).save(any(Quiz.class));
         verify(quizMapper).toResponse(any(Quiz.class));
     }
-}
\ No newline at end of file
+
+    // TransactionTemplate выполняет колбэк сразу, как при настоящей транзакции
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+}
@@ -0,0 +1,105 @@
+package ru.skillfactory.learning.platform.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.service.impl.SecondLevelCacheServiceImpl;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SecondLevelCacheServiceTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @Mock
+    private Cache cache;
+
+    private SecondLevelCacheServiceImpl secondLevelCacheService;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        lenient().when(sessionFactory.getStatistics()).thenReturn(statistics);
+        lenient().when(sessionFactory.getCache()).thenReturn(cache);
+        secondLevelCacheService = new SecondLevelCacheServiceImpl(entityManagerFactory);
+    }
+
+    private CacheRegionStatistics regionStatistics(long hits, long misses, long puts, long elements) {
+        CacheRegionStatistics stats = mock(CacheRegionStatistics.class);
+        when(stats.getHitCount()).thenReturn(hits);
+        when(stats.getMissCount()).thenReturn(misses);
+        when(stats.getPutCount()).thenReturn(puts);
+        when(stats.getElementCountInMemory()).thenReturn(elements);
+        return stats;
+    }
+
+    @Test
+    void getRegionStatistics_MapsEveryRegionSortedByName() {
+        // Given
+        CacheRegionStatistics categories = regionStatistics(3, 1, 2, 5);
+        CacheRegionStatistics courses = regionStatistics(0, 0, 0, CacheRegionStatistics.NO_EXTENDED_STAT_SUPPORT_RETURN);
+        when(statistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{"courses", "categories"});
+        when(statistics.getCacheRegionStatistics("categories")).thenReturn(categories);
+        when(statistics.getCacheRegionStatistics("courses")).thenReturn(courses);
+
+        // When
+        List<CacheStatsResponse> result = secondLevelCacheService.getRegionStatistics();
+
+        // Then
+        assertEquals(2, result.size());
+        CacheStatsResponse first = result.get(0);
+        assertEquals("categories", first.getName());
+        assertEquals(5, first.getSize());
+        assertEquals(3, first.getHitCount());
+        assertEquals(1, first.getMissCount());
+        assertEquals(0.75, first.getHitRate(), 1e-9);
+        assertEquals(2, first.getLoadCount());
+
+        CacheStatsResponse second = result.get(1);
+        assertEquals("courses", second.getName());
+        assertEquals(-1, second.getSize());
+        assertEquals(0.0, second.getHitRate());
+    }
+
+    @Test
+    void evictRegion_KnownRegion_Evicts() {
+        // Given
+        when(statistics.getCacheRegionStatistics("categories")).thenReturn(mock(CacheRegionStatistics.class));
+
+        // When
+        secondLevelCacheService.evictRegion("categories");
+
+        // Then
+        verify(cache).evictRegion("categories");
+    }
+
+    @Test
+    void evictRegion_UnknownRegion_ThrowsException() {
+        // Given
+        when(statistics.getCacheRegionStatistics("missing")).thenReturn(null);
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> secondLevelCacheService.evictRegion("missing"));
+        verify(cache, never()).evictRegion(anyString());
+    }
+}
@@ -0,0 +1,90 @@
+package ru.skillfactory.learning.platform.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.skillfactory.learning.platform.configuration.StatisticsProperties;
+import ru.skillfactory.learning.platform.dto.response.StatisticsResponse;
+import ru.skillfactory.learning.platform.service.impl.StatisticsServiceImpl;
+import ru.skillfactory.learning.platform.service.statistics.StatisticsCalculator;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatisticsServiceTest {
+
+    @Mock
+    private StatisticsCalculator statisticsCalculator;
+
+    private StatisticsProperties properties;
+    private StatisticsServiceImpl statisticsService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StatisticsProperties();
+        properties.setRefreshInterval(Duration.ofMinutes(5));
+        statisticsService = new StatisticsServiceImpl(statisticsCalculator, properties);
+    }
+
+    private StatisticsResponse snapshot(LocalDateTime generatedAt) {
+        StatisticsResponse statistics = new StatisticsResponse();
+        statistics.setTotalCourses(10L);
+        statistics.setGeneratedAt(generatedAt);
+        return statistics;
+    }
+
+    @Test
+    void getStatistics_FreshSnapshot_CalculatedOnce() {
+        // Given
+        StatisticsResponse statistics = snapshot(LocalDateTime.now());
+        when(statisticsCalculator.calculate()).thenReturn(statistics);
+
+        // When
+        StatisticsResponse first = statisticsService.getStatistics();
+        StatisticsResponse second = statisticsService.getStatistics();
+
+        // Then
+        assertSame(statistics, first);
+        assertSame(statistics, second);
+        verify(statisticsCalculator, times(1)).calculate();
+    }
+
+    @Test
+    void getStatistics_StaleSnapshot_Recalculates() {
+        // Given
+        StatisticsResponse stale = snapshot(LocalDateTime.now().minusMinutes(10));
+        StatisticsResponse fresh = snapshot(LocalDateTime.now());
+        when(statisticsCalculator.calculate()).thenReturn(stale, fresh);
+
+        // When
+        statisticsService.getStatistics();
+        StatisticsResponse result = statisticsService.getStatistics();
+
+        // Then
+        assertSame(fresh, result);
+        verify(statisticsCalculator, times(2)).calculate();
+    }
+
+    @Test
+    void refreshStatistics_AlwaysRecalculates() {
+        // Given
+        StatisticsResponse first = snapshot(LocalDateTime.now());
+        StatisticsResponse second = snapshot(LocalDateTime.now());
+        when(statisticsCalculator.calculate()).thenReturn(first, second);
+
+        // When
+        statisticsService.getStatistics();
+        StatisticsResponse refreshed = statisticsService.refreshStatistics();
+
+        // Then
+        assertSame(second, refreshed);
+        assertSame(second, statisticsService.getStatistics());
+        verify(statisticsCalculator, times(2)).calculate();
+    }
+}
@@ -0,0 +1,239 @@
+package ru.skillfactory.learning.platform.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+import ru.skillfactory.learning.platform.configuration.AttachmentProperties;
+import ru.skillfactory.learning.platform.configuration.FileStorageConfiguration;
+import ru.skillfactory.learning.platform.dto.request.InitAttachmentUploadRequest;
+import ru.skillfactory.learning.platform.dto.response.SubmissionAttachmentResponse;
+import ru.skillfactory.learning.platform.entity.AttachmentStatus;
+import ru.skillfactory.learning.platform.entity.Submission;
+import ru.skillfactory.learning.platform.entity.SubmissionAttachment;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.exception.ResourceNotFoundException;
+import ru.skillfactory.learning.platform.mapper.SubmissionAttachmentMapper;
+import ru.skillfactory.learning.platform.repository.SubmissionAttachmentRepository;
+import ru.skillfactory.learning.platform.repository.SubmissionRepository;
+import ru.skillfactory.learning.platform.service.file.AttachmentFile;
+import ru.skillfactory.learning.platform.service.impl.SubmissionAttachmentServiceImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class SubmissionAttachmentServiceTest {
+
+    @Mock
+    private SubmissionAttachmentRepository attachmentRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path uploadDir;
+
+    private SubmissionAttachmentServiceImpl attachmentService;
+    private Submission testSubmission;
+
+    @BeforeEach
+    void setUp() {
+        AttachmentProperties properties = new AttachmentProperties();
+        properties.setChunkSize(DataSize.ofBytes(4));
+        properties.setMaxFileSize(DataSize.ofBytes(100));
+
+        FileStorageConfiguration fileStorageConfiguration = new FileStorageConfiguration();
+        fileStorageConfiguration.setUploadDir(uploadDir.toString());
+
+        attachmentService = new SubmissionAttachmentServiceImpl(attachmentRepository, submissionRepository,
+                new SubmissionAttachmentMapper(), properties, fileStorageConfiguration, transactionManager);
+
+        testSubmission = new Submission();
+        testSubmission.setId(7L);
+    }
+
+    private SubmissionAttachment startUpload(long size) {
+        when(submissionRepository.findById(7L)).thenReturn(Optional.of(testSubmission));
+        when(attachmentRepository.save(any(SubmissionAttachment.class))).thenAnswer(invocation -> {
+            SubmissionAttachment attachment = invocation.getArgument(0);
+            attachment.setId(1L);
+            return attachment;
+        });
+
+        InitAttachmentUploadRequest request = new InitAttachmentUploadRequest("lecture.mp4", "video/mp4", size);
+        attachmentService.initUpload(7L, request);
+
+        SubmissionAttachment attachment = captureSaved();
+        lenient().when(attachmentRepository.findById(1L)).thenReturn(Optional.of(attachment));
+        lenient().when(attachmentRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(attachment));
+        return attachment;
+    }
+
+    private SubmissionAttachment captureSaved() {
+        ArgumentCaptor<SubmissionAttachment> captor = ArgumentCaptor.forClass(SubmissionAttachment.class);
+        verify(attachmentRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private SubmissionAttachmentResponse upload(int chunkIndex, String content) {
+        InputStream in = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        return attachmentService.uploadChunk(1L, chunkIndex, in);
+    }
+
+    @Test
+    void initUpload_AllocatesFullSizeFile() throws IOException {
+        SubmissionAttachment attachment = startUpload(10);
+
+        assertEquals(3, attachment.getChunkCount());
+        assertEquals(AttachmentStatus.UPLOADING, attachment.getStatus());
+        assertTrue(attachment.getStoragePath().startsWith("assignments/7/"));
+        assertTrue(attachment.getStoragePath().endsWith(".mp4"));
+        assertEquals(10, Files.size(uploadDir.resolve(attachment.getStoragePath() + ".part")));
+    }
+
+    @Test
+    void initUpload_TooLarge_ThrowsBadRequest() {
+        when(submissionRepository.findById(7L)).thenReturn(Optional.of(testSubmission));
+
+        InitAttachmentUploadRequest request = new InitAttachmentUploadRequest("lecture.mp4", "video/mp4", 101L);
+
+        assertThrows(BadRequestException.class, () -> attachmentService.initUpload(7L, request));
+        verify(attachmentRepository, never()).save(any());
+    }
+
+    @Test
+    void initUpload_SubmissionNotFound() {
+        when(submissionRepository.findById(7L)).thenReturn(Optional.empty());
+
+        InitAttachmentUploadRequest request = new InitAttachmentUploadRequest("lecture.mp4", "video/mp4", 10L);
+
+        assertThrows(ResourceNotFoundException.class, () -> attachmentService.initUpload(7L, request));
+    }
+
+    @Test
+    void uploadChunks_InAnyOrder_AssembledOnComplete() throws IOException {
+        // Given
+        SubmissionAttachment attachment = startUpload(10);
+
+        // When
+        SubmissionAttachmentResponse afterLast = upload(2, "ij");
+        upload(0, "abcd");
+        SubmissionAttachmentResponse afterAll = upload(1, "efgh");
+        SubmissionAttachmentResponse completed = attachmentService.completeUpload(1L);
+
+        // Then
+        assertEquals(List.of(0, 1), afterLast.getMissingChunks());
+        assertEquals(3, afterAll.getReceivedChunkCount());
+        assertEquals("COMPLETED", completed.getStatus());
+        assertEquals("/api/v1/submissions/attachments/1/file", completed.getFileUrl());
+
+        Path file = uploadDir.resolve(attachment.getStoragePath());
+        assertEquals("abcdefghij", Files.readString(file));
+        assertFalse(Files.exists(uploadDir.resolve(attachment.getStoragePath() + ".part")));
+
+        AttachmentFile download = attachmentService.loadAttachmentFile(1L);
+        assertEquals("lecture.mp4", download.fileName());
+        assertEquals(10, download.resource().contentLength());
+    }
+
+    @Test
+    void uploadChunk_RetriedChunk_OverwritesInPlace() throws IOException {
+        SubmissionAttachment attachment = startUpload(8);
+
+        upload(0, "xxxx");
+        upload(0, "abcd");
+        upload(1, "efgh");
+        attachmentService.completeUpload(1L);
+
+        assertEquals("abcdefgh", Files.readString(uploadDir.resolve(attachment.getStoragePath())));
+    }
+
+    @Test
+    void uploadChunk_MovesLastChunkTime() {
+        SubmissionAttachment attachment = startUpload(10);
+        LocalDateTime started = LocalDateTime.now().minusHours(30);
+        attachment.setCreatedAt(started);
+        attachment.setLastChunkAt(started);
+
+        upload(0, "abcd");
+
+        assertEquals(started, attachment.getCreatedAt());
+        assertTrue(attachment.getLastChunkAt().isAfter(started));
+    }
+
+    @Test
+    void uploadChunk_Incomplete_IsNotMarkedReceived() {
+        startUpload(10);
+
+        assertThrows(BadRequestException.class, () -> upload(0, "ab"));
+        verify(attachmentRepository, never()).findByIdForUpdate(anyLong());
+    }
+
+    @Test
+    void uploadChunk_TooLarge_ThrowsBadRequest() {
+        startUpload(10);
+
+        assertThrows(BadRequestException.class, () -> upload(2, "ijk"));
+    }
+
+    @Test
+    void uploadChunk_IndexOutOfRange_ThrowsBadRequest() {
+        startUpload(10);
+
+        assertThrows(BadRequestException.class, () -> upload(3, "x"));
+    }
+
+    @Test
+    void completeUpload_MissingChunks_ThrowsBadRequest() {
+        SubmissionAttachment attachment = startUpload(10);
+        upload(0, "abcd");
+
+        assertThrows(BadRequestException.class, () -> attachmentService.completeUpload(1L));
+        assertEquals(AttachmentStatus.UPLOADING, attachment.getStatus());
+    }
+
+    @Test
+    void loadAttachmentFile_NotCompleted_ThrowsBadRequest() {
+        startUpload(10);
+
+        assertThrows(BadRequestException.class, () -> attachmentService.loadAttachmentFile(1L));
+    }
+
+    @Test
+    void removeExpiredUploads_DeletesFilesAndRows() {
+        // Given
+        SubmissionAttachment attachment = startUpload(10);
+        Path part = uploadDir.resolve(attachment.getStoragePath() + ".part");
+        when(attachmentRepository.findInactiveSince(eq(AttachmentStatus.UPLOADING), any(LocalDateTime.class)))
+                .thenReturn(List.of(attachment));
+
+        // When
+        int removed = attachmentService.removeExpiredUploads();
+
+        // Then
+        assertEquals(1, removed);
+        assertFalse(Files.exists(part));
+        verify(attachmentRepository).deleteAll(List.of(attachment));
+    }
+}
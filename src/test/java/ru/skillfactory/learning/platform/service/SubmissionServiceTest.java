@@ -18,10 +18,12 @@ import ru.skillfactory.learning.platform.mapper.SubmissionMapper;
 import ru.skillfactory.learning.platform.repository.AssignmentRepository;
 import ru.skillfactory.learning.platform.repository.SubmissionRepository;
 import ru.skillfactory.learning.platform.repository.UserRepository;
+import ru.skillfactory.learning.platform.service.course.CourseStatsUpdater;
 import ru.skillfactory.learning.platform.service.impl.SubmissionServiceImpl;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -43,6 +45,12 @@ public class SubmissionServiceTest {
     @Mock
     private SubmissionMapper submissionMapper;
 
+    @Mock
+    private CourseStatsUpdater courseStatsUpdater;
+
+    @Mock
+    private SubmissionAttachmentService submissionAttachmentService;
+
     @InjectMocks
     private SubmissionServiceImpl submissionService;
 
@@ -104,6 +112,7 @@ public class SubmissionServiceTest {
         verify(userRepository, times(1)).findById(1L);
         verify(assignmentRepository, times(1)).findById(1L);
         verify(submissionRepository, times(1)).save(any(Submission.class));
+        verify(courseStatsUpdater, times(1)).submissionAdded(1L);
     }
 
     @Test
@@ -243,6 +252,7 @@ public class SubmissionServiceTest {
 
         verify(submissionRepository, times(1)).findById(1L);
         verify(submissionRepository, times(1)).save(any(Submission.class));
+        verify(courseStatsUpdater, times(1)).submissionScoreChanged(1L, null, 90);
     }
 
     @Test
@@ -257,6 +267,35 @@ public class SubmissionServiceTest {
 
         verify(submissionRepository, times(1)).findById(1L);
         verify(submissionRepository, never()).save(any(Submission.class));
+        verifyNoInteractions(courseStatsUpdater);
+    }
+
+    @Test
+    void deleteSubmission_Ungraded_DecrementsCounter() {
+        // Given
+        when(submissionRepository.findById(1L)).thenReturn(Optional.of(testSubmission));
+
+        // When
+        submissionService.deleteSubmission(1L);
+
+        // Then
+        verify(submissionAttachmentService, times(1)).deleteAttachments(1L);
+        verify(submissionRepository, times(1)).delete(testSubmission);
+        verify(courseStatsUpdater, times(1)).submissionRemoved(1L, null);
+    }
+
+    @Test
+    void getUngradedSubmissions_UsesUngradedQuery() {
+        // Given
+        when(submissionRepository.findUngraded()).thenReturn(List.of(testSubmission));
+        when(submissionMapper.toResponse(testSubmission)).thenReturn(testSubmissionResponse);
+
+        // When
+        List<SubmissionResponse> responses = submissionService.getUngradedSubmissions();
+
+        // Then
+        assertEquals(1, responses.size());
+        verify(submissionRepository, never()).findAll();
     }
 
     @Test
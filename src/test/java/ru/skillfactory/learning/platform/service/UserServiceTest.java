@@ -6,8 +6,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import ru.skillfactory.learning.platform.dto.request.CreateUserRequest;
 import ru.skillfactory.learning.platform.dto.request.UpdateUserRequest;
+import ru.skillfactory.learning.platform.dto.response.PaginatedResponse;
 import ru.skillfactory.learning.platform.dto.response.UserResponse;
 import ru.skillfactory.learning.platform.entity.Role;
 import ru.skillfactory.learning.platform.entity.User;
@@ -18,6 +22,7 @@ import ru.skillfactory.learning.platform.repository.ProfileRepository;
 import ru.skillfactory.learning.platform.repository.UserRepository;
 import ru.skillfactory.learning.platform.service.impl.UserServiceImpl;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -220,4 +225,37 @@ public class UserServiceTest {
         verify(userRepository, times(1)).findById(1L);
         verify(userRepository, never()).save(any(User.class));
     }
+
+    @Test
+    void searchUsers_UsesDatabasePagedQuery() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.searchByPattern("%john%", pageable))
+                .thenReturn(new PageImpl<>(List.of(testUser), pageable, 1));
+        when(userMapper.toResponse(testUser)).thenReturn(testUserResponse);
+
+        // When
+        PaginatedResponse<UserResponse> response = userService.searchUsers(" John ", pageable);
+
+        // Then
+        assertEquals(1, response.getContent().size());
+        assertEquals(1, response.getTotalElements());
+        assertEquals("John Doe", response.getContent().get(0).getName());
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void searchUsers_EscapesLikeWildcards() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(userRepository.searchByPattern("%50\\%\\_off%", pageable))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        // When
+        PaginatedResponse<UserResponse> response = userService.searchUsers("50%_off", pageable);
+
+        // Then
+        assertTrue(response.getContent().isEmpty());
+        assertEquals(0, response.getTotalElements());
+    }
 }
@@ -0,0 +1,70 @@
+package ru.skillfactory.learning.platform.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CallerLoadsTest {
+
+    private final AsyncCache<Long, String> cache = Caffeine.newBuilder().buildAsync();
+
+    @Test
+    void get_ConcurrentCallersShareOneLoad() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> CallerLoads.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "value";
+        }));
+        assertTrue(loading.await(1, TimeUnit.SECONDS));
+
+        // When: второй поток приходит, пока первый загружает значение
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> CallerLoads.get(cache, 1L, id -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        release.countDown();
+
+        // Then
+        assertEquals("value", first.get(1, TimeUnit.SECONDS));
+        assertEquals("value", second.get(1, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_LoaderFails_ErrorIsNotCached() {
+        // Given
+        IllegalStateException failure = new IllegalStateException("Connection lost");
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> CallerLoads.get(cache, 1L, id -> {
+                    throw failure;
+                }));
+
+        // Then
+        assertSame(failure, thrown);
+        assertEquals("value", CallerLoads.get(cache, 1L, id -> "value"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package ru.skillfactory.learning.platform.service.course;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.skillfactory.learning.platform.entity.CourseStats;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.repository.AssignmentRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CourseStatsUpdaterTest {
+
+    @Mock
+    private CourseStatsRepository courseStatsRepository;
+
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @InjectMocks
+    private CourseStatsUpdater courseStatsUpdater;
+
+    @Test
+    void enrollmentChanged_ActiveToCompleted_DecrementsActiveCount() {
+        // Given
+        when(courseStatsRepository.addActiveEnrollments(1L, -1)).thenReturn(1);
+
+        // When
+        courseStatsUpdater.enrollmentChanged(1L, EnrollmentStatus.ACTIVE, EnrollmentStatus.COMPLETED);
+
+        // Then
+        verify(courseStatsRepository, times(1)).addActiveEnrollments(1L, -1);
+        verify(courseStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void enrollmentChanged_InactiveStatuses_DoesNotTouchCounters() {
+        // When
+        courseStatsUpdater.enrollmentChanged(1L, EnrollmentStatus.COMPLETED, EnrollmentStatus.DROPPED);
+        courseStatsUpdater.enrollmentChanged(1L, EnrollmentStatus.DROPPED, null);
+
+        // Then
+        verifyNoInteractions(courseStatsRepository);
+    }
+
+    @Test
+    void reserveSeat_WithFreeSeats_IncrementsActiveCount() {
+        // Given
+        when(courseStatsRepository.reserveActiveEnrollment(1L)).thenReturn(1);
+
+        // When
+        boolean reserved = courseStatsUpdater.reserveSeat(1L);
+
+        // Then
+        assertTrue(reserved);
+        verify(courseStatsRepository, never()).addActiveEnrollments(anyLong(), anyInt());
+    }
+
+    @Test
+    void reserveSeat_CourseFull_ReturnsFalse() {
+        // Given
+        when(courseStatsRepository.reserveActiveEnrollment(1L)).thenReturn(0);
+        when(courseStatsRepository.existsById(1L)).thenReturn(true);
+
+        // When
+        boolean reserved = courseStatsUpdater.reserveSeat(1L);
+
+        // Then
+        assertFalse(reserved);
+        verify(courseStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void reserveSeat_MissingStatsRow_ChecksRecountAgainstCapacity() {
+        // Given
+        when(courseStatsRepository.reserveActiveEnrollment(1L)).thenReturn(0);
+        when(courseStatsRepository.existsById(1L)).thenReturn(false);
+        when(courseStatsRepository.findCapacity(1L)).thenReturn(2);
+        when(courseStatsRepository.countEnrollments(1L, EnrollmentStatus.ACTIVE)).thenReturn(3L);
+        when(courseStatsRepository.insertIfAbsent(eq(1L), anyLong(), eq(3L), eq(2), anyLong())).thenReturn(1);
+
+        // When
+        boolean reserved = courseStatsUpdater.reserveSeat(1L);
+
+        // Then
+        assertFalse(reserved);
+    }
+
+    @Test
+    void changeCapacity_BelowActiveEnrollments_ThrowsBadRequest() {
+        // Given
+        CourseStats stats = new CourseStats();
+        stats.setActiveEnrollmentCount(3);
+        stats.setCapacity(10);
+        when(courseStatsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(stats));
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> courseStatsUpdater.changeCapacity(1L, 2));
+        assertEquals(10, stats.getCapacity());
+    }
+
+    @Test
+    void changeCapacity_StoresLimitOnLockedRow() {
+        // Given
+        CourseStats stats = new CourseStats();
+        stats.setActiveEnrollmentCount(3);
+        when(courseStatsRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(stats));
+
+        // When
+        courseStatsUpdater.changeCapacity(1L, 3);
+
+        // Then: занятие места сравнивает счетчик уже с этим значением
+        assertEquals(3, stats.getCapacity());
+
+        // When
+        courseStatsUpdater.changeCapacity(1L, null);
+
+        // Then
+        assertNull(stats.getCapacity());
+    }
+
+    @Test
+    void moduleAdded_MissingStatsRow_InsertsRecountedRow() {
+        // Given
+        when(courseStatsRepository.addModules(1L, 1)).thenReturn(0);
+        when(courseStatsRepository.countModules(1L)).thenReturn(3L);
+        when(courseStatsRepository.countEnrollments(1L, EnrollmentStatus.ACTIVE)).thenReturn(10L);
+        when(courseStatsRepository.countUngradedSubmissions(1L)).thenReturn(4L);
+        when(courseStatsRepository.insertIfAbsent(1L, 3L, 10L, null, 4L)).thenReturn(1);
+
+        // When
+        courseStatsUpdater.moduleAdded(1L);
+
+        // Then
+        // Пересчет уже учитывает новый модуль, инкремент не повторяется
+        verify(courseStatsRepository, times(1)).addModules(1L, 1);
+        verify(courseStatsRepository, never()).save(any());
+    }
+
+    @Test
+    void moduleAdded_RowInsertedConcurrently_RepeatsIncrement() {
+        // Given
+        when(courseStatsRepository.addModules(1L, 1)).thenReturn(0, 1);
+        when(courseStatsRepository.insertIfAbsent(eq(1L), anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(0);
+
+        // When
+        courseStatsUpdater.moduleAdded(1L);
+
+        // Then
+        verify(courseStatsRepository, times(2)).addModules(1L, 1);
+    }
+
+    @Test
+    void rebuildMissing_InsertsOnlyCoursesWithoutStats() {
+        // Given
+        when(courseStatsRepository.findCourseIdsWithoutStats()).thenReturn(List.of(2L));
+        when(courseStatsRepository.insertIfAbsent(eq(2L), anyLong(), anyLong(), any(), anyLong()))
+                .thenReturn(1);
+
+        // When
+        courseStatsUpdater.rebuildMissing();
+
+        // Then
+        verify(courseStatsRepository, times(1)).insertIfAbsent(eq(2L), anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void submissionScoreChanged_FirstGrade_DecrementsUngradedCount() {
+        // Given
+        when(courseStatsRepository.addUngradedSubmissions(5L, -1)).thenReturn(1);
+
+        // When
+        courseStatsUpdater.submissionScoreChanged(5L, null, 80);
+
+        // Then
+        verify(courseStatsRepository, times(1)).addUngradedSubmissions(5L, -1);
+    }
+
+    @Test
+    void submissionScoreChanged_Regrade_DoesNotTouchCounters() {
+        // When
+        courseStatsUpdater.submissionScoreChanged(5L, 60, 80);
+
+        // Then
+        verifyNoInteractions(courseStatsRepository);
+    }
+}
@@ -0,0 +1,99 @@
+package ru.skillfactory.learning.platform.service.course;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.skillfactory.learning.platform.configuration.EnrollmentCountCacheProperties;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
+import ru.skillfactory.learning.platform.repository.projection.EnrollmentStatusCountRow;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EnrollmentCountCacheTest {
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    private EnrollmentCountCache enrollmentCountCache;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentCountCache = new EnrollmentCountCache(enrollmentRepository, new EnrollmentCountCacheProperties());
+    }
+
+    @Test
+    void get_CountsOnceAndServesRepeatedCallsFromMemory() {
+        // Given
+        when(enrollmentRepository.countByStatusForCourse(1L)).thenReturn(List.of(
+                new EnrollmentStatusCountRow(EnrollmentStatus.ACTIVE, 3L),
+                new EnrollmentStatusCountRow(EnrollmentStatus.COMPLETED, 2L)));
+
+        // When
+        EnrollmentCounts first = enrollmentCountCache.get(1L);
+        EnrollmentCounts second = enrollmentCountCache.get(1L);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(3, second.count(EnrollmentStatus.ACTIVE));
+        assertEquals(0, second.count(EnrollmentStatus.DROPPED));
+        assertEquals(5, second.total());
+        verify(enrollmentRepository, times(1)).countByStatusForCourse(1L);
+    }
+
+    @Test
+    void enrollmentChanged_InvalidatesCachedCountersInsteadOfShifting() {
+        // Given
+        when(enrollmentRepository.countByStatusForCourse(1L))
+                .thenReturn(List.of(new EnrollmentStatusCountRow(EnrollmentStatus.ACTIVE, 3L)))
+                .thenReturn(List.of(
+                        new EnrollmentStatusCountRow(EnrollmentStatus.ACTIVE, 3L),
+                        new EnrollmentStatusCountRow(EnrollmentStatus.COMPLETED, 1L)));
+        enrollmentCountCache.get(1L);
+
+        // When
+        enrollmentCountCache.enrollmentChanged(1L, null, EnrollmentStatus.COMPLETED);
+        EnrollmentCounts counts = enrollmentCountCache.get(1L);
+
+        // Then: повторная загрузка уже видит запись, сдвиг поверх нее посчитал бы ее дважды
+        assertEquals(3, counts.count(EnrollmentStatus.ACTIVE));
+        assertEquals(1, counts.count(EnrollmentStatus.COMPLETED));
+        assertEquals(4, counts.total());
+        verify(enrollmentRepository, times(2)).countByStatusForCourse(1L);
+    }
+
+    @Test
+    void enrollmentChanged_SameStatus_KeepsCachedCounters() {
+        // Given
+        when(enrollmentRepository.countByStatusForCourse(1L))
+                .thenReturn(List.of(new EnrollmentStatusCountRow(EnrollmentStatus.ACTIVE, 3L)));
+        EnrollmentCounts first = enrollmentCountCache.get(1L);
+
+        // When
+        enrollmentCountCache.enrollmentChanged(1L, EnrollmentStatus.ACTIVE, EnrollmentStatus.ACTIVE);
+
+        // Then
+        assertSame(first, enrollmentCountCache.get(1L));
+        verify(enrollmentRepository, times(1)).countByStatusForCourse(1L);
+    }
+
+    @Test
+    void enrollmentChanged_UncachedCourse_CountedOnFirstRead() {
+        // Given
+        when(enrollmentRepository.countByStatusForCourse(2L))
+                .thenReturn(List.of(new EnrollmentStatusCountRow(EnrollmentStatus.ACTIVE, 1L)));
+
+        // When
+        enrollmentCountCache.enrollmentChanged(2L, null, EnrollmentStatus.ACTIVE);
+        EnrollmentCounts counts = enrollmentCountCache.get(2L);
+
+        // Then
+        assertEquals(1, counts.count(EnrollmentStatus.ACTIVE));
+    }
+}
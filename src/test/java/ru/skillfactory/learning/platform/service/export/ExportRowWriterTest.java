@@ -0,0 +1,50 @@
+package ru.skillfactory.learning.platform.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ExportRowWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String write(ExportFormat format, Object[]... rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ExportRowWriter writer = ExportRowWriter.create(format, out, objectMapper)) {
+            writer.writeHeader(new String[]{"id", "name", "created_at"});
+            for (Object[] row : rows) {
+                writer.writeRow(row);
+            }
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void csv_EscapesSeparatorsQuotesAndNulls() throws Exception {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2024, 1, 15, 10, 30));
+
+        String csv = write(ExportFormat.CSV,
+                new Object[]{1L, "Doe, John", createdAt},
+                new Object[]{2L, "say \"hi\"", null});
+
+        assertEquals("id,name,created_at\r\n"
+                + "1,\"Doe, John\",2024-01-15T10:30\r\n"
+                + "2,\"say \"\"hi\"\"\",\r\n", csv);
+    }
+
+    @Test
+    void ndjson_WritesOneObjectPerLine() throws Exception {
+        String ndjson = write(ExportFormat.NDJSON,
+                new Object[]{1L, "Alice", null},
+                new Object[]{2L, "Bob\nSmith", null});
+
+        assertEquals("{\"id\":1,\"name\":\"Alice\",\"created_at\":null}\n"
+                + "{\"id\":2,\"name\":\"Bob\\nSmith\",\"created_at\":null}\n", ndjson);
+    }
+}
@@ -0,0 +1,93 @@
+package ru.skillfactory.learning.platform.service.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentAddressedStoreTest {
+
+    @TempDir
+    Path uploadRoot;
+
+    private ContentAddressedStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ContentAddressedStore(uploadRoot);
+    }
+
+    private ContentAddressedStore.StoredFile store(String content, String directory) throws IOException {
+        return store.store(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                uploadRoot.resolve(directory), ".jpg");
+    }
+
+    @Test
+    void store_NamesFileByContentHash() throws IOException {
+        ContentAddressedStore.StoredFile stored = store("avatar", "avatars/1");
+
+        assertTrue(stored.fileName().matches("[0-9a-f]{64}\\.jpg"));
+        assertEquals("avatar", Files.readString(stored.path()));
+        assertFalse(stored.alreadyPresent());
+        assertFalse(stored.deduplicated());
+    }
+
+    @Test
+    void store_SameContentInAnotherDirectory_SharesBlob() throws IOException {
+        ContentAddressedStore.StoredFile first = store("avatar", "avatars/1");
+        ContentAddressedStore.StoredFile second = store("avatar", "avatars/2");
+
+        assertEquals(first.fileName(), second.fileName());
+        assertTrue(second.deduplicated());
+        assertFalse(second.alreadyPresent());
+        assertTrue(Files.isSameFile(first.path(), second.path()));
+    }
+
+    @Test
+    void store_SameContentInSameDirectory_IsAlreadyPresent() throws IOException {
+        store("avatar", "avatars/1");
+
+        ContentAddressedStore.StoredFile repeated = store("avatar", "avatars/1");
+
+        assertTrue(repeated.alreadyPresent());
+    }
+
+    @Test
+    void store_LeavesNoTemporaryFiles() throws IOException {
+        store("avatar", "avatars/1");
+
+        try (Stream<Path> temp = Files.list(uploadRoot.resolve(ContentAddressedStore.BLOB_DIRECTORY).resolve("tmp"))) {
+            assertEquals(0, temp.count());
+        }
+    }
+
+    @Test
+    void release_DeletesBlobOnlyAfterLastReference() throws IOException {
+        ContentAddressedStore.StoredFile first = store("avatar", "avatars/1");
+        ContentAddressedStore.StoredFile second = store("avatar", "avatars/2");
+        String hash = first.fileName().substring(0, 64);
+        Path blob = uploadRoot.resolve(ContentAddressedStore.BLOB_DIRECTORY).resolve(hash.substring(0, 2)).resolve(hash);
+
+        Files.delete(first.path());
+        store.release(first.path());
+        assertTrue(Files.exists(blob));
+        assertEquals("avatar", Files.readString(second.path()));
+
+        Files.delete(second.path());
+        store.release(second.path());
+        assertFalse(Files.exists(blob));
+    }
+
+    @Test
+    void release_IgnoresFilesNotNamedByHash() {
+        assertDoesNotThrow(() -> store.release(uploadRoot.resolve("avatars/1/6f1c1d2e-avatar.jpg")));
+    }
+}
@@ -0,0 +1,95 @@
+package ru.skillfactory.learning.platform.service.file;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.TaskRejectedException;
+import ru.skillfactory.learning.platform.configuration.ThumbnailProperties;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThumbnailGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ThumbnailProperties properties;
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ThumbnailProperties();
+        properties.setSizes(List.of(48, 128));
+        thumbnailGenerator = new ThumbnailGenerator(Runnable::run, properties);
+    }
+
+    @Test
+    void scheduleThumbnails_WritesAllSizesKeepingAspectRatio() throws IOException {
+        // Arrange
+        Path original = writeImage("avatar.png", 800, 400);
+
+        // Act
+        thumbnailGenerator.scheduleThumbnails(original);
+
+        // Assert
+        BufferedImage large = ImageIO.read(tempDir.resolve("avatar-128.png").toFile());
+        assertEquals(128, large.getWidth());
+        assertEquals(64, large.getHeight());
+
+        BufferedImage small = ImageIO.read(tempDir.resolve("avatar-48.png").toFile());
+        assertEquals(48, small.getWidth());
+        assertEquals(24, small.getHeight());
+    }
+
+    @Test
+    void scheduleThumbnails_SmallImage_IsNotUpscaled() throws IOException {
+        Path original = writeImage("icon.jpg", 32, 32);
+
+        thumbnailGenerator.scheduleThumbnails(original);
+
+        BufferedImage thumbnail = ImageIO.read(tempDir.resolve("icon-128.jpg").toFile());
+        assertEquals(32, thumbnail.getWidth());
+        assertEquals(32, thumbnail.getHeight());
+    }
+
+    @Test
+    void scheduleThumbnails_UnsupportedFormat_SkipsThumbnails() throws IOException {
+        Path original = Files.writeString(tempDir.resolve("avatar.svg"), "<svg/>");
+
+        thumbnailGenerator.scheduleThumbnails(original);
+
+        assertFalse(Files.exists(tempDir.resolve("avatar-48.png")));
+        assertFalse(Files.exists(tempDir.resolve("avatar-128.png")));
+    }
+
+    @Test
+    void scheduleThumbnails_QueueFull_DoesNotThrow() throws IOException {
+        Path original = writeImage("avatar.png", 800, 400);
+        ThumbnailGenerator saturated = new ThumbnailGenerator(task -> {
+            throw new TaskRejectedException("Queue is full");
+        }, properties);
+
+        assertDoesNotThrow(() -> saturated.scheduleThumbnails(original));
+        assertFalse(Files.exists(tempDir.resolve("avatar-48.png")));
+    }
+
+    @Test
+    void thumbnailPath_UsesJpegForJpegAndPngOtherwise() {
+        assertEquals(tempDir.resolve("a-48.jpg"), ThumbnailGenerator.thumbnailPath(tempDir.resolve("a.jpeg"), 48));
+        assertEquals(tempDir.resolve("a-48.png"), ThumbnailGenerator.thumbnailPath(tempDir.resolve("a.gif"), 48));
+    }
+
+    private Path writeImage(String fileName, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Path path = tempDir.resolve(fileName);
+        ImageIO.write(image, fileName.endsWith(".jpg") ? "jpg" : "png", path.toFile());
+        return path;
+    }
+}
@@ -0,0 +1,86 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.skillfactory.learning.platform.configuration.QuizAnswerKeyCacheProperties;
+import ru.skillfactory.learning.platform.dto.response.CacheStatsResponse;
+import ru.skillfactory.learning.platform.repository.QuestionRepository;
+import ru.skillfactory.learning.platform.repository.projection.CorrectAnswerRow;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class QuizAnswerKeyCacheTest {
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    private QuizAnswerKeyCache answerKeyCache;
+
+    @BeforeEach
+    void setUp() {
+        answerKeyCache = new QuizAnswerKeyCache(questionRepository, new QuizAnswerKeyCacheProperties());
+    }
+
+    @Test
+    void get_LoadsKeyOnceAndServesRepeatedCallsFromMemory() {
+        // Given
+        when(questionRepository.findCorrectAnswersByQuizId(1L))
+                .thenReturn(List.of(new CorrectAnswerRow(1L, 1L)));
+
+        // When
+        QuizAnswerKey first = answerKeyCache.get(1L);
+        QuizAnswerKey second = answerKeyCache.get(1L);
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, second.score(Map.of(1L, 1L)));
+        verify(questionRepository, times(1)).findCorrectAnswersByQuizId(1L);
+
+        CacheStatsResponse stats = answerKeyCache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getSize());
+    }
+
+    @Test
+    void invalidate_ReloadsKeyOnNextCall() {
+        // Given
+        when(questionRepository.findCorrectAnswersByQuizId(1L))
+                .thenReturn(List.of(new CorrectAnswerRow(1L, 1L)))
+                .thenReturn(List.of(new CorrectAnswerRow(1L, 2L)));
+        answerKeyCache.get(1L);
+
+        // When
+        answerKeyCache.invalidate(1L);
+        QuizAnswerKey reloaded = answerKeyCache.get(1L);
+
+        // Then
+        assertEquals(1, reloaded.score(Map.of(1L, 2L)));
+        verify(questionRepository, times(2)).findCorrectAnswersByQuizId(1L);
+    }
+
+    @Test
+    void invalidateAll_DropsEveryQuiz() {
+        // Given
+        when(questionRepository.findCorrectAnswersByQuizId(anyLong())).thenReturn(List.of());
+        answerKeyCache.get(1L);
+        answerKeyCache.get(2L);
+
+        // When
+        answerKeyCache.invalidateAll();
+        answerKeyCache.get(1L);
+        answerKeyCache.get(2L);
+
+        // Then
+        verify(questionRepository, times(2)).findCorrectAnswersByQuizId(1L);
+        verify(questionRepository, times(2)).findCorrectAnswersByQuizId(2L);
+    }
+}
@@ -0,0 +1,83 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import org.junit.jupiter.api.Test;
+import ru.skillfactory.learning.platform.repository.projection.CorrectAnswerRow;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuizAnswerKeyTest {
+
+    @Test
+    void score_CountsOnlyCorrectOptions() {
+        // Given
+        QuizAnswerKey key = QuizAnswerKey.of(List.of(
+                new CorrectAnswerRow(10L, 101L),
+                new CorrectAnswerRow(20L, 201L),
+                new CorrectAnswerRow(30L, 301L)
+        ));
+
+        // When
+        int score = key.score(Map.of(10L, 101L, 20L, 202L, 30L, 301L));
+
+        // Then
+        assertEquals(2, score);
+        assertEquals(3, key.questionCount());
+    }
+
+    @Test
+    void score_AcceptsAnyOfSeveralCorrectOptions() {
+        // Given
+        // Строки приходят в произвольном порядке
+        QuizAnswerKey key = QuizAnswerKey.of(List.of(
+                new CorrectAnswerRow(2L, 7L),
+                new CorrectAnswerRow(1L, 4L),
+                new CorrectAnswerRow(1L, 2L)
+        ));
+
+        // When & Then
+        assertEquals(1, key.score(Map.of(1L, 2L)));
+        assertEquals(1, key.score(Map.of(1L, 4L)));
+        assertEquals(0, key.score(Map.of(1L, 3L)));
+        assertEquals(2, key.questionCount());
+    }
+
+    @Test
+    void score_QuestionWithoutCorrectOptionsCountsTowardsMaxScoreOnly() {
+        // Given
+        QuizAnswerKey key = QuizAnswerKey.of(List.of(
+                new CorrectAnswerRow(1L, null),
+                new CorrectAnswerRow(2L, 5L)
+        ));
+
+        // When & Then
+        assertEquals(2, key.questionCount());
+        assertEquals(0, key.score(Map.of(1L, 1L)));
+        assertEquals(1, key.score(Map.of(1L, 1L, 2L, 5L)));
+    }
+
+    @Test
+    void score_IgnoresUnknownQuestionsAndNullAnswers() {
+        // Given
+        QuizAnswerKey key = QuizAnswerKey.of(List.of(new CorrectAnswerRow(1L, 1L)));
+        Map<Long, Long> answers = new HashMap<>();
+        answers.put(1L, null);
+        answers.put(99L, 1L);
+
+        // When & Then
+        assertEquals(0, key.score(answers));
+        assertEquals(0, key.score(null));
+    }
+
+    @Test
+    void of_EmptyRows_ProducesEmptyKey() {
+        QuizAnswerKey key = QuizAnswerKey.of(List.of());
+
+        assertTrue(key.isEmpty());
+        assertEquals(0, key.questionCount());
+        assertEquals(0, key.score(Map.of(1L, 1L)));
+    }
+}
@@ -0,0 +1,40 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.skillfactory.learning.platform.configuration.QuizAttemptCacheProperties;
+import ru.skillfactory.learning.platform.dto.response.QuizResultResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QuizAttemptCacheTest {
+
+    private QuizAttemptCache quizAttemptCache;
+
+    @BeforeEach
+    void setUp() {
+        quizAttemptCache = new QuizAttemptCache(new QuizAttemptCacheProperties());
+    }
+
+    @Test
+    void get_ReturnsResultStoredForSameStudentAndKey() {
+        // Given
+        QuizResultResponse result = QuizResultResponse.builder().id(1L).quizId(1L).build();
+
+        // When
+        quizAttemptCache.put(1L, "attempt-1", result);
+
+        // Then
+        assertSame(result, quizAttemptCache.get(1L, "attempt-1"));
+    }
+
+    @Test
+    void get_KeysAreScopedToStudent() {
+        // Given
+        quizAttemptCache.put(1L, "attempt-1", QuizResultResponse.builder().id(1L).build());
+
+        // When / Then
+        assertNull(quizAttemptCache.get(2L, "attempt-1"));
+        assertNull(quizAttemptCache.get(1L, "attempt-2"));
+    }
+}
@@ -0,0 +1,237 @@
+package ru.skillfactory.learning.platform.service.quiz;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import ru.skillfactory.learning.platform.configuration.QuizWriteBehindProperties;
+import ru.skillfactory.learning.platform.exception.BadRequestException;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class QuizSubmissionWriteBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private QuizWriteBehindProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QuizWriteBehindProperties();
+        properties.setEnabled(true);
+        properties.setQueueCapacity(3);
+        properties.setBatchSize(10);
+        properties.setOfferTimeout(Duration.ZERO);
+    }
+
+    @Test
+    void enqueue_SameStudentAndQuiz_ReturnsQueuedAttempt() {
+        // Given
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+        PendingQuizSubmission first = attempt(1L, 1L, "attempt-1");
+
+        // When
+        PendingQuizSubmission accepted = buffer.enqueue(first);
+        PendingQuizSubmission duplicate = buffer.enqueue(attempt(1L, 1L, "attempt-2"));
+
+        // Then
+        assertNull(accepted);
+        assertSame(first, duplicate);
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    void enqueue_KeyQueuedForAnotherQuiz_ThrowsBadRequest() {
+        // Given
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+        buffer.enqueue(attempt(1L, 1L, "attempt-1"));
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> buffer.enqueue(attempt(2L, 1L, "attempt-1")));
+        assertEquals(1, buffer.size());
+        // Отклоненная попытка не заняла место теста 2
+        assertNull(buffer.enqueue(attempt(2L, 1L, "attempt-2")));
+    }
+
+    @Test
+    void enqueue_QueueFull_ThrowsServiceUnavailable() {
+        // Given
+        properties.setQueueCapacity(1);
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+        buffer.enqueue(attempt(1L, 1L, null));
+
+        // When & Then
+        assertThrows(ServiceUnavailableException.class, () -> buffer.enqueue(attempt(1L, 2L, null)));
+        // Отклоненная попытка не считается ожидающей и может быть отправлена повторно
+        buffer.flush();
+        assertNull(buffer.enqueue(attempt(1L, 2L, null)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_WritesQueuedAttemptsInOneBatch() {
+        // Given
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+        buffer.enqueue(attempt(1L, 1L, null));
+        buffer.enqueue(attempt(1L, 2L, null));
+
+        // When
+        buffer.flush();
+
+        // Then
+        ArgumentCaptor<Collection<PendingQuizSubmission>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), batch.capture(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(2, batch.getValue().size());
+        assertEquals(0, buffer.size());
+        // После записи попытка больше не ожидает, дубль отсекается уже уникальным индексом
+        assertNull(buffer.enqueue(attempt(1L, 1L, null)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueue_BatchSizeReached_WritesOnlyOneBatch() {
+        // Given
+        properties.setQueueCapacity(10);
+        properties.setBatchSize(2);
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database is down"))
+                .thenReturn(new int[0][]);
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database is down"));
+        buffer.enqueue(attempt(1L, 1L, null));
+        buffer.enqueue(attempt(1L, 2L, null));
+
+        // When
+        buffer.enqueue(attempt(1L, 3L, null));
+
+        // Then
+        // Запрос пишет только один пакет, третья попытка ждет записи по расписанию
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(1, buffer.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void enqueue_BatchSizeReached_WritesWithoutWaitingForSchedule() {
+        // Given
+        properties.setBatchSize(2);
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+
+        // When
+        buffer.enqueue(attempt(1L, 1L, null));
+        buffer.enqueue(attempt(1L, 2L, null));
+
+        // Then
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), eq(2),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_DatabaseDown_KeepsAttemptsQueued() {
+        // Given
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+        buffer.enqueue(attempt(1L, 1L, null));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database is down"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database is down"));
+
+        // When
+        buffer.flush();
+
+        // Then
+        assertEquals(1, buffer.size());
+        assertNotNull(buffer.enqueue(attempt(1L, 1L, null)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_DatabaseDown_DropsAttemptAfterMaxRetries() {
+        // Given
+        properties.setMaxRetries(2);
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+        buffer.enqueue(attempt(1L, 1L, null));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database is down"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("Database is down"));
+
+        // When
+        buffer.flush();
+        buffer.flush();
+        buffer.flush();
+
+        // Then
+        assertEquals(0, buffer.size());
+        verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flush_BatchFails_WritesRowsOneByOneAndSetsAsideInvalidRow() {
+        // Given
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+        buffer.enqueue(attempt(1L, 1L, null));
+        buffer.enqueue(attempt(99L, 2L, null));
+        buffer.enqueue(attempt(1L, 3L, null));
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("fk_quiz_submissions_quiz"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("fk_quiz_submissions_quiz"))
+                .thenReturn(1);
+
+        // When
+        buffer.flush();
+
+        // Then
+        verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+        assertEquals(0, buffer.size());
+        // Отложенная строка больше не ожидает записи и не блокирует очередь
+        assertNull(buffer.enqueue(attempt(99L, 2L, null)));
+    }
+
+    @Test
+    void flushOnShutdown_EmptyQueue_DoesNotTouchDatabase() {
+        // Given
+        QuizSubmissionWriteBuffer buffer = new QuizSubmissionWriteBuffer(jdbcTemplate, properties);
+
+        // When
+        buffer.flushOnShutdown();
+
+        // Then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private PendingQuizSubmission attempt(Long quizId, Long studentId, String idempotencyKey) {
+        return new PendingQuizSubmission(quizId, studentId, 100, LocalDateTime.now(), idempotencyKey);
+    }
+}
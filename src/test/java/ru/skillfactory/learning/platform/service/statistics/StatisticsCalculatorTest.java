@@ -0,0 +1,111 @@
+package ru.skillfactory.learning.platform.service.statistics;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.skillfactory.learning.platform.dto.response.StatisticsResponse;
+import ru.skillfactory.learning.platform.entity.EnrollmentStatus;
+import ru.skillfactory.learning.platform.entity.Role;
+import ru.skillfactory.learning.platform.repository.AssignmentRepository;
+import ru.skillfactory.learning.platform.repository.CourseRepository;
+import ru.skillfactory.learning.platform.repository.CourseReviewRepository;
+import ru.skillfactory.learning.platform.repository.CourseStatsRepository;
+import ru.skillfactory.learning.platform.repository.EnrollmentRepository;
+import ru.skillfactory.learning.platform.repository.QuizRepository;
+import ru.skillfactory.learning.platform.repository.QuizSubmissionRepository;
+import ru.skillfactory.learning.platform.repository.SubmissionRepository;
+import ru.skillfactory.learning.platform.repository.UserRepository;
+import ru.skillfactory.learning.platform.repository.projection.CategoryCountRow;
+import ru.skillfactory.learning.platform.repository.projection.CourseStatsTotalsRow;
+import ru.skillfactory.learning.platform.repository.projection.EnrollmentStatusCountRow;
+import ru.skillfactory.learning.platform.repository.projection.PopularCourseRow;
+import ru.skillfactory.learning.platform.repository.projection.RoleCountRow;
+import ru.skillfactory.learning.platform.repository.projection.ScoreStatsRow;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class StatisticsCalculatorTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CourseStatsRepository courseStatsRepository;
+
+    @Mock
+    private CourseReviewRepository courseReviewRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private AssignmentRepository assignmentRepository;
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private QuizSubmissionRepository quizSubmissionRepository;
+
+    @InjectMocks
+    private StatisticsCalculator statisticsCalculator;
+
+    @Test
+    void calculate_BuildsStatisticsFromAggregates() {
+        // Given
+        when(userRepository.countByRole()).thenReturn(List.of(
+                new RoleCountRow(Role.STUDENT, 900L), new RoleCountRow(Role.TEACHER, 40L)));
+        when(courseRepository.count()).thenReturn(30L);
+        when(courseRepository.countByCategory()).thenReturn(List.of(
+                new CategoryCountRow(1L, "Programming", 20L), new CategoryCountRow(2L, "Design", 10L)));
+        when(courseStatsRepository.findTotals()).thenReturn(new CourseStatsTotalsRow(30L, 700L, 15L));
+        when(courseReviewRepository.findAverageRating()).thenReturn(4.46);
+        when(courseStatsRepository.findMostPopular(any())).thenReturn(List.of(new PopularCourseRow(7L, "Java", 120)));
+        when(enrollmentRepository.countByStatus()).thenReturn(List.of(
+                new EnrollmentStatusCountRow(EnrollmentStatus.ACTIVE, 700L),
+                new EnrollmentStatusCountRow(EnrollmentStatus.COMPLETED, 250L),
+                new EnrollmentStatusCountRow(EnrollmentStatus.DROPPED, 50L)));
+        when(enrollmentRepository.countDistinctStudentsByStatus(EnrollmentStatus.ACTIVE)).thenReturn(600L);
+        when(assignmentRepository.count()).thenReturn(200L);
+        when(assignmentRepository.countByDueDateBefore(any())).thenReturn(80L);
+        when(submissionRepository.findScoreStats()).thenReturn(new ScoreStatsRow(5000L, 4985L, 76.44));
+        when(quizRepository.count()).thenReturn(25L);
+        when(quizSubmissionRepository.findScoreStats()).thenReturn(new ScoreStatsRow(3000L, 3000L, 64.06));
+
+        // When
+        StatisticsResponse statistics = statisticsCalculator.calculate();
+
+        // Then
+        assertEquals(900L, statistics.getTotalStudents());
+        assertEquals(40L, statistics.getTotalTeachers());
+        assertEquals(Map.of("Programming", 20L, "Design", 10L), statistics.getCoursesByCategory());
+        assertEquals(4.5, statistics.getAverageCourseRating());
+        assertEquals(7L, statistics.getMostPopularCourseId());
+        assertEquals(1000L, statistics.getTotalEnrollments());
+        assertEquals(250L, statistics.getCompletedCoursesCount());
+        assertEquals(25.0, statistics.getAverageCompletionRate());
+        assertEquals(600L, statistics.getActiveStudentsCount());
+        assertEquals(80L, statistics.getOverdueAssignmentsCount());
+        assertEquals(15L, statistics.getUngradedSubmissionsCount());
+        assertEquals(76.4, statistics.getAverageAssignmentScore());
+        assertEquals(64.1, statistics.getAverageQuizScore());
+        assertEquals(3000L, statistics.getTotalQuizAttempts());
+        assertNotNull(statistics.getGeneratedAt());
+
+        verify(submissionRepository, never()).findAll();
+    }
+}
@@ -0,0 +1,62 @@
+package ru.skillfactory.learning.platform.web;
+
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.skillfactory.learning.platform.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DbConcurrencyLimitInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void preHandle_NoPermitLeft_ThrowsServiceUnavailable() {
+        // Given
+        DbConcurrencyLimitInterceptor interceptor = new DbConcurrencyLimitInterceptor(1, Duration.ofMillis(10));
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        assertTrue(interceptor.preHandle(first, response, null));
+
+        // When & Then
+        assertThrows(ServiceUnavailableException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest(), response, null));
+        assertEquals(0, interceptor.availablePermits());
+    }
+
+    @Test
+    void afterCompletion_ReleasesPermitOnce() {
+        // Given
+        DbConcurrencyLimitInterceptor interceptor = new DbConcurrencyLimitInterceptor(1, Duration.ofMillis(10));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, null);
+
+        // When
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Then
+        assertEquals(1, interceptor.availablePermits());
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+    }
+
+    @Test
+    void asyncRequest_ReleasesPermitWhenHandlingStartsAndSkipsRedispatch() {
+        // Given
+        DbConcurrencyLimitInterceptor interceptor = new DbConcurrencyLimitInterceptor(1, Duration.ofMillis(10));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, null);
+
+        // When
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        // Then
+        assertEquals(1, interceptor.availablePermits());
+    }
+}